@@ -0,0 +1,60 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 한 번 저장되면 변하지 않는 값을 위한 로컬 캐시입니다.
+ *
+ * <p>값이 변하지 않으므로 다른 서버에 삭제를 알리거나 Redis와 동기화할 필요가 없으며,
+ * 유효 시간을 길게 두고 크기 제한에 따라 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 같은 키를 여러 스레드가 동시에 계산할 수 있으나, 계산 결과가 같으므로 어느 값이 저장되어도 무방합니다.
+ *
+ * @param <V> 캐시할 값의 타입
+ */
+public class ImmutableLruCache<V> {
+
+	private final LocalLruCache local;
+	private final Counter hit;
+	private final Counter miss;
+
+	public ImmutableLruCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+		this.local = new LocalLruCache(maxSize, ttl);
+		this.hit = counter(meterRegistry, name, "hit");
+		this.miss = counter(meterRegistry, name, "miss");
+		Gauge.builder("cache.tier.local.size", local, LocalLruCache::size)
+			.tag("cache", name)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 값을 반환하고, 없다면 계산하여 저장합니다. null은 저장하지 않습니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(String key, Supplier<V> loader) {
+		Object cached = local.get(key);
+		if (cached != null) {
+			hit.increment();
+			return (V)cached;
+		}
+		miss.increment();
+
+		V value = loader.get();
+		if (value != null) {
+			local.put(key, value);
+		}
+		return value;
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+		return Counter.builder("cache.tier.requests")
+			.tag("cache", name)
+			.tag("tier", "immutable")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,86 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기와 유효 시간이 제한된 로컬 LRU 캐시입니다.
+ *
+ * <p>최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 유효 시간이 지난 항목은 조회 시점에 제거합니다.
+ * 다른 서버에서 변경된 값을 놓치더라도 유효 시간이 지나면 다시 Redis에서 읽어오도록 유효 시간을 짧게 설정해야 합니다.
+ */
+class LocalLruCache {
+
+	/**
+	 * Redis 캐시의 만료 시각을 알 수 없음을 나타냅니다.
+	 */
+	static final long UNKNOWN = 0L;
+
+	private final long ttlNanos;
+	private final LinkedHashMap<String, Entry> entries;
+
+	LocalLruCache(int maxSize, Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return 저장된 값, 없거나 유효 시간이 지났다면 null
+	 */
+	Object get(String key) {
+		Entry entry = getEntry(key);
+		return entry == null ? null : entry.value();
+	}
+
+	/**
+	 * @return 저장된 항목, 없거나 유효 시간이 지났다면 null
+	 */
+	synchronized Entry getEntry(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (System.nanoTime() - entry.storedAt() > ttlNanos) {
+			entries.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	void put(String key, Object value) {
+		put(key, value, UNKNOWN, UNKNOWN);
+	}
+
+	/**
+	 * @param remoteExpiresAt Redis 캐시에서 값이 만료되는 시각 (System.nanoTime 기준), 알 수 없다면 {@link #UNKNOWN}
+	 * @param computeNanos 값을 계산하는 데 걸린 시간, 알 수 없다면 {@link #UNKNOWN}
+	 */
+	synchronized void put(String key, Object value, long remoteExpiresAt, long computeNanos) {
+		entries.put(key, new Entry(value, System.nanoTime(), remoteExpiresAt, computeNanos));
+	}
+
+	/**
+	 * @return 삭제된 값, 없었다면 null
+	 */
+	synchronized Object remove(String key) {
+		Entry removed = entries.remove(key);
+		return removed == null ? null : removed.value();
+	}
+
+	synchronized void clear() {
+		entries.clear();
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	record Entry(Object value, long storedAt, long remoteExpiresAt, long computeNanos) {
+	}
+}
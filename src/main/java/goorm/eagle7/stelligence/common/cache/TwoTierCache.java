@@ -0,0 +1,357 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로컬 캐시(L1)와 Redis 캐시(L2)로 구성된 2단계 캐시입니다.
+ *
+ * <p>조회 시 L1을 먼저 확인하고, 없다면 L2에서 읽은 값을 L1에 저장합니다.
+ * 값을 저장하거나 삭제하면 L2에 반영한 뒤 L1을 갱신하고, 다른 서버의 L1에서 해당 키를 삭제하도록 알립니다.
+ *
+ * <p>값을 직접 계산하는 조회({@link #get(Object, Callable)}, {@code @Cacheable(sync = true)})에서는 다음과 같이 동작합니다.
+ * <ul>
+ *     <li><b>single-flight</b>: 같은 키에 대해 서버마다 하나의 스레드만 값을 계산하고, 나머지 스레드는 그 결과를 기다립니다.</li>
+ *     <li><b>stale-while-revalidate</b>: 삭제된 값은 짧은 유예 시간 동안 보관되며, 다른 스레드가 새 값을 계산하는 동안에는
+ *     기다리지 않고 이전 값을 반환합니다.</li>
+ *     <li><b>확률적 조기 갱신</b>: L2의 만료 시각이 다가올수록 높은 확률로, 조회한 스레드 하나가 만료 이전에 값을 다시 계산합니다.
+ *     (XFetch: now - δ·β·ln(U) ≥ expiry, δ는 계산에 걸린 시간)</li>
+ * </ul>
+ * 값의 계산은 항상 호출한 스레드에서 수행하므로, 호출한 쪽의 트랜잭션 안에서 계산됩니다.
+ *
+ * <p>L1의 키는 Redis 캐시와 마찬가지로 키의 문자열 표현을 사용하므로, 문자열 표현이 같은 키는 같은 항목으로 취급합니다.
+ * null 값은 캐싱하지 않습니다.
+ *
+ * @see TwoTierCacheManager
+ */
+class TwoTierCache implements Cache {
+
+	/**
+	 * 계산에 걸린 시간을 알 수 없을 때 사용하는 기본값입니다.
+	 */
+	private static final long DEFAULT_COMPUTE_NANOS = Duration.ofMillis(50).toNanos();
+
+	private final String name;
+	private final Cache remote;
+	private final LocalLruCache local;
+	private final LocalLruCache stale;
+	private final TwoTierCacheManager cacheManager;
+	private final TwoTierCacheSettings settings;
+
+	/**
+	 * 키 -> 현재 값을 계산 중인 작업
+	 */
+	private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter localHit;
+	private final Counter localMiss;
+	private final Counter remoteHit;
+	private final Counter remoteMiss;
+	private final Counter staleHit;
+	private final Counter coalesced;
+	private final Counter earlyRefresh;
+
+	TwoTierCache(String name, Cache remote, TwoTierCacheManager cacheManager, TwoTierCacheSettings settings,
+		MeterRegistry meterRegistry) {
+		this.name = name;
+		this.remote = remote;
+		this.local = new LocalLruCache(settings.localMaxSize(), settings.localTtl());
+		this.stale = new LocalLruCache(settings.localMaxSize(), settings.staleGrace());
+		this.cacheManager = cacheManager;
+		this.settings = settings;
+
+		this.localHit = counter(meterRegistry, "local", "hit");
+		this.localMiss = counter(meterRegistry, "local", "miss");
+		this.remoteHit = counter(meterRegistry, "remote", "hit");
+		this.remoteMiss = counter(meterRegistry, "remote", "miss");
+		this.staleHit = counter(meterRegistry, "stale", "hit");
+		this.coalesced = Counter.builder("cache.load.coalesced").tag("cache", name).register(meterRegistry);
+		this.earlyRefresh = Counter.builder("cache.load.early-refresh").tag("cache", name).register(meterRegistry);
+		Gauge.builder("cache.tier.local.size", local, LocalLruCache::size)
+			.tag("cache", name)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return remote.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		Object value = local.get(localKey);
+		if (value != null) {
+			localHit.increment();
+			return new SimpleValueWrapper(value);
+		}
+		localMiss.increment();
+
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper == null || wrapper.get() == null) {
+			remoteMiss.increment();
+			return wrapper;
+		}
+		remoteHit.increment();
+		local.put(localKey, wrapper.get());
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+				"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String localKey = localKey(key);
+
+		LocalLruCache.Entry entry = local.getEntry(localKey);
+		if (entry != null) {
+			localHit.increment();
+			if (shouldRefreshEarly(entry)) {
+				// 다른 스레드가 이미 갱신 중이라면 현재 값을 반환합니다.
+				Object refreshed = loadIfIdle(key, localKey, valueLoader, true);
+				if (refreshed != null) {
+					earlyRefresh.increment();
+					return (T)refreshed;
+				}
+			}
+			return (T)entry.value();
+		}
+		localMiss.increment();
+
+		Object staleValue = stale.get(localKey);
+		if (staleValue != null) {
+			// 다른 스레드가 새 값을 계산 중이라면 기다리지 않고 이전 값을 반환합니다.
+			Object loaded = loadIfIdle(key, localKey, valueLoader, false);
+			if (loaded == null) {
+				staleHit.increment();
+				return (T)staleValue;
+			}
+			return (T)loaded;
+		}
+
+		return (T)loadSingleFlight(key, localKey, valueLoader);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		String localKey = localKey(key);
+		if (value == null) {
+			local.remove(localKey);
+		} else {
+			local.put(localKey, value);
+		}
+		cacheManager.publishEviction(name, localKey);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remote.putIfAbsent(key, value);
+		Object current = existing == null ? value : existing.get();
+		if (current != null) {
+			local.put(localKey(key), current);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		evictLocal(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean evicted = remote.evictIfPresent(key);
+		evictLocal(key);
+		return evicted;
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.clear();
+		cacheManager.publishClear(name);
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean invalidated = remote.invalidate();
+		local.clear();
+		cacheManager.publishClear(name);
+		return invalidated;
+	}
+
+	/**
+	 * 다른 서버로부터 삭제 알림을 받았을 때 L1에서만 삭제합니다.
+	 */
+	void evictLocalOnly(String localKey) {
+		keepStale(localKey, local.remove(localKey));
+	}
+
+	/**
+	 * 다른 서버로부터 초기화 알림을 받았을 때 L1만 비웁니다.
+	 */
+	void clearLocalOnly() {
+		local.clear();
+	}
+
+	private void evictLocal(Object key) {
+		String localKey = localKey(key);
+		keepStale(localKey, local.remove(localKey));
+		cacheManager.publishEviction(name, localKey);
+	}
+
+	private void keepStale(String localKey, Object removed) {
+		if (removed != null && !settings.staleGrace().isZero()) {
+			stale.put(localKey, removed);
+		}
+	}
+
+	/**
+	 * 같은 키를 계산 중인 스레드가 있다면 그 결과를 기다리고, 없다면 직접 계산합니다.
+	 */
+	private Object loadSingleFlight(Object key, String localKey, Callable<?> valueLoader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, flight);
+		if (running != null) {
+			coalesced.increment();
+			return await(key, running);
+		}
+		return load(key, localKey, valueLoader, false, flight);
+	}
+
+	/**
+	 * 같은 키를 계산 중인 스레드가 없을 때만 직접 계산합니다.
+	 * @return 계산한 값, 다른 스레드가 계산 중이라면 null
+	 */
+	private Object loadIfIdle(Object key, String localKey, Callable<?> valueLoader, boolean forceCompute) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		if (inFlight.putIfAbsent(localKey, flight) != null) {
+			return null;
+		}
+		return load(key, localKey, valueLoader, forceCompute, flight);
+	}
+
+	/**
+	 * L2를 확인한 뒤 없다면 값을 계산하여 두 단계에 모두 저장합니다.
+	 * forceCompute가 true라면 L2를 확인하지 않고 다시 계산합니다.
+	 */
+	private Object load(Object key, String localKey, Callable<?> valueLoader, boolean forceCompute,
+		CompletableFuture<Object> flight) {
+		try {
+			Object value = forceCompute ? null : readRemote(key, localKey);
+			if (value == null) {
+				value = compute(key, localKey, valueLoader);
+			}
+			stale.remove(localKey);
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(localKey, flight);
+		}
+	}
+
+	private Object readRemote(Object key, String localKey) {
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper == null || wrapper.get() == null) {
+			remoteMiss.increment();
+			return null;
+		}
+		remoteHit.increment();
+
+		Duration remainingTtl = cacheManager.remainingRemoteTtl(name, localKey);
+		long expiresAt = remainingTtl == null ? LocalLruCache.UNKNOWN : System.nanoTime() + remainingTtl.toNanos();
+		local.put(localKey, wrapper.get(), expiresAt, LocalLruCache.UNKNOWN);
+		return wrapper.get();
+	}
+
+	private Object compute(Object key, String localKey, Callable<?> valueLoader) {
+		long start = System.nanoTime();
+		Object value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+		long computeNanos = System.nanoTime() - start;
+
+		if (value != null) {
+			remote.put(key, value);
+			local.put(localKey, value, System.nanoTime() + settings.remoteTtl().toNanos(), computeNanos);
+			cacheManager.publishEviction(name, localKey);
+		}
+		return value;
+	}
+
+	private Object await(Object key, CompletableFuture<Object> running) {
+		try {
+			return running.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("캐시 값을 기다리는 도중 중단되었습니다. key: " + key, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * XFetch 알고리즘에 따라 만료 이전에 값을 다시 계산할지 결정합니다.
+	 * 만료 시각에 가까울수록, 계산에 오래 걸리는 값일수록 높은 확률로 true를 반환합니다.
+	 */
+	private boolean shouldRefreshEarly(LocalLruCache.Entry entry) {
+		if (entry.remoteExpiresAt() == LocalLruCache.UNKNOWN || settings.earlyRefreshBeta() <= 0) {
+			return false;
+		}
+		long delta = entry.computeNanos() == LocalLruCache.UNKNOWN ? DEFAULT_COMPUTE_NANOS : entry.computeNanos();
+		double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+		double gap = -delta * settings.earlyRefreshBeta() * Math.log(random);
+		return System.nanoTime() + gap >= entry.remoteExpiresAt();
+	}
+
+	private static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder("cache.tier.requests")
+			.tag("cache", name)
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
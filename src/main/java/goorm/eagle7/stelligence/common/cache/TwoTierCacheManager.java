@@ -0,0 +1,136 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 캐시 앞에 서버별 로컬 캐시를 두는 CacheManager입니다.
+ *
+ * <p>자주 조회되는 캐시 항목은 로컬 캐시에서 바로 반환하므로 Redis 왕복과 역직렬화 비용이 발생하지 않습니다.
+ * 어떤 서버에서 캐시 항목을 저장하거나 삭제하면 Redis pub/sub을 통해 다른 서버에 알리고,
+ * 알림을 받은 서버는 로컬 캐시에서 해당 항목을 삭제하여 다음 조회 시 Redis에서 다시 읽도록 합니다.
+ * 알림이 유실되는 경우를 대비해 로컬 캐시의 유효 시간은 짧게 유지합니다.
+ *
+ * <p>캐시의 저장과 삭제는 트랜잭션이 커밋된 이후에 반영되며, 다른 서버로의 알림도 그 이후에 전달됩니다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+	private static final ChannelTopic TOPIC = new ChannelTopic("cache:eviction");
+	private static final String DELIMITER = "\n";
+
+	/**
+	 * 자신이 보낸 알림을 구분하기 위한 서버 식별자입니다.
+	 */
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final CacheManager remoteCacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final TwoTierCacheSettings settings;
+
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+	public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry,
+		TwoTierCacheSettings settings) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.settings = settings;
+		redisMessageListenerContainer.addMessageListener(this, TOPIC);
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return caches.computeIfAbsent(name, cacheName -> {
+			Cache remote = remoteCacheManager.getCache(cacheName);
+			if (remote == null) {
+				return null;
+			}
+			TwoTierCache cache = new TwoTierCache(cacheName, remote, this, settings, meterRegistry);
+			twoTierCaches.put(cacheName, cache);
+			return new TransactionAwareCacheDecorator(cache);
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	/**
+	 * 다른 서버의 로컬 캐시에서 해당 항목을 삭제하도록 알립니다.
+	 */
+	void publishEviction(String cacheName, String key) {
+		publish(instanceId + DELIMITER + cacheName + DELIMITER + key);
+	}
+
+	/**
+	 * 다른 서버의 로컬 캐시를 비우도록 알립니다.
+	 */
+	void publishClear(String cacheName) {
+		publish(instanceId + DELIMITER + cacheName);
+	}
+
+	/**
+	 * Redis 캐시에 저장된 항목의 남은 유효 시간을 조회합니다.
+	 * RedisCacheManager의 기본 키 형식({@code 캐시이름::키})을 사용합니다.
+	 * @return 남은 유효 시간, 항목이 없거나 조회할 수 없다면 null
+	 */
+	Duration remainingRemoteTtl(String cacheName, String key) {
+		try {
+			Long millis = redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS);
+			return millis == null || millis < 0 ? null : Duration.ofMillis(millis);
+		} catch (DataAccessException e) {
+			log.debug("캐시 항목의 유효 시간을 조회하지 못했습니다. {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), message);
+		} catch (DataAccessException e) {
+			log.warn("캐시 삭제 알림을 전달하지 못했습니다. {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(DELIMITER, 3);
+		if (parts.length < 2 || parts[0].equals(instanceId)) {
+			return;
+		}
+
+		TwoTierCache cache = twoTierCaches.get(parts[1]);
+		if (cache == null) {
+			return;
+		}
+
+		if (parts.length == 2) {
+			cache.clearLocalOnly();
+		} else {
+			cache.evictLocalOnly(parts[2]);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시의 설정입니다.
+ *
+ * @param localMaxSize 캐시별 로컬 캐시의 최대 항목 수
+ * @param localTtl 로컬 캐시의 유효 시간
+ * @param remoteTtl Redis 캐시의 유효 시간
+ * @param staleGrace 삭제된 값을 새 값이 계산되는 동안 대신 반환할 수 있는 유예 시간, 0이면 사용하지 않음
+ * @param earlyRefreshBeta 만료 이전에 값을 다시 계산하는 정도, 클수록 일찍 갱신하며 0이면 사용하지 않음
+ */
+public record TwoTierCacheSettings(
+	int localMaxSize,
+	Duration localTtl,
+	Duration remoteTtl,
+	Duration staleGrace,
+	double earlyRefreshBeta
+) {
+}
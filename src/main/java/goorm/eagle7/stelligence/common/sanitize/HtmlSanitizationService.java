@@ -0,0 +1,134 @@
+package goorm.eagle7.stelligence.common.sanitize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.owasp.html.PolicyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.common.cache.ImmutableLruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자가 작성한 HTML을 정화(sanitize)하는 서비스입니다.
+ *
+ * <p>같은 HTML은 언제나 같은 결과로 정화되므로, 원본의 SHA-256 해시를 키로 하여 정화 결과를 캐싱합니다.
+ * 수정요청을 다시 제출하는 경우처럼 대부분의 섹션이 바뀌지 않았다면 바뀐 섹션만 정화합니다.
+ * 해시를 계산하는 비용은 HTML을 토큰화하고 정책을 적용하는 비용보다 훨씬 작습니다.
+ *
+ * <p>캐시는 항목의 개수로만 크기를 제한하므로, 큰 HTML이 캐시를 채우면 메모리 사용량이 커집니다.
+ * html.sanitize.cache-max-content-length(기본값 8192자)보다 긴 HTML은 캐싱하지 않고 매번 정화하여,
+ * 캐시가 차지하는 메모리를 항목의 개수와 이 길이의 곱 이내로 제한합니다.
+ *
+ * <p>여러 개의 HTML을 한 번에 정화하는 경우 html.sanitize.worker-count 크기의 스레드 풀에서 병렬로 정화합니다.
+ *
+ * <p>캐시 적중률은 cache.tier.requests{cache=htmlSanitize}, 실제 정화에 걸린 시간은 html.sanitize 지표로 확인할 수 있습니다.
+ */
+@Component
+public class HtmlSanitizationService {
+
+	private static final String SANITIZE_TIMER = "html.sanitize";
+
+	private final PolicyFactory policyFactory;
+	private final ImmutableLruCache<String> cache;
+	private final int cacheMaxContentLength;
+	private final Timer sanitizeTimer;
+	private final ExecutorService executor;
+
+	public HtmlSanitizationService(
+		PolicyFactory policyFactory,
+		MeterRegistry meterRegistry,
+		@Value("${html.sanitize.cache-max-size:1000}") int cacheMaxSize,
+		@Value("${html.sanitize.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+		@Value("${html.sanitize.cache-max-content-length:8192}") int cacheMaxContentLength,
+		@Value("${html.sanitize.worker-count:4}") int workerCount
+	) {
+		this.policyFactory = policyFactory;
+		this.cache = new ImmutableLruCache<>("htmlSanitize", cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds),
+			meterRegistry);
+		this.cacheMaxContentLength = cacheMaxContentLength;
+		this.sanitizeTimer = Timer.builder(SANITIZE_TIMER)
+			.description("캐시되지 않은 HTML을 정화하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.executor = Executors.newFixedThreadPool(workerCount, workerThreadFactory());
+	}
+
+	/**
+	 * HTML을 정화합니다. 이전에 같은 HTML을 정화했다면 캐시된 결과를 반환합니다.
+	 * 캐싱하기에 너무 긴 HTML은 캐시를 거치지 않고 정화합니다.
+	 * @param rawHtml 사용자가 작성한 HTML
+	 * @return 정화된 HTML, rawHtml이 null이라면 빈 문자열
+	 */
+	public String sanitize(String rawHtml) {
+		if (rawHtml == null || rawHtml.isEmpty()) {
+			return "";
+		}
+		if (rawHtml.length() > cacheMaxContentLength) {
+			return sanitizeTimer.record(() -> policyFactory.sanitize(rawHtml));
+		}
+		return cache.get(hash(rawHtml), () -> sanitizeTimer.record(() -> policyFactory.sanitize(rawHtml)));
+	}
+
+	/**
+	 * 여러 개의 HTML을 병렬로 정화합니다.
+	 * @param rawHtmls 사용자가 작성한 HTML 목록
+	 * @return 같은 순서로 정화된 HTML 목록
+	 */
+	public List<String> sanitizeAll(List<String> rawHtmls) {
+		if (rawHtmls.size() <= 1) {
+			return rawHtmls.stream().map(this::sanitize).toList();
+		}
+
+		List<CompletableFuture<String>> futures = rawHtmls.stream()
+			.map(rawHtml -> CompletableFuture.supplyAsync(() -> sanitize(rawHtml), executor))
+			.toList();
+
+		try {
+			return futures.stream().map(CompletableFuture::join).toList();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 길이와 SHA-256 해시를 합쳐 캐시 키로 사용합니다.
+	 */
+	private static String hash(String rawHtml) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawHtml.getBytes(StandardCharsets.UTF_8));
+			return rawHtml.length() + ":" + Base64.getEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNumber = new AtomicInteger(1);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "html-sanitizer-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
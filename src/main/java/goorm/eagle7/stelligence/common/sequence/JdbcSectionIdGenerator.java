@@ -1,21 +1,34 @@
 package goorm.eagle7.stelligence.common.sequence;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * SectionId의 Sequence를 관리합니다.
+ *
+ * <p>SectionId를 하나 가져올 때마다 sequence_table의 row에 락을 걸고 값을 증가시키면,
+ * 섹션이 많은 문서를 생성할 때 섹션의 개수만큼 직렬화된 트랜잭션이 발생합니다.
+ * 이를 피하기 위해 hi/lo 방식으로 한 번에 blockSize 만큼의 ID 구간을 예약하고, 예약된 구간 안에서는
+ * 메모리의 AtomicLong으로 ID를 발급합니다. 구간이 소진된 경우에만 DB에 접근합니다.
+ *
+ * <p>여러 서버가 동시에 동작하더라도 구간의 예약은 for update로 직렬화되므로 ID가 중복되지 않습니다.
+ * 다만 서버가 재시작되면 사용하지 않은 구간은 버려지므로 SectionId는 연속적이지 않을 수 있습니다.
  */
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 class JdbcSectionIdGenerator implements SectionIdGenerator {
 
-	private final JdbcTemplate jdbcTemplate;
-
 	/**
 	 * sequence_table의 sequence_name이 section인 row의 sequence_value를 가져옵니다.
 	 * for update를 사용하여 동시성 문제를 해결합니다.
@@ -23,26 +36,116 @@ class JdbcSectionIdGenerator implements SectionIdGenerator {
 	private static final String GET_SECTION_ID_SEQ = "SELECT sequence_value FROM sequence_table where sequence_name = 'section' for update";
 
 	/**
-	 * sequence_table의 sequence_name이 section인 row의 sequence_value를 1 증가시킵니다.
+	 * sequence_table의 sequence_name이 section인 row의 sequence_value를 예약한 구간의 크기만큼 증가시킵니다.
+	 */
+	private static final String UPDATE_SECTION_ID_SEQ = "UPDATE sequence_table SET sequence_value = sequence_value + ? WHERE sequence_name = 'section'";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int blockSize;
+
+	/**
+	 * 현재 발급 중인 ID 구간입니다. 구간이 소진되면 새로운 구간으로 교체됩니다.
 	 */
-	private static final String UPDATE_SECTION_ID_SEQ = "UPDATE sequence_table SET sequence_value = sequence_value + 1 WHERE sequence_name = 'section'";
+	private volatile IdBlock block = new IdBlock(0L, 0L);
+
+	JdbcSectionIdGenerator(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${section.id.block-size:100}") int blockSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		//for update를 사용하므로 트랜잭션이 길어지지 않도록 새로운 트랜잭션에서 구간을 예약합니다.
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.blockSize = blockSize;
+	}
 
 	/**
 	 * Document가 다음으로 생성할 SectionId를 가져옵니다.
-	 * 동시성 문제를 해결하기 위해, for update를 사용합니다.
-	 * for update를 사용하므로 트랜잭션이 길어진다면 성능에 영향을 줄 수 있습니다.
-	 * 따라서 새로운 트랜잭션을 생성하여 사용합니다.
-	 *
 	 * @return Auto Increment된 SectionId
 	 */
 	@Override
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public Long getAndIncrementSectionId() {
+		return allocate(1).get(0);
+	}
+
+	/**
+	 * 여러 개의 SectionId를 한 번에 가져옵니다.
+	 * 현재 구간에 남은 ID가 부족하다면 새로운 구간을 예약합니다. 이 때 남아있던 ID는 사용되지 않습니다.
+	 *
+	 * @param count 가져올 SectionId의 개수, 0이라면 DB에 접근하지 않고 빈 목록을 반환합니다.
+	 * @return 연속된 SectionId 목록
+	 */
+	@Override
+	public List<Long> allocate(int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("할당할 SectionId의 개수는 0 이상이어야 합니다. count : " + count);
+		}
+		if (count == 0) {
+			return List.of();
+		}
+
+		while (true) {
+			IdBlock current = block;
+			long start = current.reserve(count);
+			if (start >= 0) {
+				return LongStream.range(start, start + count).boxed().toList();
+			}
 
-		Long sectionId = jdbcTemplate.queryForObject(GET_SECTION_ID_SEQ, Long.class);
+			//구간이 소진된 경우 하나의 스레드만 새로운 구간을 예약합니다.
+			synchronized (this) {
+				if (block == current) {
+					block = reserveBlock(Math.max(count, blockSize));
+				}
+			}
+		}
+	}
+
+	/**
+	 * DB에서 새로운 ID 구간을 예약합니다.
+	 * @param size 예약할 구간의 크기
+	 * @return 예약된 구간
+	 */
+	private IdBlock reserveBlock(int size) {
+		Long start = transactionTemplate.execute(status -> {
+			Long sequenceValue = jdbcTemplate.queryForObject(GET_SECTION_ID_SEQ, Long.class);
+			jdbcTemplate.update(UPDATE_SECTION_ID_SEQ, size);
+			return sequenceValue;
+		});
 
-		jdbcTemplate.update(UPDATE_SECTION_ID_SEQ);
-		return sectionId;
+		Objects.requireNonNull(start, "sequence_table에 section 레코드가 존재하지 않습니다.");
+		log.debug("SectionId 구간을 예약했습니다. [{}, {})", start, start + size);
+		return new IdBlock(start, start + size);
 	}
 
+	/**
+	 * [next, limit) 범위의 ID 구간입니다.
+	 */
+	private static class IdBlock {
+
+		private final AtomicLong next;
+		private final long limit;
+
+		IdBlock(long start, long limit) {
+			this.next = new AtomicLong(start);
+			this.limit = limit;
+		}
+
+		/**
+		 * 구간에서 count 개의 ID를 예약합니다.
+		 * @return 예약된 첫 번째 ID, 남은 ID가 부족하다면 -1
+		 */
+		long reserve(int count) {
+			while (true) {
+				long start = next.get();
+				if (start + count > limit) {
+					return -1;
+				}
+				if (next.compareAndSet(start, start + count)) {
+					return start;
+				}
+			}
+		}
+	}
 }
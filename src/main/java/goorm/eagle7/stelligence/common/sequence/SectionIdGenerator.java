@@ -1,12 +1,23 @@
 package goorm.eagle7.stelligence.common.sequence;
 
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 
 /**
  * Document가 다음으로 생성할 SectionId를 가져옵니다.
  */
 public interface SectionIdGenerator {
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
+
+	/**
+	 * 다음으로 사용할 SectionId를 하나 가져옵니다.
+	 * @return 새로운 SectionId
+	 */
 	Long getAndIncrementSectionId();
+
+	/**
+	 * 여러 개의 SectionId를 한 번에 가져옵니다.
+	 * 여러 섹션을 한 번에 생성하는 경우 {@link #getAndIncrementSectionId()}를 반복 호출하는 대신 사용합니다.
+	 * @param count 가져올 SectionId의 개수
+	 * @return 오름차순으로 정렬된 서로 다른 SectionId 목록, count가 0이라면 빈 목록
+	 */
+	List<Long> allocate(int count);
 }
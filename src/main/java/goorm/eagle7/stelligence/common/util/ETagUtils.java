@@ -0,0 +1,90 @@
+package goorm.eagle7.stelligence.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 조회 API의 조건부 요청(If-None-Match)을 처리하기 위한 ETag를 만들고 비교합니다.
+ *
+ * <p>응답 본문의 해시 대신 본문을 결정하는 버전 정보(문서의 최신 버전, 문서 그래프의 버전, 수정 시각 등)로 ETag를 만듭니다.
+ * 따라서 버전 정보만 가볍게 조회하여 ETag를 계산할 수 있고, 클라이언트가 가진 ETag와 일치한다면
+ * 엔티티를 조회하거나 본문을 직렬화하지 않고 바로 304 응답을 반환할 수 있습니다.
+ *
+ * <p>버전 정보가 응답 본문의 모든 값을 결정하는 경우에는 강한 ETag를,
+ * 버전으로 추적되지 않는 값(회원의 닉네임 등)이 포함되는 경우에는 약한 ETag를 사용합니다.
+ */
+public class ETagUtils {
+
+	private ETagUtils() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * 강한 ETag를 생성합니다.
+	 * @param resource 리소스의 종류
+	 * @param versions 응답 본문을 결정하는 버전 정보, null은 "-"로 기록합니다.
+	 * @return "resource-version1-version2..." 형식의 ETag
+	 */
+	public static String strong(String resource, Object... versions) {
+		StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+		joiner.add(resource);
+		for (Object version : versions) {
+			joiner.add(format(version));
+		}
+		return joiner.toString();
+	}
+
+	/**
+	 * 약한 ETag를 생성합니다.
+	 * @see #strong(String, Object...)
+	 */
+	public static String weak(String resource, Object... versions) {
+		return "W/" + strong(resource, versions);
+	}
+
+	/**
+	 * If-None-Match 헤더가 ETag와 일치하는지 확인합니다. 약한 비교를 수행합니다.
+	 * @param ifNoneMatch If-None-Match 헤더의 값, 없다면 null
+	 * @param eTag 현재 응답의 ETag, 계산할 수 없다면 null
+	 * @return 일치한다면 true
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || eTag == null) {
+			return false;
+		}
+		String opaqueTag = stripWeak(eTag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+			if (trimmed.equals("*") || stripWeak(trimmed).equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 본문 없이 304 Not Modified 응답을 생성합니다.
+	 */
+	public static <T> ResponseEntity<T> notModified(String eTag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+	}
+
+	private static String stripWeak(String eTag) {
+		return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+	}
+
+	private static String format(Object version) {
+		if (version == null) {
+			return "-";
+		}
+		if (version instanceof LocalDateTime time) {
+			// 초와 나노초를 36진수로 기록하여 ETag를 짧게 유지합니다.
+			return Long.toString(time.toEpochSecond(ZoneOffset.UTC), 36) + "." + Integer.toString(time.getNano(), 36);
+		}
+		return String.valueOf(version);
+	}
+}
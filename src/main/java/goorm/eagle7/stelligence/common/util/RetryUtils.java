@@ -0,0 +1,94 @@
+package goorm.eagle7.stelligence.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 락 충돌이나 잠금 실패로 롤백된 작업을 다시 시도합니다.
+ *
+ * <p>{@code @Version}을 사용하는 엔티티는 다른 트랜잭션이 먼저 변경한 경우 커밋 시점에
+ * {@link OptimisticLockingFailureException}이 발생하며 트랜잭션 전체가 롤백됩니다.
+ * 충돌은 대부분 일시적이므로 짧게 기다린 뒤 새로운 트랜잭션에서 다시 수행하면 성공합니다.
+ * 같은 행을 서로 다른 순서로 잠근 트랜잭션 사이의 교착 상태나 잠금 대기 시간 초과로 발생하는
+ * {@link PessimisticLockingFailureException}도 마찬가지로 트랜잭션 전체가 롤백되므로 다시 수행합니다.
+ *
+ * <p>재시도마다 새로운 트랜잭션이 시작되어야 하므로, 트랜잭션의 바깥에서 트랜잭션 경계가 되는 메서드를 감싸서 호출해야 합니다.
+ * 동시에 충돌한 요청들이 다시 같은 시각에 충돌하지 않도록 대기 시간에는 무작위 값을 더합니다.
+ */
+@Slf4j
+public class RetryUtils {
+
+	private RetryUtils() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	private static final long BASE_BACKOFF_MILLIS = 20;
+
+	/**
+	 * 낙관적 락 충돌이나 잠금 실패가 발생하면 최대 {@link #DEFAULT_MAX_ATTEMPTS}번까지 작업을 수행합니다.
+	 * @param action 수행할 작업, 호출될 때마다 새로운 트랜잭션에서 수행되어야 합니다.
+	 * @return 작업의 결과
+	 * @throws ConcurrencyFailureException 모든 시도가 충돌로 실패한 경우 마지막 예외
+	 */
+	public static <T> T retryOnOptimisticLockFailure(Supplier<T> action) {
+		return retryOnOptimisticLockFailure(action, DEFAULT_MAX_ATTEMPTS);
+	}
+
+	/**
+	 * 낙관적 락 충돌이나 잠금 실패가 발생하면 최대 maxAttempts번까지 작업을 수행합니다.
+	 * @param action 수행할 작업, 호출될 때마다 새로운 트랜잭션에서 수행되어야 합니다.
+	 * @param maxAttempts 최대 수행 횟수, 1 이상이어야 합니다.
+	 * @return 작업의 결과
+	 * @throws ConcurrencyFailureException 모든 시도가 충돌로 실패한 경우 마지막 예외
+	 */
+	public static <T> T retryOnOptimisticLockFailure(Supplier<T> action, int maxAttempts) {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다.");
+		}
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return action.get();
+			} catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				log.debug("락 충돌로 작업을 다시 시도합니다. attempt: {}/{}, cause: {}", attempt, maxAttempts,
+					e.getClass().getSimpleName());
+				backoff(attempt, e);
+			}
+		}
+	}
+
+	/**
+	 * 낙관적 락 충돌이나 잠금 실패가 발생하면 최대 {@link #DEFAULT_MAX_ATTEMPTS}번까지 결과가 없는 작업을 수행합니다.
+	 * @param action 수행할 작업, 호출될 때마다 새로운 트랜잭션에서 수행되어야 합니다.
+	 */
+	public static void retryOnOptimisticLockFailure(Runnable action) {
+		retryOnOptimisticLockFailure(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 시도 횟수에 따라 지수적으로 늘어나는 시간에 무작위 값을 더한 만큼 기다립니다.
+	 * 기다리는 도중 인터럽트되면 더 이상 재시도하지 않고 충돌 예외를 그대로 던집니다.
+	 */
+	private static void backoff(int attempt, ConcurrencyFailureException cause) {
+		long backoff = BASE_BACKOFF_MILLIS << (attempt - 1);
+		try {
+			Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw cause;
+		}
+	}
+}
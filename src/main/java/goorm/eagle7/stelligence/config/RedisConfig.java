@@ -3,38 +3,120 @@ package goorm.eagle7.stelligence.config;
 import static org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.*;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import goorm.eagle7.stelligence.common.cache.TwoTierCacheManager;
+import goorm.eagle7.stelligence.common.cache.TwoTierCacheSettings;
+import goorm.eagle7.stelligence.domain.document.content.cache.DocumentResponseRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Redis와 Cache 관련 설정 클래스입니다.
+ *
+ * <p>{@code @Cacheable} 등의 캐시 애노테이션은 {@link #cacheManager}가 만든 {@link TwoTierCacheManager}를 사용합니다.
  */
 @Configuration
-// @EnableCaching
-public class RedisConfig {
+@EnableCaching
+public class RedisConfig implements CachingConfigurer {
 
 	private static final int DEFAULT_EXPIRE_SEC = 60 * 5; //캐시 기본 유효 시간 5분
 
+	/**
+	 * Redis 캐시 앞에 서버별 로컬 캐시를 두는 2단계 CacheManager입니다.
+	 * 트랜잭션과의 동기화는 {@link TwoTierCacheManager}에서 담당합니다.
+	 */
 	@Bean
-	public RedisCacheManager cacheManager(RedisConnectionFactory factory) {
-		return RedisCacheManager.builder(
+	public CacheManager cacheManager(
+		RedisConnectionFactory factory,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${cache.local.max-size:1000}") int localMaxSize,
+		@Value("${cache.local.ttl-seconds:30}") long localTtlSeconds,
+		@Value("${cache.stale-grace-seconds:5}") long staleGraceSeconds,
+		@Value("${cache.early-refresh-beta:1.0}") double earlyRefreshBeta
+	) {
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(
 				RedisCacheWriter.lockingRedisCacheWriter(factory)) //locking을 통해 캐시의 일관성을 보장
 			.cacheDefaults(cacheConfiguration()) // 캐시 기본 설정
-			.transactionAware() //Redis의 동작을 Spring이 관리하는 트랜잭션과 동기화
+			.withInitialCacheConfigurations(cacheConfigurations()) // 캐시별 설정
 			.build();
+		redisCacheManager.afterPropertiesSet();
+
+		TwoTierCacheSettings settings = new TwoTierCacheSettings(
+			localMaxSize,
+			Duration.ofSeconds(localTtlSeconds),
+			Duration.ofSeconds(DEFAULT_EXPIRE_SEC),
+			Duration.ofSeconds(staleGraceSeconds),
+			earlyRefreshBeta
+		);
+		return new TwoTierCacheManager(redisCacheManager, redisTemplate, redisMessageListenerContainer, meterRegistry,
+			settings);
+	}
+
+	/**
+	 * 캐시 애노테이션이 캐시에 접근하지 못한 경우 예외를 던지지 않고 로그만 남깁니다.
+	 * Redis에 접근할 수 없더라도 캐시를 거치지 않고 메서드를 직접 실행하여 조회는 계속 처리됩니다.
+	 */
+	@Override
+	public CacheErrorHandler errorHandler() {
+		return new LoggingCacheErrorHandler();
+	}
+
+	/**
+	 * Redis pub/sub 메시지를 수신하는 컨테이너입니다.
+	 * 서버 간에 로컬 상태의 변경사항을 전달할 때 사용합니다.
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(factory);
+		return container;
+	}
+
+	/**
+	 * 캐시 이름별로 값의 직렬화 방식을 지정합니다.
+	 * 지정하지 않은 캐시는 기본 설정의 JSON 직렬화를 사용합니다.
+	 */
+	private Map<String, RedisCacheConfiguration> cacheConfigurations() {
+		Map<String, RedisSerializer<?>> valueSerializers = Map.of(
+			"document", new DocumentResponseRedisSerializer()
+		);
+
+		return valueSerializers.entrySet().stream()
+			.collect(Collectors.toMap(
+				Map.Entry::getKey,
+				entry -> cacheConfiguration(entry.getValue())
+			));
 	}
 
 	private RedisCacheConfiguration cacheConfiguration() {
+		return cacheConfiguration(new GenericJackson2JsonRedisSerializer());
+	}
+
+	private RedisCacheConfiguration cacheConfiguration(RedisSerializer<?> valueSerializer) {
 		return RedisCacheConfiguration.defaultCacheConfig()
 			.serializeKeysWith(fromSerializer(new StringRedisSerializer()))
-			.serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer()))
+			.serializeValuesWith(fromSerializer(valueSerializer))
 			.entryTtl(Duration.ofSeconds(DEFAULT_EXPIRE_SEC)) //DEFAULT_EXPIRE_SEC 만큼 캐시 유지
 			.disableCachingNullValues();
 	}
@@ -1,12 +1,21 @@
 package goorm.eagle7.stelligence.domain.amendment;
 
-import org.owasp.html.PolicyFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.common.sanitize.HtmlSanitizationService;
 import goorm.eagle7.stelligence.domain.amendment.dto.AmendmentRequest;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import lombok.RequiredArgsConstructor;
@@ -19,32 +28,106 @@ import lombok.extern.slf4j.Slf4j;
 public class AmendmentService {
 
 	private final SectionRepository sectionRepository;
-	private final PolicyFactory policyFactory;
+	private final HtmlSanitizationService htmlSanitizationService;
 
 	/**
 	 * 타입 구분
 	 */
 	@Transactional
 	public Amendment processAmendment(AmendmentRequest amendmentRequest) {
+		Section section = sectionRepository.findLatestSection(amendmentRequest.getSectionId())
+			.orElseThrow(() -> new BaseException("존재하지 않는 섹션입니다. 섹션 ID : " + amendmentRequest.getSectionId()));
+
+		return processAmendment(amendmentRequest, section,
+			htmlSanitizationService.sanitize(rawContentToSanitize(amendmentRequest)));
+	}
+
+	/**
+	 * 하나의 수정요청에 포함된 수정안들을 한 번에 생성합니다.
+	 * @see #processAmendments(List, Collection)
+	 */
+	@Transactional
+	public List<Amendment> processAmendments(List<AmendmentRequest> amendmentRequests) {
+		return processAmendments(amendmentRequests, List.of());
+	}
+
+	/**
+	 * 하나의 수정요청에 포함된 수정안들을 한 번에 생성합니다.
+	 *
+	 * <p>수정안의 대상 섹션은 이미 조회된 섹션 목록에서 먼저 찾고, 없는 섹션만 한 번의 쿼리로 조회합니다.
+	 * 수정안의 내용은 병렬로 정화(sanitize)한 뒤 요청의 순서대로 수정안을 생성합니다.
+	 *
+	 * @param amendmentRequests 수정안 요청 목록
+	 * @param loadedSections 이미 조회된 최신 섹션 목록 (수정요청 검증 시 조회한 문서의 섹션 등)
+	 * @return 요청과 같은 순서의 수정안 목록
+	 */
+	@Transactional
+	public List<Amendment> processAmendments(List<AmendmentRequest> amendmentRequests,
+		Collection<Section> loadedSections) {
+		Map<Long, Section> targetSections = findTargetSections(amendmentRequests, loadedSections);
+
+		List<String> sanitizedContents = htmlSanitizationService.sanitizeAll(
+			amendmentRequests.stream().map(this::rawContentToSanitize).toList());
+
+		List<Amendment> amendments = new ArrayList<>(amendmentRequests.size());
+		for (int i = 0; i < amendmentRequests.size(); i++) {
+			AmendmentRequest amendmentRequest = amendmentRequests.get(i);
+			Section section = targetSections.get(amendmentRequest.getSectionId());
+			if (section == null) {
+				throw new BaseException("존재하지 않는 섹션입니다. 섹션 ID : " + amendmentRequest.getSectionId());
+			}
+			amendments.add(processAmendment(amendmentRequest, section, sanitizedContents.get(i)));
+		}
+		return amendments;
+	}
+
+	/**
+	 * 수정안의 대상 섹션들을 찾습니다. 이미 조회된 섹션에 없는 섹션만 DB에서 한 번에 조회합니다.
+	 * @return 섹션 ID를 키로 하는 대상 섹션, 존재하지 않는 섹션은 포함되지 않습니다.
+	 */
+	private Map<Long, Section> findTargetSections(List<AmendmentRequest> amendmentRequests,
+		Collection<Section> loadedSections) {
+		Map<Long, Section> targetSections = new HashMap<>();
+		loadedSections.forEach(section -> targetSections.put(section.getId(), section));
+
+		Set<Long> missingSectionIds = new HashSet<>();
+		for (AmendmentRequest amendmentRequest : amendmentRequests) {
+			if (!targetSections.containsKey(amendmentRequest.getSectionId())) {
+				missingSectionIds.add(amendmentRequest.getSectionId());
+			}
+		}
+
+		if (!missingSectionIds.isEmpty()) {
+			sectionRepository.findLatestSections(missingSectionIds)
+				.forEach(section -> targetSections.put(section.getId(), section));
+		}
+		return targetSections;
+	}
+
+	private Amendment processAmendment(AmendmentRequest amendmentRequest, Section section, String sanitizedContent) {
 		return switch (amendmentRequest.getType()) {
-			case CREATE -> createAmendment(amendmentRequest);
-			case UPDATE -> updateAmendment(amendmentRequest);
-			case DELETE -> deleteAmendment(amendmentRequest);
+			case CREATE -> createAmendment(amendmentRequest, section, sanitizedContent);
+			case UPDATE -> updateAmendment(amendmentRequest, section, sanitizedContent);
+			case DELETE -> deleteAmendment(section);
 		};
 	}
 
 	/**
-	 * 수정안 생성(새로운 문단 생성)
+	 * 삭제 수정안은 내용을 사용하지 않으므로 정화하지 않습니다.
 	 */
-	private Amendment createAmendment(AmendmentRequest amendmentRequest) {
-		Section section = sectionRepository.findLatestSection(amendmentRequest.getSectionId())
-			.orElseThrow(() -> new BaseException("존재하지 않는 섹션입니다. 섹션 ID : " + amendmentRequest.getSectionId()));
+	private String rawContentToSanitize(AmendmentRequest amendmentRequest) {
+		return amendmentRequest.getType() == AmendmentType.DELETE ? null : amendmentRequest.getNewSectionContent();
+	}
 
+	/**
+	 * 수정안 생성(새로운 문단 생성)
+	 */
+	private Amendment createAmendment(AmendmentRequest amendmentRequest, Section section, String sanitizedContent) {
 		return Amendment.forCreate(
 			section,
 			amendmentRequest.getNewSectionHeading(),
 			amendmentRequest.getNewSectionTitle(),
-			policyFactory.sanitize(amendmentRequest.getNewSectionContent()),
+			sanitizedContent,
 			amendmentRequest.getCreatingOrder()
 		);
 	}
@@ -52,25 +135,19 @@ public class AmendmentService {
 	/**
 	 * 수정안 생성(기존 문단 수정)
 	 */
-	private Amendment updateAmendment(AmendmentRequest amendmentRequest) {
-		Section section = sectionRepository.findLatestSection(amendmentRequest.getSectionId())
-			.orElseThrow(() -> new BaseException("존재하지 않는 섹션입니다. 섹션 ID : " + amendmentRequest.getSectionId()));
-
+	private Amendment updateAmendment(AmendmentRequest amendmentRequest, Section section, String sanitizedContent) {
 		return Amendment.forUpdate(
 			section,
 			amendmentRequest.getNewSectionHeading(),
 			amendmentRequest.getNewSectionTitle(),
-			policyFactory.sanitize(amendmentRequest.getNewSectionContent())
+			sanitizedContent
 		);
 	}
 
 	/**
 	 * 수정안 생성(기존 문단 삭제)
 	 */
-	private Amendment deleteAmendment(AmendmentRequest amendmentRequest) {
-		Section section = sectionRepository.findLatestSection(amendmentRequest.getSectionId())
-			.orElseThrow(() -> new BaseException("존재하지 않는 섹션입니다. 섹션 ID : " + amendmentRequest.getSectionId()));
-
+	private Amendment deleteAmendment(Section section) {
 		return Amendment.forDelete(section);
 	}
 
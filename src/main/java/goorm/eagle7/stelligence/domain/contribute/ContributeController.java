@@ -3,12 +3,16 @@ package goorm.eagle7.stelligence.domain.contribute;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 import goorm.eagle7.stelligence.api.ResponseTemplate;
 import goorm.eagle7.stelligence.common.auth.memberinfo.Auth;
 import goorm.eagle7.stelligence.common.auth.memberinfo.MemberInfo;
+import goorm.eagle7.stelligence.common.util.ETagUtils;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeDocumentPageResponse;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributePageResponse;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeRequest;
@@ -56,11 +61,24 @@ public class ContributeController {
 		useReturnTypeSchema = true
 	)
 	@GetMapping("/{contributeId}")
-	public ResponseTemplate<ContributeResponse> getContribute(
+	public ResponseEntity<ResponseTemplate<ContributeResponse>> getContribute(
 		@Parameter(description = "조회할 수정요청의 ID", example = "1")
-		@PathVariable Long contributeId
+		@PathVariable Long contributeId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
-		return ResponseTemplate.ok(contributeService.getContribute(contributeId));
+		// 버전 정보가 일치하면 수정안을 조회하지 않고 304 응답을 반환합니다.
+		String eTag = contributeService.getContributeVersion(contributeId)
+			.map(version -> version.eTag(contributeId))
+			.orElse(null);
+		if (ETagUtils.matches(ifNoneMatch, eTag)) {
+			return ETagUtils.notModified(eTag);
+		}
+
+		ContributeResponse contribute = contributeService.getContribute(contributeId);
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(CacheControl.noCache())
+			.body(ResponseTemplate.ok(contribute));
 	}
 
 	@Operation(summary = "수정요청 삭제", description = "지정된 수정요청을 삭제합니다")
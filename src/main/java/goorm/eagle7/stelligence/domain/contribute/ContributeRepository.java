@@ -1,26 +1,36 @@
 package goorm.eagle7.stelligence.domain.contribute;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import goorm.eagle7.stelligence.domain.contribute.custom.CustomContributeRepository;
+import goorm.eagle7.stelligence.domain.contribute.dto.ContributeVersion;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import jakarta.persistence.LockModeType;
 
 public interface ContributeRepository extends JpaRepository<Contribute, Long>, CustomContributeRepository {
 	@Query("SELECT c FROM Contribute c LEFT JOIN FETCH c.amendments LEFT JOIN FETCH c.member WHERE c.id = :id")
 	Optional<Contribute> findByIdWithAmendmentsAndMember(@Param("id") Long id);
 
-	// 생성시간이 from과 to 사이인 Contribute를 가져온다.
-	@Query("SELECT c FROM Contribute c LEFT JOIN FETCH c.amendments LEFT JOIN FETCH c.member WHERE c.createdAt BETWEEN :from AND :to AND c.status = 'VOTING'")
-	List<Contribute> findByStatusIsVotingAndCreatedAtBetween(@Param("from") LocalDateTime from,
-		@Param("to") LocalDateTime to);
+	/**
+	 * 스케쥴러가 처리할 Contribute를 쓰기 잠금과 함께 가져온다.
+	 *
+	 * <p>여러 서버가 같은 Contribute를 동시에 처리하려는 경우, 뒤에 잠금을 요청한 트랜잭션은
+	 * 먼저 잠금을 얻은 트랜잭션이 끝날 때까지 기다린 뒤 변경된 상태를 읽는다.
+	 * @param id Contribute id
+	 * @return Contribute
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM Contribute c WHERE c.id = :id")
+	Optional<Contribute> findByIdForUpdate(@Param("id") Long id);
 
 	/**
 	 * document와 status를 통해 Contribute가 존재하는지 확인한다.
@@ -67,4 +77,38 @@ public interface ContributeRepository extends JpaRepository<Contribute, Long>, C
 	@Query("SELECT c FROM Contribute c JOIN FETCH c.member WHERE c.id = :id")
 	Optional<Contribute> findWithMember(Long id);
 
+	/**
+	 * 조회 응답의 ETag를 계산하기 위해 Contribute의 버전 정보만 가져온다.
+	 * @param id Contribute id
+	 * @return Contribute의 버전 정보
+	 */
+	@Query("SELECT new goorm.eagle7.stelligence.domain.contribute.dto.ContributeVersion("
+		+ "c.status, c.updatedAt, d.updatedAt, p.updatedAt)"
+		+ " FROM Contribute c JOIN c.document d LEFT JOIN d.parentDocument p"
+		+ " WHERE c.id = :id")
+	Optional<ContributeVersion> findVersionById(Long id);
+
+	/**
+	 * 투표중인 Contribute의 ID를 가져온다.
+	 * @return 투표중인 Contribute ID 목록
+	 */
+	@Query("SELECT c.id FROM Contribute c"
+		+ " WHERE c.status = goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus.VOTING")
+	List<Long> findVotingContributeIds();
+
+	/**
+	 * 특정 상태의 Contribute를 가져온다.
+	 * @param status Contribute 상태
+	 * @return Contribute 목록
+	 */
+	List<Contribute> findByStatus(ContributeStatus status);
+
+	/**
+	 * ID 목록에 해당하는 Contribute 중 특정 상태인 Contribute를 가져온다.
+	 * @param ids Contribute ID 목록
+	 * @param status Contribute 상태
+	 * @return Contribute 목록
+	 */
+	List<Contribute> findByIdInAndStatus(Collection<Long> ids, ContributeStatus status);
+
 }
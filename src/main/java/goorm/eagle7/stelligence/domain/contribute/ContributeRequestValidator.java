@@ -52,10 +52,11 @@ public class ContributeRequestValidator {
 	 *
 	 * @param request       수정요청 DTO
 	 * @param loginMemberId
+	 * @return 검증 과정에서 조회한 문서, 토론, 섹션 목록
 	 * @throws BaseException 유효하지 않은 요청일 경우
 	 */
 	@Transactional(readOnly = true)
-	public void validate(ContributeRequest request, Long loginMemberId) {
+	public ContributeValidationContext validate(ContributeRequest request, Long loginMemberId) {
 
 		//document가 존재하는가
 		Document document = documentContentRepository.findById(request.getDocumentId())
@@ -67,27 +68,23 @@ public class ContributeRequestValidator {
 		}
 
 		// 해당 document에 대한 토론이 진행중이거나, 수정요청 대기중인가?
-		checkDebate(request, loginMemberId);
+		Debate latestDebate = checkDebate(request, loginMemberId);
 
 		//수정하고자 하는 section들이 document에 존재하는가
+		ContributeValidationContext context = new ContributeValidationContext(document, latestDebate,
+			sectionRepository.findLatestByDocumentId(document.getId()));
 
-		List<Long> sectionIds = sectionRepository.findSectionIdByVersion(document, document.getLatestRevision());
-
-		sectionIds.add(0L); // Phantom Section Id
-
-		request.getAmendments().stream().map(AmendmentRequest::getSectionId).forEach(
-			sectionId -> {
-				if (!sectionIds.contains(sectionId)) {
-					throw new BaseException("해당 문서에 존재하지 않는 섹션을 수정하려고 합니다. sectionId=" + sectionId);
-				}
+		for (AmendmentRequest amendmentRequest : request.getAmendments()) {
+			Long sectionId = amendmentRequest.getSectionId();
+			if (sectionId == null || !context.containsSection(sectionId)) {
+				throw new BaseException("해당 문서에 존재하지 않는 섹션을 수정하려고 합니다. sectionId=" + sectionId);
 			}
-		);
 
-		//Phantom Section에 대한 수정요청은 항상 CREATE 타입이어야 한다.
-		if (request.getAmendments().stream().anyMatch(
-			req -> req.getSectionId().equals(0L)
-				&& !req.getType().equals(AmendmentType.CREATE))) {
-			throw new BaseException("Section 0에 대한 수정요청은 항상 CREATE 타입이어야 합니다.");
+			//Phantom Section에 대한 수정요청은 항상 CREATE 타입이어야 한다.
+			if (sectionId == ContributeValidationContext.PHANTOM_SECTION_ID
+				&& amendmentRequest.getType() != AmendmentType.CREATE) {
+				throw new BaseException("Section 0에 대한 수정요청은 항상 CREATE 타입이어야 합니다.");
+			}
 		}
 
 		//이미 제목을 가진 문서가 존재하는가 - contribute의 대상이 되는 document라면 허용
@@ -123,6 +120,8 @@ public class ContributeRequestValidator {
 				throw new BaseException("생성 순서가 순차적이지 않습니다.");
 			}
 		}
+
+		return context;
 	}
 
 	private boolean hasDuplicates(List<Integer> orders) {
@@ -139,15 +138,18 @@ public class ContributeRequestValidator {
 		return true;
 	}
 
-	private void checkDebate(ContributeRequest request, Long loginMemberId) {
-		debateRepository.findLatestDebateByDocumentId(request.getDocumentId()).ifPresent(
-			debate -> {
-				// 토론이 진행중인가?
-				checkIsOnDebate(debate);
-				// 토론이 종료된 후 토론 참여자를 위한 수정요청 대기중인가?
-				checkDebateIsPendingForDebater(debate, request.getRelatedDebateId(), loginMemberId);
-			}
-		);
+	/**
+	 * @return 문서의 가장 최근 토론, 없다면 null
+	 */
+	private Debate checkDebate(ContributeRequest request, Long loginMemberId) {
+		Debate debate = debateRepository.findLatestDebateByDocumentId(request.getDocumentId()).orElse(null);
+		if (debate != null) {
+			// 토론이 진행중인가?
+			checkIsOnDebate(debate);
+			// 토론이 종료된 후 토론 참여자를 위한 수정요청 대기중인가?
+			checkDebateIsPendingForDebater(debate, request.getRelatedDebateId(), loginMemberId);
+		}
+		return debate;
 	}
 
 	void checkIsOnDebate(Debate debate) {
@@ -1,5 +1,7 @@
 package goorm.eagle7.stelligence.domain.contribute;
 
+import java.util.Optional;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -7,12 +9,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.amendment.AmendmentService;
-import goorm.eagle7.stelligence.domain.amendment.dto.AmendmentRequest;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeDocumentPageResponse;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributePageResponse;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeRequest;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeResponse;
+import goorm.eagle7.stelligence.domain.contribute.dto.ContributeVersion;
 import goorm.eagle7.stelligence.domain.contribute.event.NewContributeEvent;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
@@ -23,6 +25,8 @@ import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.vote.VoteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -30,6 +34,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ContributeService {
 
+	private static final String CREATE_TIMER = "contribute.create";
+
 	private final ContributeRepository contributeRepository;
 	private final AmendmentService amendmentService;
 	private final MemberRepository memberRepository;
@@ -38,6 +44,7 @@ public class ContributeService {
 	private final VoteRepository voteRepository;
 	private final DebateRepository debateRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final MeterRegistry meterRegistry;
 
 	/**
 	 * Contribute 생성
@@ -48,15 +55,16 @@ public class ContributeService {
 	@Transactional
 	public ContributeResponse createContribute(ContributeRequest contributeRequest, Long loginMemberId) {
 
-		contributeRequestValidator.validate(contributeRequest, loginMemberId);
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		// 검증 시 조회한 문서, 토론, 섹션은 다시 조회하지 않고 사용한다.
+		ContributeValidationContext context = contributeRequestValidator.validate(contributeRequest, loginMemberId);
 
 		Member member = memberRepository.findById(loginMemberId).orElseThrow(
 			() -> new BaseException("존재하지 않는 회원의 요청입니다. 사용자 ID: " + loginMemberId)
 		);
 
-		Document document = documentContentRepository.findById(contributeRequest.getDocumentId()).orElseThrow(
-			() -> new BaseException("존재하지 않는 문서의 요청입니다. 문서 ID: " + contributeRequest.getDocumentId())
-		);
+		Document document = context.getDocument();
 
 		// 부모 문서 ID가 null 이면 afterParentDocument는 null
 		Document afterParentDocument = contributeRequest.getAfterParentDocumentId() == null ?
@@ -66,7 +74,8 @@ public class ContributeService {
 
 		// 연관된 토론 ID null 이면 relatedDebate는 null
 		Debate relatedDebate = contributeRequest.getRelatedDebateId() == null ?
-			null : debateRepository.findById(contributeRequest.getRelatedDebateId())
+			null : context.findLoadedDebate(contributeRequest.getRelatedDebateId())
+			.or(() -> debateRepository.findById(contributeRequest.getRelatedDebateId()))
 			.orElseThrow(() -> new BaseException(
 				"연관된 토론이 존재하지 않습니다. 토론 ID: " + contributeRequest.getRelatedDebateId()));
 
@@ -80,8 +89,8 @@ public class ContributeService {
 			relatedDebate
 		);
 
-		for (AmendmentRequest request : contributeRequest.getAmendments()) {
-			Amendment amendment = amendmentService.processAmendment(request);
+		for (Amendment amendment : amendmentService.processAmendments(contributeRequest.getAmendments(),
+			context.getLatestSections())) {
 			contribute.addAmendment(amendment);
 		}
 
@@ -90,6 +99,7 @@ public class ContributeService {
 		// Contribute 생성 이벤트 발행
 		applicationEventPublisher.publishEvent(new NewContributeEvent(contribute.getId()));
 
+		sample.stop(meterRegistry.timer(CREATE_TIMER));
 		return ContributeResponse.of(contribute);
 	}
 
@@ -131,6 +141,15 @@ public class ContributeService {
 		return ContributeResponse.of(contribute);
 	}
 
+	/**
+	 * Contribute 조회 응답의 ETag를 계산하기 위한 버전 정보 조회
+	 * @param contributeId
+	 * @return 존재하지 않는 Contribute라면 empty
+	 */
+	public Optional<ContributeVersion> getContributeVersion(Long contributeId) {
+		return contributeRepository.findVersionById(contributeId);
+	}
+
 	/**
 	 * Contribute 목록 조회: 투표 상태별로 조회
 	 * @param status
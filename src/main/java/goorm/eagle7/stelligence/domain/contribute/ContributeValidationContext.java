@@ -0,0 +1,76 @@
+package goorm.eagle7.stelligence.domain.contribute;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import lombok.Getter;
+
+/**
+ * 수정요청을 검증하며 조회한 엔티티들을 담는 객체입니다.
+ *
+ * <p>{@link ContributeRequestValidator}가 요청마다 한 번 생성하고, {@link ContributeService}는 같은 엔티티를 다시 조회하지 않고
+ * 이 객체를 통해 사용합니다.
+ *
+ * <p>문서의 섹션 ID는 정렬된 long 배열로 보관합니다. 수정안마다 섹션의 존재 여부를 확인할 때
+ * 박싱 없이 이진 탐색으로 확인할 수 있습니다.
+ */
+public class ContributeValidationContext {
+
+	/**
+	 * 새로운 섹션을 문서의 맨 앞에 추가할 때 사용하는 섹션 ID입니다.
+	 */
+	static final long PHANTOM_SECTION_ID = 0L;
+
+	@Getter
+	private final Document document;
+
+	private final Debate latestDebate;
+
+	/**
+	 * 문서의 최신 버전에 포함된 섹션 목록 (삭제된 섹션 제외)
+	 */
+	@Getter
+	private final List<Section> latestSections;
+
+	private final long[] sortedSectionIds;
+
+	ContributeValidationContext(Document document, Debate latestDebate, List<Section> latestSections) {
+		this.document = document;
+		this.latestDebate = latestDebate;
+		this.latestSections = latestSections;
+
+		long[] sectionIds = new long[latestSections.size()];
+		for (int i = 0; i < sectionIds.length; i++) {
+			sectionIds[i] = latestSections.get(i).getId();
+		}
+		Arrays.sort(sectionIds);
+		this.sortedSectionIds = sectionIds;
+	}
+
+	/**
+	 * 해당 섹션이 문서의 최신 버전에 존재하는지 확인합니다. Phantom Section은 항상 존재합니다.
+	 */
+	boolean containsSection(long sectionId) {
+		return sectionId == PHANTOM_SECTION_ID || Arrays.binarySearch(sortedSectionIds, sectionId) >= 0;
+	}
+
+	/**
+	 * 문서의 가장 최근 토론
+	 */
+	public Optional<Debate> getLatestDebate() {
+		return Optional.ofNullable(latestDebate);
+	}
+
+	/**
+	 * 검증 시 조회한 토론이 해당 ID의 토론이라면 반환합니다.
+	 * @param debateId 토론 ID
+	 * @return 조회한 토론이 아니라면 empty
+	 */
+	public Optional<Debate> findLoadedDebate(Long debateId) {
+		return getLatestDebate().filter(debate -> debate.getId().equals(debateId));
+	}
+}
@@ -0,0 +1,26 @@
+package goorm.eagle7.stelligence.domain.contribute.dto;
+
+import java.time.LocalDateTime;
+
+import goorm.eagle7.stelligence.common.util.ETagUtils;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+
+/**
+ * 수정요청 조회 응답의 ETag를 계산하기 위한 버전 정보입니다.
+ *
+ * <p>수정요청의 응답에는 조회 시점의 문서 제목과 상위 문서가 함께 포함되므로 문서의 수정 시각도 함께 사용합니다.
+ * 상태는 일괄 변경 쿼리로 바뀌는 경우 수정 시각에 반영되지 않으므로 따로 포함합니다.
+ * 수정요청자의 프로필은 버전으로 추적하지 않으므로 약한 ETag를 사용합니다.
+ */
+public record ContributeVersion(
+	ContributeStatus status,
+	LocalDateTime updatedAt,
+	LocalDateTime documentUpdatedAt,
+	LocalDateTime parentDocumentUpdatedAt
+) {
+
+	public String eTag(Long contributeId) {
+		return ETagUtils.weak("contribute", contributeId, status, updatedAt, documentUpdatedAt,
+			parentDocumentUpdatedAt);
+	}
+}
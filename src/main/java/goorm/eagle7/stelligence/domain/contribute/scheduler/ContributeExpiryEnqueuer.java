@@ -0,0 +1,31 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.contribute.event.NewContributeEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수정요청이 생성되면 투표 종료 시각에 처리될 수 있도록 만료 큐에 추가하는 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class ContributeExpiryEnqueuer {
+
+	private final ContributeRepository contributeRepository;
+	private final ContributeExpiryQueue contributeExpiryQueue;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(value = NewContributeEvent.class)
+	public void onContributeNew(NewContributeEvent event) {
+		contributeRepository.findById(event.contributeId())
+			.ifPresent(contribute ->
+				contributeExpiryQueue.addAll(Map.of(contribute.getId(), contribute.getEndAt())));
+	}
+}
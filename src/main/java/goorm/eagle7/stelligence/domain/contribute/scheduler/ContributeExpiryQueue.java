@@ -0,0 +1,98 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 투표 기간이 끝나는 시각을 기준으로 수정요청을 꺼내는 지연 큐입니다.
+ *
+ * <p>Redis의 sorted set에 수정요청 ID를 투표 종료 시각(epoch millis)을 score로 하여 저장합니다.
+ * {@link #claimDue}는 종료 시각이 지난 수정요청을 조회함과 동시에 큐에서 제거하는 동작을 Lua 스크립트로 원자적으로 수행하므로,
+ * 여러 서버가 동시에 큐를 확인하더라도 하나의 수정요청은 하나의 서버에서만 꺼내집니다.
+ *
+ * <p>Redis에 접근할 수 없는 경우 예외를 전파하지 않습니다. 큐에 추가하지 못한 수정요청은
+ * {@link SchedulingTargetContributeExtractor#recover}를 통해 다시 추가되거나 직접 처리됩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ContributeExpiryQueue {
+
+	private static final String KEY = "contribute:expiry";
+
+	/**
+	 * score가 현재 시각 이하인 멤버를 최대 limit개 조회한 뒤 제거합니다.
+	 */
+	private static final RedisScript<List> CLAIM_DUE = new DefaultRedisScript<>(
+		"local members = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+			+ "if #members > 0 then "
+			+ "redis.call('ZREM', KEYS[1], unpack(members)) "
+			+ "end "
+			+ "return members",
+		List.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 수정요청들을 큐에 추가합니다. 이미 큐에 존재하는 수정요청은 종료 시각을 변경하지 않습니다.
+	 * @param deadlines 수정요청 ID별 투표 종료 시각
+	 * @return 큐에 추가하는 데 성공했다면 true
+	 */
+	public boolean addAll(Map<Long, LocalDateTime> deadlines) {
+		if (deadlines.isEmpty()) {
+			return true;
+		}
+
+		Set<ZSetOperations.TypedTuple<String>> tuples = deadlines.entrySet().stream()
+			.map(entry -> new DefaultTypedTuple<>(String.valueOf(entry.getKey()), toScore(entry.getValue())))
+			.collect(Collectors.toSet());
+
+		try {
+			redisTemplate.opsForZSet().addIfAbsent(KEY, tuples);
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("수정요청을 만료 큐에 추가하지 못했습니다. 수정요청 ID: {}, {}", deadlines.keySet(), e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 투표 종료 시각이 지난 수정요청을 큐에서 꺼냅니다.
+	 * @param now 현재 시각
+	 * @param limit 한 번에 꺼낼 최대 개수
+	 * @return 꺼낸 수정요청 ID 목록, Redis에 접근할 수 없다면 빈 목록
+	 */
+	public List<Long> claimDue(LocalDateTime now, int limit) {
+		try {
+			List<?> members = redisTemplate.execute(CLAIM_DUE, List.of(KEY),
+				String.valueOf(toScore(now).longValue()), String.valueOf(limit));
+			if (members == null) {
+				return List.of();
+			}
+			return members.stream().map(member -> Long.valueOf(member.toString())).toList();
+		} catch (DataAccessException e) {
+			log.debug("만료 큐에서 수정요청을 꺼내지 못했습니다. {}", e.getMessage());
+			return List.of();
+		}
+	}
+
+	private static Double toScore(LocalDateTime dateTime) {
+		return (double)dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -1,42 +1,81 @@
 package goorm.eagle7.stelligence.domain.contribute.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import goorm.eagle7.stelligence.common.util.RetryUtils;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 투표 기간이 끝난 수정 요청을 찾아 토론을 생성하거나 병합을 수행하는 스케쥴러입니다.
  *
- * <p>스케쥴링 주기는 contribute.scheduler.scheduling-interval-ms 프로퍼티를 통해 설정할 수 있으며,
- * 기본값은 10분입니다. fixed rate 정책을 사용하여 스케쥴링 작업의 종료시간과 상관없이 고정된 시간마다 작업이 수행됩니다.
+ * <p>투표 기간이 끝난 수정요청은 {@link ContributeExpiryQueue}에서 contribute.scheduler.polling-interval-ms
+ * (기본값 1초) 주기로 꺼내어 처리하므로, 투표 종료 직후 곧바로 처리됩니다.
+ * 큐에서 누락된 수정요청의 복구는 contribute.scheduler.scheduling-interval-ms (기본값 10분) 주기로 수행되며,
+ * fixed rate 정책에 의해 서버가 시작될 때 가장 먼저 수행됩니다.
  *
  * <p> 각각의 수정요청은 {@link ContributeSchedulingActionDeterminer}를 통해 병합, 토론, 반려 중의 행동이 결정됩니다.
  * 이후 각각의 핸들러를 통해 관련 작업이 수행됩니다. 핸들러는 생성자로 받아 Map에 저장하는데, 이 과정 때문에
  * RequiredArgsConstructor 대신 생성자를 직접 작성하였습니다.
+ *
+ * <p>수정요청은 문서 단위로 나누어 contribute.scheduler.worker-count 크기의 스레드 풀에서 병렬로 처리합니다.
+ * 같은 문서에 대한 수정요청은 하나의 작업 안에서 ID 순서대로 처리되므로 서로 동시에 병합되지 않으며,
+ * 서로 다른 문서의 수정요청만이 동시에 처리됩니다. 스케쥴러는 모든 작업이 끝날 때까지 기다리므로
+ * 다음 스케쥴링과 작업이 겹치지 않습니다.
+ *
+ * <p>문서와 토론은 낙관적 락을 사용하므로, 다른 트랜잭션과 충돌한 처리는 {@link RetryUtils}를 통해 다시 수행됩니다.
  */
 @Slf4j
 @Component
 public class ContributeScheduler {
 
+	private static final String QUEUE_DEPTH_GAUGE = "contribute.scheduler.queue.depth";
+	private static final String ACTION_TIMER = "contribute.scheduler.action";
+	private static final String FAILURE_COUNTER = "contribute.scheduler.failures";
+	private static final String UNKNOWN_ACTION = "UNKNOWN";
+
 	private final ContributeSchedulingActionDeterminer contributeConditionChecker;
 	private final Map<ContributeSchedulingAction, ContributeSchedulingActionHandler> handlers;
 	private final SchedulingTargetContributeExtractor schedulingTargetContributeExtractor;
+	private final MeterRegistry meterRegistry;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 처리를 기다리거나 처리 중인 수정요청의 개수입니다.
+	 */
+	private final AtomicInteger pendingContributes = new AtomicInteger();
 
 	public ContributeScheduler(
 		ContributeSchedulingActionDeterminer contributeConditionChecker,
 		MergeHandler mergeHandler,
 		DebateHandler debateHandler,
 		RejectHandler rejectHandler,
-		SchedulingTargetContributeExtractor schedulingTargetContributeExtractor
+		SchedulingTargetContributeExtractor schedulingTargetContributeExtractor,
+		MeterRegistry meterRegistry,
+		@Value("${contribute.scheduler.worker-count:4}") int workerCount
 	) {
 		this.contributeConditionChecker = contributeConditionChecker;
 		this.schedulingTargetContributeExtractor = schedulingTargetContributeExtractor;
+		this.meterRegistry = meterRegistry;
 
 		//매핑을 통해 ContributeSchedulingAction에 따른 핸들러를 가져올 수 있도록 한다.
 		this.handlers = Map.of(
@@ -44,25 +83,106 @@ public class ContributeScheduler {
 			ContributeSchedulingAction.DEBATE, debateHandler,
 			ContributeSchedulingAction.REJECT, rejectHandler
 		);
+
+		this.executor = Executors.newFixedThreadPool(workerCount, workerThreadFactory());
+		meterRegistry.gauge(QUEUE_DEPTH_GAUGE, pendingContributes);
 	}
 
-	@Scheduled(fixedRateString = "${contribute.scheduler.scheduling-interval-ms:600000}")
+	@Scheduled(fixedDelayString = "${contribute.scheduler.polling-interval-ms:1000}")
 	public void scheduleContribute() {
-		log.info("ContributeScheduler가 수행됩니다.");
-
-		// 현재 시간을 기준으로 스케쥴링의 대상이 되는 Contribute를 가져온다.
+		// 투표 종료 시각이 지난 Contribute를 만료 큐에서 가져온다.
 		List<Contribute> contributes = schedulingTargetContributeExtractor.extractContributes(LocalDateTime.now());
+		if (contributes.isEmpty()) {
+			return;
+		}
+
+		log.info("ContributeScheduler가 수행됩니다.");
 		log.debug("스케쥴링 대상 Contribute ID : {}", contributes.stream().map(Contribute::getId).toList());
 
-		// 가져온 Contribute들에 대하여 병합, 토론, 반려를 수행한다.
-		for (Contribute contribute : contributes) {
+		process(contributes);
+	}
+
+	/**
+	 * 만료 큐에서 누락된 수정요청을 복구합니다.
+	 * 만료 큐를 사용할 수 없다면 투표 기간이 끝난 수정요청을 직접 처리합니다.
+	 */
+	@Scheduled(fixedRateString = "${contribute.scheduler.scheduling-interval-ms:600000}")
+	public void recoverContributes() {
+		List<Contribute> contributes = schedulingTargetContributeExtractor.recover(LocalDateTime.now());
+		if (!contributes.isEmpty()) {
+			log.debug("직접 처리할 Contribute ID : {}", contributes.stream().map(Contribute::getId).toList());
+			process(contributes);
+		}
+	}
+
+	/**
+	 * 수정요청들을 문서 단위로 나누어 병렬로 처리하고, 모든 처리가 끝날 때까지 기다립니다.
+	 * @param contributes 처리할 수정요청 목록
+	 */
+	void process(List<Contribute> contributes) {
+		// 같은 문서에 대한 수정요청은 하나로 묶어 ID 순서대로 처리한다.
+		Map<Long, List<Contribute>> partitions = contributes.stream()
+			.sorted(Comparator.comparing(Contribute::getId))
+			.collect(Collectors.groupingBy(
+				contribute -> contribute.getDocument().getId(),
+				LinkedHashMap::new,
+				Collectors.toList()
+			));
+
+		pendingContributes.addAndGet(contributes.size());
+
+		List<Future<?>> futures = partitions.values().stream()
+			.<Future<?>>map(partition -> executor.submit(() -> partition.forEach(this::handle)))
+			.toList();
+
+		for (Future<?> future : futures) {
 			try {
-				ContributeSchedulingAction action = contributeConditionChecker.check(contribute);
-				handlers.get(action).handle(contribute.getId());
-			} catch (Exception e) {
-				log.error("정상적으로 처리되지 못한 수정요청이 존재합니다. 수정요청 ID: {}", contribute.getId(), e);
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("ContributeScheduler가 작업을 기다리는 도중 중단되었습니다.");
+				return;
+			} catch (ExecutionException e) {
+				log.error("ContributeScheduler의 작업이 비정상적으로 종료되었습니다.", e.getCause());
 			}
 		}
 	}
 
+	/**
+	 * 하나의 수정요청에 대해 병합, 토론, 반려를 수행합니다.
+	 * 실패하더라도 예외를 전파하지 않아 같은 문서의 다음 수정요청은 계속 처리됩니다.
+	 * @param contribute 처리할 수정요청
+	 */
+	private void handle(Contribute contribute) {
+		String actionName = UNKNOWN_ACTION;
+		try {
+			ContributeSchedulingAction action = contributeConditionChecker.check(contribute);
+			actionName = action.name();
+
+			Timer.Sample sample = Timer.start(meterRegistry);
+			// 같은 문서의 섹션 순서 재배치 등과 충돌한 경우 새로운 트랜잭션에서 다시 수행한다.
+			RetryUtils.retryOnOptimisticLockFailure(() -> handlers.get(action).handle(contribute.getId()));
+			sample.stop(meterRegistry.timer(ACTION_TIMER, "action", actionName));
+		} catch (Exception e) {
+			meterRegistry.counter(FAILURE_COUNTER, "action", actionName).increment();
+			log.error("정상적으로 처리되지 못한 수정요청이 존재합니다. 수정요청 ID: {}", contribute.getId(), e);
+		} finally {
+			pendingContributes.decrementAndGet();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNumber = new AtomicInteger(1);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "contribute-scheduler-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
 }
@@ -27,13 +27,21 @@ public class DebateHandler implements ContributeSchedulingActionHandler {
 	/**
 	 * 수정요청을 토론으로 전환합니다.
 	 * 이때의 수정요청은 투표중인 상태여야합니다.
+	 *
+	 * <p>여러 서버가 같은 수정요청을 동시에 처리하는 경우 토론이 중복으로 생성되지 않도록,
+	 * 수정요청에 쓰기 잠금을 건 뒤 상태를 다시 확인하고 이미 처리된 수정요청은 건너뜁니다.
 	 * @param contributeId: 토론으로 전환할 수정 요청의 ID
 	 */
 	@Override
 	@Transactional
 	public void handle(Long contributeId) {
 		log.info("Contribute {} debate open", contributeId);
-		Contribute contribute = contributeRepository.findById(contributeId).orElseThrow();
+		Contribute contribute = contributeRepository.findByIdForUpdate(contributeId).orElse(null);
+		if (contribute == null || !contribute.isVoting()) {
+			log.info("Contribute {} is already handled", contributeId);
+			return;
+		}
+
 		Debate debate = Debate.openFrom(contribute);
 		Debate createdDebate = debateRepository.save(debate);
 
@@ -1,23 +1,34 @@
 package goorm.eagle7.stelligence.domain.contribute.scheduler;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.event.ContributeMergedEvent;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.AmendmentMergeTemplateMapper;
+import goorm.eagle7.stelligence.domain.contribute.scheduler.template.SectionOrderPlanner;
 import goorm.eagle7.stelligence.domain.document.DocumentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Section;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,9 +41,14 @@ import lombok.extern.slf4j.Slf4j;
 public class MergeHandler implements ContributeSchedulingActionHandler {
 
 	private final AmendmentMergeTemplateMapper amendmentMergeTemplateMapper;
+	private final SectionOrderPlanner sectionOrderPlanner;
+	private final SectionIdGenerator sectionIdGenerator;
+	private final SectionRepository sectionRepository;
 	private final ContributeRepository contributeRepository;
+	private final DocumentContentRepository documentRepository;
 	private final CacheManager cacheManager;
 	private final DocumentService documentService;
+	private final DocumentContentService documentContentService;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
@@ -55,9 +71,14 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 	/**
 	 * Contribute의 Amendment들을 원본에 반영합니다.
 	 *
-	 * <p><b>CACHE EVICTION</b> 이 메서드가 수행되면 해당 문서 내용의 캐시가 삭제됩니다.
-	 * 기존에는 @CacheEvict 애노테이션을 사용했으나, 현재는 파라미터인 contributeId만으로 삭제할 캐시의
-	 * 고유 ID를 알 수 없어서 CacheManager를 통해 직접 삭제하도록 변경하였습니다.
+	 * <p><b>CACHE WRITE-THROUGH</b> 이 메서드가 수행되면 병합된 문서 내용으로 캐시를 교체합니다.
+	 * 캐시를 삭제하면 병합 직후 처음 조회하는 사용자가 문서 전체를 다시 조회하는 비용을 부담하게 되므로,
+	 * 병합 트랜잭션 안에서 새 문서 내용을 만들어두고 트랜잭션이 커밋된 이후 캐시에 저장합니다.
+	 * 단, 캐시되어 있지 않은 문서는 다시 조회하지 않고 캐시를 삭제만 합니다.
+	 * 파라미터인 contributeId만으로는 캐시의 고유 ID를 알 수 없어서 CacheManager를 통해 직접 저장합니다.
+	 *
+	 * <p>여러 서버가 같은 Contribute를 동시에 처리하는 경우 중복으로 병합되지 않도록,
+	 * Contribute에 쓰기 잠금을 건 뒤 상태를 다시 확인하고 이미 처리된 Contribute는 건너뜁니다.
 	 *
 	 * @see DocumentContentService#getDocument(Long) 문서의 캐시가 생성되는 메서드
 	 * @param contributeId 반영할 Contribute의 ID
@@ -67,21 +88,33 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 	public void handle(Long contributeId) {
 		log.info("Contribute {} is merging", contributeId);
 
+		//다른 서버가 같은 Contribute를 처리 중이라면 끝날 때까지 기다린 뒤, 이미 처리되었다면 병합하지 않습니다.
+		Contribute claimed = contributeRepository.findByIdForUpdate(contributeId).orElse(null);
+		if (claimed == null || !claimed.isVoting()) {
+			log.info("Contribute {} is already handled", contributeId);
+			return;
+		}
+
 		//Contribute를 가져옵니다.
 		log.trace("contribute를 가져옵니다.");
 		Contribute contribute = contributeRepository.findByIdWithAmendmentsAndMember(contributeId).orElseThrow();
 
-		log.trace("contribute의 document를 가져옵니다.");
-		Document document = contribute.getDocument();
+		//섹션을 변경하기 전에 문서의 행을 먼저 잠급니다.
+		//섹션 순서의 재배치도 문서의 version을 먼저 갱신한 뒤 섹션을 변경하므로, 같은 순서로 잠금을 얻어 교착 상태를 피합니다.
+		log.trace("contribute의 document를 잠금과 함께 가져옵니다.");
+		Document document = documentRepository.findByIdForUpdate(contribute.getDocument().getId()).orElseThrow();
 
 		log.trace("contribute를 순회하며 정렬 후 Merge를 수행합니다.");
-		contribute.getAmendments()
+		List<Amendment> amendments = contribute.getAmendments()
 			.stream()
 			.sorted(AMENDMENT_COMPARATOR) //정렬
-			// 각각의 amendment에 대하여 Merge 로직을 가지고 있는 template를 찾아서 실행합니다.
-			.forEach(amendment -> amendmentMergeTemplateMapper.getTemplateForType(amendment.getType())
-				.handle(document, amendment)
-			);
+			.toList();
+
+		//새로 생성될 섹션의 순서를 계산하고, 필요한 경우 기존 섹션의 순서 변경을 한 번에 반영합니다.
+		Map<Amendment, Integer> creatingOrders = sectionOrderPlanner.applyCreatingOrders(document, amendments);
+
+		//모든 수정안으로부터 새로운 revision의 섹션을 메모리에서 만든 뒤 한 번에 저장합니다.
+		mergeSections(document, amendments, creatingOrders);
 
 		//Document의 제목을 변경합니다.
 		if (!contribute.getAfterDocumentTitle().equals(contribute.getBeforeDocumentTitle())) {
@@ -100,13 +133,15 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 		}
 
 		//문서의 현재 revision을 증가시킵니다.
+		//flush 시 문서의 version을 조건으로 갱신되므로, 잠금을 얻기 전에 읽은 내용이 그 사이 바뀌었다면
+		//트랜잭션 전체가 롤백되고 ContributeScheduler가 다시 시도합니다.
 		document.incrementLatestRevision();
 
 		//Contribute의 상태를 MERGED로 변경합니다.
 		contribute.setStatusMerged();
 
-		//cache를 삭제합니다.
-		evictCache(document.getId());
+		//cache를 병합된 내용으로 교체합니다.
+		refreshCache(document.getId());
 
 		//이벤트를 발행합니다.
 		applicationEventPublisher.publishEvent(new ContributeMergedEvent(contribute.getId()));
@@ -114,17 +149,96 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 	}
 
 	/**
-	 * 해당 문서의 캐시를 삭제합니다.
-	 * @param documentId 캐시를 삭제할 문서의 ID
+	 * 수정안들로부터 새로운 revision의 섹션을 생성하여 한 번에 저장합니다.
+	 *
+	 * <p>각 템플릿은 저장되지 않은 섹션만을 생성하고, 생성된 섹션은 하나의 batch insert로 저장됩니다.
+	 * 최신 버전 조회를 위한 프로젝션도 새로 생성된 섹션은 batch insert로, 수정되거나 삭제된 섹션은 batch update로 갱신합니다.
+	 * CREATE 수정안으로 생성될 섹션의 ID도 수정안마다 할당받지 않고 한 번에 할당받습니다.
+	 * 따라서 수정안의 개수와 관계없이 수행되는 쿼리의 수가 일정합니다.
+	 *
+	 * @param document 병합 대상 문서
+	 * @param amendments 병합 순서대로 정렬된 수정안 목록
+	 * @param creatingOrders CREATE 수정안으로 생성될 섹션의 순서
+	 */
+	private void mergeSections(Document document, List<Amendment> amendments, Map<Amendment, Integer> creatingOrders) {
+		List<Section> mergedSections = new ArrayList<>(amendments.size());
+		List<Section> createdSections = new ArrayList<>();
+		List<Section> revisedSections = new ArrayList<>();
+
+		//CREATE 수정안으로 생성될 섹션의 ID를 한 번에 할당받습니다.
+		int createCount = (int)amendments.stream()
+			.filter(amendment -> amendment.getType() == AmendmentType.CREATE)
+			.count();
+		Iterator<Long> creatingIds = sectionIdGenerator.allocate(createCount).iterator();
+
+		// 각각의 amendment에 대하여 Merge 로직을 가지고 있는 template를 찾아서 섹션을 생성합니다.
+		// CREATE가 아닌 수정안은 대상 섹션의 ID와 순서를 그대로 따릅니다.
+		for (Amendment amendment : amendments) {
+			Long sectionId = amendment.getType() == AmendmentType.CREATE
+				? creatingIds.next()
+				: amendment.getTargetSection().getId();
+			Section section = amendmentMergeTemplateMapper.getTemplateForType(amendment.getType())
+				.handle(document, amendment, sectionId,
+					creatingOrders.getOrDefault(amendment, amendment.getTargetSection().getOrder()));
+
+			mergedSections.add(section);
+			if (amendment.getType() == AmendmentType.CREATE) {
+				createdSections.add(section);
+			} else {
+				revisedSections.add(section);
+			}
+		}
+
+		if (mergedSections.isEmpty()) {
+			return;
+		}
+
+		sectionRepository.insertSections(mergedSections);
+		if (!createdSections.isEmpty()) {
+			sectionRepository.insertDocumentHeadSections(createdSections);
+		}
+		if (!revisedSections.isEmpty()) {
+			sectionRepository.updateDocumentHeadSections(revisedSections);
+		}
+
+		log.debug("섹션 병합 - documentId: {}, 생성: {}, 수정 및 삭제: {}", document.getId(), createdSections.size(),
+			revisedSections.size());
+	}
+
+	/**
+	 * 해당 문서의 캐시를 병합된 내용으로 교체합니다.
+	 * CacheManager가 제공하는 캐시는 트랜잭션을 인식하므로, 실제 저장은 커밋 이후에 수행됩니다.
+	 *
+	 * <p>병합될 때마다 문서 전체를 다시 조회하지 않도록, 이미 캐시된 문서만 새 내용으로 교체합니다.
+	 * 캐시되지 않은 문서는 다른 서버의 로컬 캐시에 남아있을 수 있는 이전 내용만 삭제합니다.
+	 * @param documentId 캐시를 교체할 문서의 ID
 	 */
-	private void evictCache(Long documentId) {
+	private void refreshCache(Long documentId) {
 		Cache cache = cacheManager.getCache("document");
-		if (cache != null) {
+		if (cache == null) {
+			log.debug("document cache not found. documentId : {}", documentId);
+			return;
+		}
+
+		if (!isCached(cache, documentId)) {
 			cache.evict(documentId);
 			log.debug("document cache evicted. documentId : {}", documentId);
-		} else {
-			log.debug("document cache not found. documentId : {}", documentId);
+			return;
 		}
+
+		//문서의 수정 시각이 캐시될 응답의 버전 정보에 반영되도록 변경사항을 먼저 flush합니다.
+		documentRepository.flush();
+		DocumentResponse document = documentContentService.loadLatestDocument(documentId);
+		cache.put(documentId, document);
+		log.debug("document cache refreshed. documentId : {}", documentId);
 	}
-}
 
+	private boolean isCached(Cache cache, Long documentId) {
+		try {
+			return cache.get(documentId) != null;
+		} catch (DataAccessException e) {
+			log.warn("문서의 캐시 여부를 확인하지 못했습니다. documentId : {}, {}", documentId, e.getMessage());
+			return false;
+		}
+	}
+}
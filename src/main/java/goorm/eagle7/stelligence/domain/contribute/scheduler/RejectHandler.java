@@ -21,11 +21,23 @@ public class RejectHandler implements ContributeSchedulingActionHandler {
 	private final ContributeRepository contributeRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
+	/**
+	 * 수정요청을 반려합니다.
+	 *
+	 * <p>여러 서버가 같은 수정요청을 동시에 처리하는 경우 반려 이벤트가 중복으로 발행되지 않도록,
+	 * 수정요청에 쓰기 잠금을 건 뒤 상태를 다시 확인하고 이미 처리된 수정요청은 건너뜁니다.
+	 * @param contributeId 반려할 수정 요청의 ID
+	 */
 	@Override
 	@Transactional
 	public void handle(Long contributeId) {
+		Contribute contribute = contributeRepository.findByIdForUpdate(contributeId).orElse(null);
+		if (contribute == null || !contribute.isVoting()) {
+			log.info("Contribute {} is already handled", contributeId);
+			return;
+		}
+
 		log.debug("Contribute {} is rejected.", contributeId);
-		Contribute contribute = contributeRepository.findById(contributeId).orElseThrow();
 		contribute.setStatusRejected();
 
 		applicationEventPublisher.publishEvent(new ContributeRejectedEvent(contributeId));
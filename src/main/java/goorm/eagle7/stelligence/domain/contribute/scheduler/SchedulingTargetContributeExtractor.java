@@ -2,86 +2,108 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * SchedulingTargetContributeExtractor
  * ContributeScheduler가 실행될 때, 실행 대상이 되는 Contribute를 가져오는 역할을 한다.
+ *
+ * <p>기존에는 일정 주기마다 createdAt이 특정 시간 범위에 속하는 Contribute를 조회했다.
+ * 이 방식은 투표가 최대 스케쥴링 주기만큼 늦게 종료되며, 누락을 막기 위해 시간 범위를 겹치게 조회해야 했다.
+ * 현재는 {@link ContributeExpiryQueue}에 투표 종료 시각을 기준으로 Contribute를 넣어두고,
+ * 종료 시각이 지난 Contribute만을 꺼내 처리한다.
  */
 @Slf4j
 @Component
 public class SchedulingTargetContributeExtractor {
 
 	private final ContributeRepository contributeRepository;
+	private final ContributeExpiryQueue contributeExpiryQueue;
 
-	// 투표 만료 시간
-	private final long voteExpirationMinutes;
+	// 한 번에 꺼낼 최대 Contribute 개수
+	private final int batchSize;
 
-	// 스케쥴링 간격
-	private final long schedulingIntervalSeconds;
-
-	// 스케쥴링 중복 시간
-	private final long overlapMinutes;
+	// 큐에서 꺼내진 뒤 처리 중일 수 있는 Contribute를 다시 큐에 넣지 않기 위한 유예 시간
+	private final long recoveryGraceMinutes;
 
 	public SchedulingTargetContributeExtractor(
 		ContributeRepository contributeRepository,
-		@Value("${contribute.scheduler.scheduling-interval-ms:600000}")
-		long schedulingIntervalMilliSeconds,
-		@Value("${contribute.scheduler.overlap-minutes:5}")
-		long overlapMinutes
+		ContributeExpiryQueue contributeExpiryQueue,
+		@Value("${contribute.scheduler.batch-size:100}")
+		int batchSize,
+		@Value("${contribute.scheduler.recovery-grace-minutes:5}")
+		long recoveryGraceMinutes
 	) {
 		this.contributeRepository = contributeRepository;
-		this.voteExpirationMinutes = Contribute.VOTE_DURATION_MINUTE;
-		this.schedulingIntervalSeconds = schedulingIntervalMilliSeconds / 1000;
-		this.overlapMinutes = overlapMinutes;
+		this.contributeExpiryQueue = contributeExpiryQueue;
+		this.batchSize = batchSize;
+		this.recoveryGraceMinutes = recoveryGraceMinutes;
 	}
 
 	/**
-	 * Contribute 중 파라미터로 받은 시간을 기준으로 스케쥴링의 대상이 되는 Contribute를 가져온다.
-	 *
-	 * <p>스케쥴링의 대상은 다음과 같이 결정한다.<br>
-	 * ex)
-	 * 투표 기간이 1시간이고 스케쥴링 간격이 10분이라고 할 때, 현재 시각이 10:00이라면
-	 * 8:50 ~ 9:00 사이에 생성된 Contribute를 가져와 처리한다.
-	 *
-	 * <p>from 의 시간에 overlap time 만큼을 더 빼주는 이유<br>
-	 * 스케쥴링이 완벽하게 재시간에 동작한다는 보장이 안되기 때문에,
-	 * 상황에 따라서 누락되는 Contribute가 있을 수 있다.
-	 *
-	 * <p>ex) 10:00:00에 스케쥴링이 동작하고, 10:10:00 에 스케쥴링이 동작한다고 가정하자.
-	 * 첫 스케쥴링 에는 8:50:00 ~ 9:00:00 사이에 생성된 Contribute를 가져왔다.
-	 * 하지만 두번째 스케쥴링은 서버 상황으로 인한 지연에 의해서 10:10:10 에 쿼리를 실행한다.
-	 * 이 경우 9:00:10 ~ 9:10:10 사이에 생성된 Contribute를 가져오게 된다.
-	 * 따라서 9:00:10 ~ 9:10:10 사이에 생성된 Contribute들은 누락된다.
+	 * 투표 종료 시각이 지난 Contribute를 큐에서 꺼내 가져온다.
 	 *
-	 * <p>이러한 문제를 해결하기 위한 방법은 여러가지가 있다.<br>
-	 * <ol>
-	 *     <li>시간 범위를 오버랩시킨다: 시간 범위를 중복되게 만들어 간극을 커버하기</li>
-	 *     <li>상태 기록: 별도의 공간에 발생한 쿼리의 시간 정보를 저장하여 간극 없애기</li>
-	 * </ol>
-	 * 1번을 채택하기로 하고,
-	 * from 의 시간에 overlapMinutes 만큼을 더 빼주어 누락된 Contribute를 가져올 수 있도록 한다.
+	 * <p>큐에서 꺼낸 Contribute 중 이미 처리되어 투표중이 아닌 Contribute는 제외한다.
 	 *
 	 * @param now 현재 시간을 파라미터로 받을 것을 권장
 	 * @return 스케쥴링의 대상이 되는 Contribute
 	 */
 	List<Contribute> extractContributes(LocalDateTime now) {
+		List<Long> contributeIds = contributeExpiryQueue.claimDue(now, batchSize);
+		if (contributeIds.isEmpty()) {
+			return List.of();
+		}
+
+		log.debug("만료 큐에서 꺼낸 Contribute ID : {}", contributeIds);
+		return contributeRepository.findByIdInAndStatus(contributeIds, ContributeStatus.VOTING);
+	}
+
+	/**
+	 * 투표중인 Contribute를 만료 큐에 다시 추가한다.
+	 *
+	 * <p>서버가 시작될 때와 주기적으로 수행되며, 다음과 같은 경우에 큐에서 누락된 Contribute를 복구한다.
+	 * <ul>
+	 *     <li>Contribute가 생성된 직후 Redis에 접근할 수 없어 큐에 추가하지 못한 경우</li>
+	 *     <li>큐에서 꺼낸 뒤 처리하기 전에 서버가 종료된 경우</li>
+	 * </ul>
+	 *
+	 * <p>투표 종료 시각이 지난 지 recoveryGraceMinutes가 지나지 않은 Contribute는 다른 서버가 처리 중일 수 있으므로
+	 * 큐에 추가하지 않는다. 이미 큐에 존재하는 Contribute는 addIfAbsent에 의해 무시된다.
+	 *
+	 * <p>Redis에 접근할 수 없는 경우, 투표 종료 시각이 지난 Contribute를 반환하여 직접 처리할 수 있도록 한다.
+	 * 이 경우 모든 서버가 같은 Contribute를 반환하게 되지만, 각 핸들러가 Contribute에 쓰기 잠금을 건 뒤
+	 * 투표중인지 다시 확인하므로 하나의 서버만 처리하고 나머지는 건너뛴다.
+	 *
+	 * @param now 현재 시간
+	 * @return 큐에 추가하지 못해 직접 처리해야 하는 Contribute, 정상적으로 추가했다면 빈 목록
+	 */
+	List<Contribute> recover(LocalDateTime now) {
+		LocalDateTime graceFrom = now.minusMinutes(recoveryGraceMinutes);
+
+		List<Contribute> votingContributes = contributeRepository.findByStatus(ContributeStatus.VOTING);
 
-		LocalDateTime from = now
-			.minusMinutes(voteExpirationMinutes)
-			.minusSeconds(schedulingIntervalSeconds)
-			.minusMinutes(overlapMinutes);
+		Map<Long, LocalDateTime> deadlines = votingContributes.stream()
+			.filter(contribute -> contribute.getEndAt().isAfter(now) || !contribute.getEndAt().isAfter(graceFrom))
+			.collect(Collectors.toMap(Contribute::getId, Contribute::getEndAt));
 
-		LocalDateTime to = now.minusMinutes(voteExpirationMinutes);
+		if (contributeExpiryQueue.addAll(deadlines)) {
+			log.debug("만료 큐에 Contribute를 복구했습니다. Contribute ID : {}", deadlines.keySet());
+			return List.of();
+		}
 
-		log.debug("스케쥴링 대상 Contribute 추출 쿼리 실행 : {} ~ {}", from, to);
-		return contributeRepository.findByStatusIsVotingAndCreatedAtBetween(from, to);
+		log.warn("만료 큐를 사용할 수 없어 투표 기간이 끝난 Contribute를 직접 처리합니다.");
+		return votingContributes.stream()
+			.filter(contribute -> !contribute.getEndAt().isAfter(now))
+			.toList();
 	}
 
 }
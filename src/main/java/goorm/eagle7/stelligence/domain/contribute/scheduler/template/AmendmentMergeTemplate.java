@@ -2,51 +2,44 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
-import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 서로 다른 타입에 대하여 다르게 동작하는 병합과정을 분리해내고 공통적인 부분을 추출해낸 추상클래스입니다.
  *
- * <p>Template Method Pattern을 사용하여, 각 타입에 맞는 섹션의 생성은 createSection에서 수행하고
- * sectionRepository.save 메서드나 member.contributes 증가시키는 로직과 같이
- * 공통적으로 수행되어야 하는 코드는 이곳에서 수행됩니다.
+ * <p>Template Method Pattern을 사용하여, 각 타입에 맞는 섹션의 생성은 createSection에서 수행합니다.
+ * 생성된 섹션은 저장되지 않으며, MergeHandler가 수정요청의 모든 수정안으로부터 생성된 섹션을 모아
+ * 한 번의 batch insert로 저장하고 최신 버전 조회를 위한 프로젝션을 함께 갱신합니다.
+ *
+ * @see goorm.eagle7.stelligence.domain.contribute.scheduler.MergeHandler
  */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AmendmentMergeTemplate {
 
-	protected final SectionRepository sectionRepository;
-
 	/**
 	 * Amendment Type에 따라 서로 다른 방식의 Section을 생성합니다.
-	 * 이렇게 생성된 Section은 SectionRepository를 통해 저장됩니다.
 	 *
 	 * @param document 섹션이 생성될 Document
 	 * @param amendment 섹션을 생성하기 위한 정보를 담고 있는 Amendment
+	 * @param sectionId 생성될 섹션의 ID
+	 * @param order 생성될 섹션의 순서
 	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
 	 */
-	abstract Section createSection(Document document, Amendment amendment);
+	abstract Section createSection(Document document, Amendment amendment, Long sectionId, int order);
 
 	/**
-	 * Amendment Type에 따라 서로 다른 방식의 추가 작업을 수행합니다.
-	 * @param section 병합된 섹션
+	 * 수정안을 병합한 결과인 새로운 revision의 섹션을 생성합니다.
+	 * @param document 병합 대상 문서
+	 * @param amendment 병합할 수정안
+	 * @param sectionId 생성될 섹션의 ID, CREATE 수정안은 MergeHandler가 한 번에 할당받은 ID이며 나머지는 대상 섹션의 ID입니다.
+	 * @param order 생성될 섹션의 순서, CREATE 수정안은 SectionOrderPlanner가 계산한 순서이며 나머지는 대상 섹션의 순서입니다.
+	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
+	 * @see SectionOrderPlanner
 	 */
-	abstract void afterMerged(Section section);
-
-	public final void handle(Document document, Amendment amendment) {
+	public final Section handle(Document document, Amendment amendment, Long sectionId, int order) {
 		//템플릿에 따라 Section을 생성한다.
 		log.trace("템플릿에 따라 Section을 생성합니다.");
-		Section section = createSection(document, amendment);
-
-		//템플릿에 상관없이 공통적으로 섹션을 저장한다.
-		log.trace("생성한 섹션을 저장합니다.");
-		sectionRepository.save(section);
-
-		//템플릿에 따라 추가적인 작업을 수행한다.
-		log.trace("템플릿에 따라 추가적인 작업을 수행합니다.");
-		afterMerged(section);
+		return createSection(document, amendment, sectionId, order);
 	}
 }
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
-import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
 /**
@@ -13,10 +12,6 @@ import goorm.eagle7.stelligence.domain.section.model.Section;
 @Component
 public class DeleteAmendmentMergeTemplate extends AmendmentMergeTemplate {
 
-	public DeleteAmendmentMergeTemplate(SectionRepository sectionRepository) {
-		super(sectionRepository);
-	}
-
 	/**
 	 * 수정안의 정보를 바탕으로 새로운 섹션을 생성합니다.
 	 *
@@ -25,23 +20,20 @@ public class DeleteAmendmentMergeTemplate extends AmendmentMergeTemplate {
 	 *
 	 * @param document 섹션이 생성될 Document
 	 * @param amendment 섹션을 생성하기 위한 정보를 담고 있는 Amendment
+	 * @param sectionId 대상 섹션의 ID
+	 * @param order 대상 섹션의 순서
 	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
 	 */
 	@Override
-	Section createSection(Document document, Amendment amendment) {
+	Section createSection(Document document, Amendment amendment, Long sectionId, int order) {
 		return Section.createSection(
 			document,
-			amendment.getTargetSection().getId(),
+			sectionId, //기존 섹션의 ID를 그대로 사용합니다.
 			document.getLatestRevision() + 1,
 			null,
 			null,
 			null,
-			amendment.getTargetSection().getOrder()
+			order
 		);
 	}
-
-	@Override
-	void afterMerged(Section section) {
-		//do nothing
-	}
 }
@@ -0,0 +1,152 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수정요청의 CREATE 수정안들로 생성될 섹션의 순서를 정하고, 필요한 경우 기존 섹션들의 순서를 한 번에 변경합니다.
+ *
+ * <p>섹션의 순서는 {@link Section#ORDER_GAP} 간격으로 저장되므로, 새로운 섹션은 대상 섹션과 그 다음 섹션 사이의
+ * 빈 순서에 균등하게 배치됩니다. 빈 순서가 충분하다면 기존 섹션은 하나도 변경되지 않습니다.
+ *
+ * <p>같은 위치에 삽입이 반복되어 빈 순서가 부족해지면, 다음 섹션부터 필요한 만큼만 순서를 밀어냅니다.
+ * 밀어낸 섹션의 다음에 빈 순서가 있다면 그 이후의 섹션은 변경되지 않습니다. 간격 없이 연속된 순서를 가진 문서라면
+ * 이전처럼 삽입 위치 이후의 모든 섹션이 변경되며, 이러한 문서는
+ * {@link goorm.eagle7.stelligence.domain.section.order.SectionOrderRebalancer}가 주기적으로 다시 간격을 벌려둡니다.
+ *
+ * <p>계산된 순서는 수정안을 반영하기 전에 미리 적용됩니다. 수정안의 대상 섹션은 자신에게 삽입되는 섹션보다 앞에 있으므로
+ * 자신의 CREATE 수정안이 반영되는 시점부터 순서가 바뀌지 않습니다. 따라서 각 템플릿은 대상 섹션의 순서를 그대로 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SectionOrderPlanner {
+
+	private final SectionRepository sectionRepository;
+
+	/**
+	 * CREATE 수정안들로 생성될 섹션의 순서를 계산하고, 순서가 바뀌어야 하는 기존 섹션에 반영합니다.
+	 * @param document 병합 대상 문서, 최신 버전이 증가하기 전이어야 합니다.
+	 * @param sortedAmendments 병합 순서대로 정렬된 수정안 목록
+	 * @return CREATE 수정안과 그 수정안으로 생성될 섹션의 순서
+	 */
+	public Map<Amendment, Integer> applyCreatingOrders(Document document, List<Amendment> sortedAmendments) {
+		List<Amendment> creates = sortedAmendments.stream()
+			.filter(amendment -> amendment.getType() == AmendmentType.CREATE)
+			.toList();
+		if (creates.isEmpty()) {
+			return Map.of();
+		}
+
+		// 정렬된 CREATE 수정안의 대상 섹션의 순서는 감소하지 않으므로, 첫 번째 대상 섹션 이후의 섹션만 조회한다.
+		int firstTargetOrder = creates.get(0).getTargetSection().getOrder();
+		List<Section> sections = sectionRepository.findByVersionWhereOrderGreaterEqualThan(document,
+			document.getLatestRevision(), firstTargetOrder + 1);
+
+		OrderPlan plan = planOrders(sections, creates);
+		plan.changedOrders().forEach(Section::changeOrder);
+
+		log.debug("섹션 순서 계획 - documentId: {}, 삽입: {}, 변경된 섹션: {}", document.getId(), creates.size(),
+			plan.changedOrders().size());
+		return plan.creatingOrders();
+	}
+
+	/**
+	 * CREATE 수정안들로 생성될 섹션의 순서와, 순서가 바뀌어야 하는 기존 섹션의 최종 순서를 계산합니다.
+	 *
+	 * <p>같은 대상 섹션에 대한 m개의 CREATE 수정안은 대상 섹션과 다음 섹션 사이를 m+1등분한 위치에 배치됩니다.
+	 * 사이에 빈 순서가 m개보다 적다면 다음 섹션부터 순서를 밀어내며, 밀어낸 결과 이미 뒤의 섹션과 겹치지 않게 되면 멈춥니다.
+	 * 순서를 밀어내더라도 섹션들의 상대적인 순서는 유지되므로, 이후의 대상 섹션은 밀려난 순서를 기준으로 계산합니다.
+	 *
+	 * @param sections 대상 섹션보다 뒤에 있는 기존 섹션 목록
+	 * @param creates 병합 순서대로 정렬된 CREATE 수정안 목록
+	 * @return 생성될 섹션의 순서와 순서가 바뀌는 기존 섹션의 최종 순서
+	 * @throws IllegalStateException 문서의 마지막에 더 이상 순서를 할당할 수 없는 경우
+	 */
+	static OrderPlan planOrders(List<Section> sections, List<Amendment> creates) {
+		List<Section> sorted = new ArrayList<>(sections);
+		sorted.sort(Comparator.comparingInt(Section::getOrder));
+
+		Map<Section, Integer> indexes = new IdentityHashMap<>();
+		int[] orders = new int[sorted.size()];
+		for (int i = 0; i < sorted.size(); i++) {
+			indexes.put(sorted.get(i), i);
+			orders[i] = sorted.get(i).getOrder();
+		}
+
+		Map<Amendment, Integer> creatingOrders = new IdentityHashMap<>();
+		int next = 0; // sorted[next]는 현재 대상 섹션의 다음 섹션 후보
+
+		for (int from = 0; from < creates.size(); ) {
+			// 같은 대상 섹션에 대한 CREATE 수정안은 연속해서 정렬되어 있다.
+			Section target = creates.get(from).getTargetSection();
+			int to = from;
+			while (to < creates.size() && creates.get(to).getTargetSection() == target) {
+				to++;
+			}
+			int count = to - from;
+
+			Integer targetIndex = indexes.get(target);
+			long targetOrder = targetIndex == null ? target.getOrder() : orders[targetIndex];
+			while (next < orders.length && orders[next] <= targetOrder) {
+				next++;
+			}
+
+			long step;
+			if (next == orders.length) {
+				// 문서의 마지막에 삽입하는 경우 기본 간격만큼 벌려서 배치한다.
+				step = Math.min(Section.ORDER_GAP, (Integer.MAX_VALUE - targetOrder) / (count + 1));
+				if (step == 0) {
+					throw new IllegalStateException("섹션에 할당할 수 있는 순서가 없습니다. 순서의 재배치가 필요합니다.");
+				}
+				for (int i = 0; i < count; i++) {
+					creatingOrders.put(creates.get(from + i), (int)(targetOrder + step * (i + 1)));
+				}
+			} else {
+				// 빈 순서가 부족하다면 다음 섹션부터 필요한 만큼만 순서를 밀어낸다.
+				long required = targetOrder + count + 1;
+				for (int i = next; i < orders.length && orders[i] < required; i++) {
+					if (required > Integer.MAX_VALUE) {
+						throw new IllegalStateException("섹션에 할당할 수 있는 순서가 없습니다. 순서의 재배치가 필요합니다.");
+					}
+					orders[i] = (int)required++;
+				}
+
+				long span = orders[next] - targetOrder;
+				for (int i = 0; i < count; i++) {
+					creatingOrders.put(creates.get(from + i), (int)(targetOrder + span * (i + 1) / (count + 1)));
+				}
+			}
+
+			from = to;
+		}
+
+		Map<Section, Integer> changedOrders = new IdentityHashMap<>();
+		for (int i = 0; i < sorted.size(); i++) {
+			if (orders[i] != sorted.get(i).getOrder()) {
+				changedOrders.put(sorted.get(i), orders[i]);
+			}
+		}
+		return new OrderPlan(creatingOrders, changedOrders);
+	}
+
+	/**
+	 * @param creatingOrders CREATE 수정안과 그 수정안으로 생성될 섹션의 순서
+	 * @param changedOrders 순서가 바뀌는 기존 섹션과 그 최종 순서
+	 */
+	record OrderPlan(Map<Amendment, Integer> creatingOrders, Map<Section, Integer> changedOrders) {
+	}
+}
@@ -5,6 +5,9 @@ import java.util.List;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 import goorm.eagle7.stelligence.api.ResponseTemplate;
 import goorm.eagle7.stelligence.common.auth.memberinfo.Auth;
 import goorm.eagle7.stelligence.common.auth.memberinfo.MemberInfo;
+import goorm.eagle7.stelligence.common.util.ETagUtils;
 import goorm.eagle7.stelligence.domain.debate.dto.CommentRequest;
 import goorm.eagle7.stelligence.domain.debate.dto.CommentResponse;
 import goorm.eagle7.stelligence.domain.debate.dto.DebateOrderCondition;
@@ -67,11 +72,24 @@ public class DebateController {
 		useReturnTypeSchema = true
 	)
 	@GetMapping("/{debateId}")
-	public ResponseTemplate<DebateResponse> getDebateDetail(
+	public ResponseEntity<ResponseTemplate<DebateResponse>> getDebateDetail(
 		@Parameter(description = "조회할 토론의 ID", example = "1")
-		@PathVariable("debateId") Long debateId
+		@PathVariable("debateId") Long debateId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
-		return ResponseTemplate.ok(debateService.getDebateDetailById(debateId));
+		// 버전 정보가 일치하면 토론과 수정요청을 조회하지 않고 304 응답을 반환합니다.
+		String eTag = debateService.getDebateVersion(debateId)
+			.map(version -> version.eTag(debateId))
+			.orElse(null);
+		if (ETagUtils.matches(ifNoneMatch, eTag)) {
+			return ETagUtils.notModified(eTag);
+		}
+
+		DebateResponse debate = debateService.getDebateDetailById(debateId);
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(CacheControl.noCache())
+			.body(ResponseTemplate.ok(debate));
 	}
 
 	@Operation(summary = "토론 댓글 작성", description = "토론에 새로운 댓글을 작성합니다."
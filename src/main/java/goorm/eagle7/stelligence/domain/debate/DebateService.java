@@ -1,6 +1,7 @@
 package goorm.eagle7.stelligence.domain.debate;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -14,11 +15,13 @@ import goorm.eagle7.stelligence.domain.debate.dto.CommentResponse;
 import goorm.eagle7.stelligence.domain.debate.dto.DebateOrderCondition;
 import goorm.eagle7.stelligence.domain.debate.dto.DebatePageResponse;
 import goorm.eagle7.stelligence.domain.debate.dto.DebateResponse;
+import goorm.eagle7.stelligence.domain.debate.dto.DebateVersion;
 import goorm.eagle7.stelligence.domain.debate.event.NewCommentEvent;
 import goorm.eagle7.stelligence.domain.debate.model.Comment;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
 import goorm.eagle7.stelligence.domain.debate.repository.CommentRepository;
+import goorm.eagle7.stelligence.domain.debate.repository.CommentSequenceAllocator;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
@@ -34,6 +37,7 @@ public class DebateService {
 	private final DebateRepository debateRepository;
 	private final CommentRepository commentRepository;
 	private final MemberRepository memberRepository;
+	private final CommentSequenceAllocator commentSequenceAllocator;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
@@ -47,6 +51,15 @@ public class DebateService {
 		return DebateResponse.of(findDebate);
 	}
 
+	/**
+	 * 토론 상세 조회 응답의 ETag를 계산하기 위한 버전 정보를 조회합니다.
+	 * @param debateId: 조회할 토론의 ID
+	 * @return Optional&lt;DebateVersion&gt;: 존재하지 않는 토론이라면 empty
+	 */
+	public Optional<DebateVersion> getDebateVersion(Long debateId) {
+		return debateRepository.findVersionById(debateId);
+	}
+
 	/**
 	 * 토론의 상태(OPEN / CLOSED)에 따라 토론 리스트를 페이징을 적용하여 조회합니다.
 	 * 이때 정렬 기준(LATEST;최신토론순 / RECENT;최신댓글순)에 따라 정렬하여 페이징합니다.
@@ -65,6 +78,9 @@ public class DebateService {
 
 	/**
 	 * 특정 열린 토론에 댓글을 작성합니다.
+	 * <p>토론에 락을 걸지 않으며, 토론 엔티티도 변경하지 않습니다. 댓글의 sequence 발급과 토론 종료시간의 연장은
+	 * {@link CommentSequenceAllocator}가 DB에서 원자적으로 수행하므로, 같은 토론에 동시에 작성되는 댓글들은 서로 충돌하지 않고
+	 * 댓글을 저장하는 동안 토론의 락을 기다리지 않습니다.
 	 * @param commentRequest: 댓글 작성에 필요한 정보를 담은 요청 DTO
 	 * @param debateId: 댓글을 달 토론의 ID
 	 * @param loginMemberId: 현재 로그인한 회원의 ID
@@ -73,7 +89,7 @@ public class DebateService {
 	@Transactional
 	public List<CommentResponse> addComment(CommentRequest commentRequest, Long debateId, Long loginMemberId) {
 
-		Debate findDebate = debateRepository.findDebateByIdForUpdate(debateId)
+		Debate findDebate = debateRepository.findById(debateId)
 			.orElseThrow(() -> new BaseException("존재하지 않는 토론에 대한 댓글 작성요청입니다. Debate ID: " + debateId));
 
 		if (DebateStatus.CLOSED.equals(findDebate.getStatus())) {
@@ -83,7 +99,9 @@ public class DebateService {
 		Member loginMember = memberRepository.findById(loginMemberId)
 			.orElseThrow(() -> new BaseException("존재하지 않는 회원에 대한 댓글 작성요청입니다. Member ID: " + loginMemberId));
 
-		Comment comment = Comment.createComment(commentRequest.getContent(), findDebate, loginMember);
+		// 발급 시점에 토론이 닫혀있다면 예외가 발생합니다.
+		int sequence = commentSequenceAllocator.allocate(debateId, findDebate.calculateExtendedEndAt());
+		Comment comment = Comment.createComment(commentRequest.getContent(), findDebate, loginMember, sequence);
 		commentRepository.save(comment);
 
 		// 새 댓글 이벤트 발행
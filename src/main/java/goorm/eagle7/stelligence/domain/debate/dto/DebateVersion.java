@@ -0,0 +1,37 @@
+package goorm.eagle7.stelligence.domain.debate.dto;
+
+import java.time.LocalDateTime;
+
+import goorm.eagle7.stelligence.common.util.ETagUtils;
+import goorm.eagle7.stelligence.domain.contribute.dto.ContributeVersion;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
+
+/**
+ * 토론 조회 응답의 ETag를 계산하기 위한 버전 정보입니다.
+ *
+ * <p>토론의 상태와 종료 시각은 일괄 변경 쿼리로 바뀌어 수정 시각에 반영되지 않으므로 따로 포함하며,
+ * 응답에 포함되는 수정요청의 버전 정보를 함께 사용합니다.
+ */
+public record DebateVersion(
+	DebateStatus status,
+	LocalDateTime endAt,
+	LocalDateTime updatedAt,
+	ContributeVersion contribute
+) {
+
+	/**
+	 * JPQL 생성자 표현식에서 사용하는 생성자입니다.
+	 */
+	public DebateVersion(DebateStatus status, LocalDateTime endAt, LocalDateTime updatedAt,
+		ContributeStatus contributeStatus, LocalDateTime contributeUpdatedAt, LocalDateTime documentUpdatedAt,
+		LocalDateTime parentDocumentUpdatedAt) {
+		this(status, endAt, updatedAt,
+			new ContributeVersion(contributeStatus, contributeUpdatedAt, documentUpdatedAt, parentDocumentUpdatedAt));
+	}
+
+	public String eTag(Long debateId) {
+		return ETagUtils.weak("debate", debateId, status, endAt, updatedAt, contribute.status(),
+			contribute.updatedAt(), contribute.documentUpdatedAt(), contribute.parentDocumentUpdatedAt());
+	}
+}
@@ -40,16 +40,19 @@ public class Comment extends BaseTimeEntity {
 	@Column(name = "sequences")
 	private int sequence;
 
-	public static Comment createComment(String content, Debate debate, Member commenter) {
-		return new Comment(content, debate, commenter);
+	/**
+	 * 토론에 새로운 댓글을 생성합니다.
+	 * @param sequence CommentSequenceAllocator를 통해 발급된 댓글의 sequence
+	 */
+	public static Comment createComment(String content, Debate debate, Member commenter, int sequence) {
+		return new Comment(content, debate, commenter, sequence);
 	}
 
-	private Comment(String content, Debate debate, Member commenter) {
+	private Comment(String content, Debate debate, Member commenter, int sequence) {
 		this.content = content;
 		this.debate = debate;
 		this.commenter = commenter;
-		this.sequence = debate.getAndIncrementCommentSequence();
-		debate.updateEndAt();
+		this.sequence = sequence;
 		debate.getComments().add(this);
 	}
 
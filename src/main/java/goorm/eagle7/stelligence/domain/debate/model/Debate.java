@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import goorm.eagle7.stelligence.common.entity.BaseTimeEntity;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
@@ -18,6 +20,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -57,11 +60,21 @@ public class Debate extends BaseTimeEntity {
 	private DebateStatus status;
 
 	// 종료 예정 시각 (종료된 토론이라면 실제 종료된 시각)
+	// 댓글 작성 시 CommentSequenceAllocator가 DB에서 직접 연장하므로, 엔티티의 변경으로 덮어쓰지 않습니다.
+	@Column(updatable = false)
 	private LocalDateTime endAt;
 
-	// 댓글의 순서를 부여하기 위한 시퀀스
+	// 댓글의 순서를 부여하기 위한 시퀀스, 다음 댓글에 부여될 값입니다.
+	// CommentSequenceAllocator가 DB에서 원자적으로 증가시키므로, 엔티티의 변경으로 덮어쓰지 않습니다.
+	@Column(updatable = false)
 	private int commentSequence;
 
+	// 낙관적 락을 위한 버전, 토론의 변경과 토론 종료가 동시에 일어나더라도 서로의 변경을 덮어쓰지 않도록 합니다.
+	@Version
+	private Long version;
+
+	// 댓글이 추가되더라도 토론의 version은 증가하지 않습니다. 댓글 작성이 서로 충돌하지 않도록 합니다.
+	@OptimisticLock(excluded = true)
 	@OneToMany(mappedBy = "debate")
 	private List<Comment> comments = new ArrayList<>();
 
@@ -83,25 +96,22 @@ public class Debate extends BaseTimeEntity {
 	}
 
 	/**
-	 * 댓글이 업데이트 될때, 토론 종료시간도 업데이트됩니다.
+	 * 지금 댓글이 작성될 때 연장될 토론 종료시간을 계산합니다.
 	 * 단, 토론을 유지할 수 있는 최대 기간은 {@link #DEBATE_LIMIT_DURATION_MINUTE}분 입니다.
+	 * 연장된 종료시간은 {@link goorm.eagle7.stelligence.domain.debate.repository.CommentSequenceAllocator}를 통해 반영됩니다.
+	 * @return 연장될 토론 종료시간
 	 */
-	public void updateEndAt() {
+	public LocalDateTime calculateExtendedEndAt() {
 		LocalDateTime extendEndAt = LocalDateTime.now().plusMinutes(DEBATE_EXTENSION_DURATION_MINUTE);
 		LocalDateTime limitEndAt = this.createdAt.plusMinutes(DEBATE_LIMIT_DURATION_MINUTE);
 
 		if (extendEndAt.isBefore(limitEndAt)) {
-			this.endAt = extendEndAt;
+			return extendEndAt;
 		} else {
-			this.endAt = limitEndAt;
+			return limitEndAt;
 		}
 	}
 
-	// commentSequence를 사용하고 나면 commentSequence가 자동으로 업데이트됩니다.
-	public int getAndIncrementCommentSequence() {
-		return commentSequence++;
-	}
-
 	public boolean hasPermissionToWriteDrivenContribute(Long memberId) {
 		return comments
 			.stream()
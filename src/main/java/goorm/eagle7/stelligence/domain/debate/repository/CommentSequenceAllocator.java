@@ -0,0 +1,19 @@
+package goorm.eagle7.stelligence.domain.debate.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토론의 댓글에 부여할 sequence를 발급합니다.
+ */
+public interface CommentSequenceAllocator {
+
+	/**
+	 * 열린 토론의 다음 댓글 sequence를 발급하고, 토론의 종료 시각을 연장합니다.
+	 * 종료 시각의 연장은 토론마다 일정 주기로 모아서 반영되므로 호출할 때마다 반영되지 않을 수 있습니다.
+	 * @param debateId 댓글을 작성할 토론의 ID
+	 * @param extendedEndAt 댓글 작성으로 연장될 토론의 종료 시각
+	 * @return 발급된 sequence
+	 * @throws goorm.eagle7.stelligence.api.exception.BaseException 토론이 존재하지 않거나 이미 닫힌 경우
+	 */
+	int allocate(Long debateId, LocalDateTime extendedEndAt);
+}
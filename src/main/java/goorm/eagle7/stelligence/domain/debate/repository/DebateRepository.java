@@ -5,14 +5,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import goorm.eagle7.stelligence.domain.debate.dto.DebateVersion;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
-import jakarta.persistence.LockModeType;
 
 public interface DebateRepository extends JpaRepository<Debate, Long>, CustomDebateRepository {
 
@@ -29,23 +28,14 @@ public interface DebateRepository extends JpaRepository<Debate, Long>, CustomDeb
 		+ " where d.id = :debateId")
 	Optional<Debate> findByIdWithContributeWithoutAmendment(@Param("debateId") Long debateId);
 
-	/**
-	 * 토론의 sequence를 이용해 다음 댓글의 sequence를 얻기 위해 조회합니다.
-	 * 여러 사용자가 동시에 댓글 작성 요청을 보낼 때 같은 sequence를 갖지 못하도록 lock을 건 상태에서 조회합니다.
-	 * @param debateId: 조회하려는 토론의 ID
-	 * @return Optional<Debate>
-	 */
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query(value = "select d from Debate d where d.id = :debateId")
-	Optional<Debate> findDebateByIdForUpdate(@Param("debateId") Long debateId);
-
 	/**
 	 * 토론 ID 리스트를 입력받아 모두 한번에 CLOSED 상태로 변경하기 위한 쿼리입니다.
 	 * DebateScheduler에 의해 호출됩니다.
+	 * 토론의 version을 함께 증가시켜, 종료 이전에 조회된 토론을 변경하던 트랜잭션이 종료 상태를 덮어쓰지 못하도록 합니다.
 	 * @param debateIdList: CLOSED 상태로 변경할 토론 ID 리스트
 	 */
 	@Modifying
-	@Query("update Debate d"
+	@Query("update versioned Debate d"
 		+ " set d.status = goorm.eagle7.stelligence.domain.debate.model.DebateStatus.CLOSED"
 		+ " where d.id in :debateIdList")
 	void closeAllById(@Param("debateIdList") List<Long> debateIdList);
@@ -69,4 +59,18 @@ public interface DebateRepository extends JpaRepository<Debate, Long>, CustomDeb
 	 */
 	boolean existsByContributeDocumentIdAndStatus(Long documentId, DebateStatus status);
 
+	/**
+	 * 조회 응답의 ETag를 계산하기 위해 토론과 연관된 수정요청의 버전 정보만 조회합니다.
+	 * @param debateId: 조회하려는 토론의 ID
+	 * @return Optional&lt;DebateVersion&gt;: 토론의 버전 정보
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.debate.dto.DebateVersion("
+		+ "d.status, d.endAt, d.updatedAt, c.status, c.updatedAt, doc.updatedAt, p.updatedAt)"
+		+ " from Debate d"
+		+ " join d.contribute c"
+		+ " join c.document doc"
+		+ " left join doc.parentDocument p"
+		+ " where d.id = :debateId")
+	Optional<DebateVersion> findVersionById(@Param("debateId") Long debateId);
+
 }
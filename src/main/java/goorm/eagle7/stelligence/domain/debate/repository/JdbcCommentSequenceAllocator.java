@@ -0,0 +1,121 @@
+package goorm.eagle7.stelligence.domain.debate.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * debate 테이블의 comment_sequence를 DB에서 원자적으로 증가시켜 댓글의 sequence를 발급합니다.
+ *
+ * <p>토론을 조회하여 sequence를 증가시키려면 동시에 작성되는 댓글들이 같은 sequence를 갖지 않도록 토론에 락을 걸어야 하고,
+ * 락은 댓글이 저장되는 트랜잭션이 끝날 때까지 유지됩니다. 대신 하나의 UPDATE 문으로 값을 증가시키고
+ * LAST_INSERT_ID()로 증가된 값을 돌려받으며, 이 작업은 별도의 짧은 트랜잭션에서 수행하여 토론의 row lock을 곧바로 해제합니다.
+ * 따라서 댓글을 저장하는 트랜잭션은 토론에 락을 걸지 않습니다.
+ * 댓글의 저장이 실패하면 발급된 sequence는 사용되지 않으므로, sequence는 연속적이지 않을 수 있습니다.
+ *
+ * <p>댓글이 작성될 때마다 토론의 종료 시각이 연장되지만, 종료 시각은 토론마다 debate.comment.end-at-write-interval-ms
+ * (기본값 1초)에 한 번만 sequence와 같은 UPDATE 문에서 함께 갱신합니다. 갱신되지 않은 연장은 다음 갱신에 포함되므로,
+ * 토론의 종료 시각은 최대 주기만큼 덜 연장될 수 있습니다. 주기는 서버마다 따로 관리됩니다.
+ */
+@Slf4j
+@Repository
+class JdbcCommentSequenceAllocator implements CommentSequenceAllocator {
+
+	/**
+	 * 열린 토론의 comment_sequence를 증가시킵니다. comment_sequence는 다음 댓글에 부여할 sequence입니다.
+	 */
+	private static final String INCREMENT_SEQUENCE_SQL = "UPDATE debate "
+		+ "SET comment_sequence = LAST_INSERT_ID(comment_sequence + 1) "
+		+ "WHERE debate_id = ? AND status = 'OPEN'";
+
+	/**
+	 * 열린 토론의 comment_sequence를 증가시키면서 종료 시각을 연장합니다. 종료 시각은 앞당겨지지 않습니다.
+	 */
+	private static final String INCREMENT_SEQUENCE_AND_EXTEND_SQL = "UPDATE debate "
+		+ "SET comment_sequence = LAST_INSERT_ID(comment_sequence + 1), end_at = GREATEST(end_at, ?) "
+		+ "WHERE debate_id = ? AND status = 'OPEN'";
+
+	private static final String LAST_INSERT_ID_SQL = "SELECT LAST_INSERT_ID()";
+
+	/**
+	 * 종료 시각을 마지막으로 갱신한 시각을 기억하는 토론의 개수가 이보다 많아지면, 주기가 지난 기록을 정리합니다.
+	 */
+	private static final int EXTENSION_HISTORY_CLEANUP_THRESHOLD = 1024;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final long endAtWriteIntervalMillis;
+
+	/**
+	 * 토론 ID와 그 토론의 종료 시각을 마지막으로 갱신한 시각(epoch millis)입니다.
+	 */
+	private final Map<Long, Long> lastExtendedAt = new ConcurrentHashMap<>();
+
+	JdbcCommentSequenceAllocator(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${debate.comment.end-at-write-interval-ms:1000}") long endAtWriteIntervalMillis
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		//댓글을 저장하는 트랜잭션이 토론의 row lock을 유지하지 않도록 새로운 트랜잭션에서 발급합니다.
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.endAtWriteIntervalMillis = endAtWriteIntervalMillis;
+	}
+
+	@Override
+	public int allocate(Long debateId, LocalDateTime extendedEndAt) {
+		boolean extend = acquireExtension(debateId);
+
+		Long nextSequence = transactionTemplate.execute(status -> {
+			int updated = extend
+				? jdbcTemplate.update(INCREMENT_SEQUENCE_AND_EXTEND_SQL, extendedEndAt, debateId)
+				: jdbcTemplate.update(INCREMENT_SEQUENCE_SQL, debateId);
+			if (updated == 0) {
+				return null;
+			}
+			//LAST_INSERT_ID()는 커넥션 단위로 유지되므로 같은 트랜잭션 안에서 조회해야 합니다.
+			return jdbcTemplate.queryForObject(LAST_INSERT_ID_SQL, Long.class);
+		});
+
+		if (nextSequence == null) {
+			throw new BaseException("이미 닫힌 토론에 대한 댓글 작성요청입니다. Debate ID: " + debateId);
+		}
+
+		log.trace("댓글 sequence 발급 - debateId: {}, sequence: {}, 종료 시각 연장: {}", debateId, nextSequence - 1, extend);
+		return Math.toIntExact(nextSequence - 1);
+	}
+
+	/**
+	 * 토론의 종료 시각을 이번에 갱신할 차례인지 확인합니다.
+	 * 마지막 갱신으로부터 주기가 지났다면 갱신 시각을 기록하고 true를 반환합니다. 동시에 호출되더라도 하나의 호출만 true를 얻습니다.
+	 * @param debateId 토론의 ID
+	 * @return 종료 시각을 갱신해야 하면 true
+	 */
+	private boolean acquireExtension(Long debateId) {
+		long now = System.currentTimeMillis();
+		if (lastExtendedAt.size() > EXTENSION_HISTORY_CLEANUP_THRESHOLD) {
+			lastExtendedAt.values().removeIf(extendedAt -> now - extendedAt >= endAtWriteIntervalMillis);
+		}
+
+		boolean[] acquired = {false};
+		lastExtendedAt.compute(debateId, (id, last) -> {
+			if (last != null && now - last < endAtWriteIntervalMillis) {
+				return last;
+			}
+			acquired[0] = true;
+			return now;
+		});
+		return acquired[0];
+	}
+}
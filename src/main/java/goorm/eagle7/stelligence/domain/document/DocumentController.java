@@ -1,12 +1,19 @@
 package goorm.eagle7.stelligence.domain.document;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,10 +21,15 @@ import org.springframework.web.bind.annotation.RestController;
 import goorm.eagle7.stelligence.api.ResponseTemplate;
 import goorm.eagle7.stelligence.common.auth.memberinfo.Auth;
 import goorm.eagle7.stelligence.common.auth.memberinfo.MemberInfo;
+import goorm.eagle7.stelligence.common.util.ETagUtils;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentSimpleResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatusResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphSnapshot;
+import goorm.eagle7.stelligence.domain.document.graph.cache.EncodedDocumentGraph;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphColumnarResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,6 +68,15 @@ public class DocumentController {
 		return ResponseTemplate.ok(documentService.createDocument(documentCreateRequest, memberInfo.getId()));
 	}
 
+	/**
+	 * 문서의 내용을 조회합니다.
+	 *
+	 * <p>문서의 버전 정보만 먼저 조회하여 ETag를 계산하고, If-None-Match 헤더가 ETag와 일치하면
+	 * 문서를 조회하지 않고 본문 없이 304 응답을 반환합니다.
+	 * 특정 버전의 섹션은 변하지 않지만 응답에는 최신 버전, 제목, 기여자의 프로필이 함께 포함되므로,
+	 * 최신본과 특정 버전 모두 {@code Cache-Control: no-cache}로 매번 재검증하도록 합니다.
+	 * 재검증은 버전 정보만으로 처리되므로 변경이 없다면 본문 없이 304 응답을 반환합니다.
+	 */
 	@Operation(summary = "문서 내용 조회", description = "문서의 내용을 조회합니다")
 	@ApiResponse(
 		responseCode = "200",
@@ -63,14 +84,31 @@ public class DocumentController {
 		useReturnTypeSchema = true
 	)
 	@GetMapping("/{documentId}")
-	public ResponseTemplate<DocumentResponse> getDocument(
+	public ResponseEntity<ResponseTemplate<DocumentResponse>> getDocument(
 		@Parameter(description = "조회할 문서의 ID", example = "1")
 		@PathVariable Long documentId,
 		@Parameter(description = "문서의 특정 버전을 가져올 수 있습니다. 전달되지 않는 경우 기본값으로 최신본을 반환합니다", example = "1")
-		@RequestParam(required = false) Long revision
+		@RequestParam(required = false) Long revision,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
+		Optional<DocumentVersion> version = documentService.getDocumentVersion(documentId);
+		String eTag = version.map(v -> v.eTag(documentId, revision)).orElse(null);
+		if (ETagUtils.matches(ifNoneMatch, eTag)) {
+			return ETagUtils.notModified(eTag);
+		}
+
 		//revision이 null인 경우는 service에서 최신값을 찾아 반환하도록 되어있습니다.
-		return ResponseTemplate.ok(documentService.getDocumentContent(documentId, revision));
+		DocumentResponse document = documentService.getDocumentContent(documentId, revision);
+
+		// 버전 정보를 조회한 이후 변경되었거나 캐시된 본문이 현재 버전과 다른 경우, 본문과 ETag가 어긋나지 않도록 ETag를 붙이지 않습니다.
+		if (eTag == null || !version.get().equals(document.getVersion())) {
+			return ResponseEntity.ok(ResponseTemplate.ok(document));
+		}
+
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(CacheControl.noCache())
+			.body(ResponseTemplate.ok(document));
 	}
 
 	@Operation(summary = "문서 상태 조회", description = "문서가 현재 수정 가능한지, 아니면 투표중인지, 토론중인지에 대한 상태와 관련된 ID 값을 제공합니다.")
@@ -94,10 +132,64 @@ public class DocumentController {
 		useReturnTypeSchema = true
 	)
 	@GetMapping
-	public ResponseTemplate<DocumentGraphResponse> getDocumentGraph() {
+	public ResponseEntity<ResponseTemplate<DocumentGraphResponse>> getDocumentGraph(
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		// 그래프의 버전은 메모리에서 조회하므로, 변경이 없다면 그래프를 직렬화하지 않고 304 응답을 반환합니다.
+		String currentETag = ETagUtils.strong("graph", documentService.getDocumentGraphVersion());
+		if (ETagUtils.matches(ifNoneMatch, currentETag)) {
+			return ETagUtils.notModified(currentETag);
+		}
+
+		DocumentGraphSnapshot snapshot = documentService.getAllDocumentGraphSnapshot();
+		return ResponseEntity.ok()
+			.eTag(ETagUtils.strong("graph", snapshot.version()))
+			.cacheControl(CacheControl.noCache())
+			.body(ResponseTemplate.ok(snapshot.graph()));
+	}
+
+	@Operation(summary = "문서 그래프 조회 (열 단위 형식)",
+		description = "Accept 헤더가 " + DocumentGraphColumnarResponse.MEDIA_TYPE + "인 경우, 전체 문서 그래프를 열 단위 형식으로 조회합니다. "
+			+ "Accept-Encoding 헤더에 gzip이 포함되어 있다면 미리 압축된 응답을 반환합니다.")
+	@ApiResponse(
+		responseCode = "200",
+		description = "문서 그래프 조회 성공"
+	)
+	@GetMapping(produces = DocumentGraphColumnarResponse.MEDIA_TYPE)
+	public ResponseEntity<byte[]> getColumnarDocumentGraph(
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+		String currentETag = columnarGraphETag(documentService.getDocumentGraphVersion(), gzip);
+		if (ETagUtils.matches(ifNoneMatch, currentETag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(currentETag)
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+				.build();
+		}
+
+		EncodedDocumentGraph encoded = documentService.getAllDocumentGraphEncoded();
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(DocumentGraphColumnarResponse.MEDIA_TYPE))
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+			.eTag(columnarGraphETag(encoded.version(), gzip))
+			.cacheControl(CacheControl.noCache());
+
+		if (gzip) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+		}
+		return response.body(encoded.json());
+	}
 
-		// documentId가 null이라면 최상위 문서로부터 조회합니다.
-		return ResponseTemplate.ok(documentService.getAllDocumentGraph());
+	/**
+	 * 열 단위 형식의 그래프는 JSON 응답과 표현이 다르고, 압축 여부에 따라 본문이 달라지므로 ETag를 구분합니다.
+	 */
+	private static String columnarGraphETag(long version, boolean gzip) {
+		return gzip ? ETagUtils.strong("graph", version, "columnar", "gzip")
+			: ETagUtils.strong("graph", version, "columnar");
 	}
 
 	@Operation(summary = "문서 노드 제목으로 조회", description = "문서 노드를 제목으로 조회합니다.")
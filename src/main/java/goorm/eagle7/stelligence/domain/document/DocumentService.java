@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.document;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -9,13 +10,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.cache.DocumentReadCounter;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentSimpleResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
 import goorm.eagle7.stelligence.domain.document.event.NewDocumentEvent;
 import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphSnapshot;
+import goorm.eagle7.stelligence.domain.document.graph.cache.EncodedDocumentGraph;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
@@ -37,6 +42,7 @@ public class DocumentService {
 	private final DocumentGraphService documentGraphService;
 	private final MemberRepository memberRepository;
 	private final DocumentRequestValidator documentRequestValidator;
+	private final DocumentReadCounter documentReadCounter;
 
 	private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -93,6 +99,7 @@ public class DocumentService {
 	 */
 	public DocumentResponse getDocumentContent(Long documentId, Long revision) {
 		if (revision == null) {
+			documentReadCounter.record(documentId);
 			return documentContentService.getDocument(documentId);
 		} else {
 			return documentContentService.getDocument(documentId, revision);
@@ -115,6 +122,15 @@ public class DocumentService {
 		}
 	}
 
+	/**
+	 * Document 조회 응답의 ETag를 계산하기 위한 버전 정보를 조회합니다.
+	 * @param documentId : 조회할 Document의 ID
+	 * @return DocumentVersion, 존재하지 않는 Document라면 empty
+	 */
+	public Optional<DocumentVersion> getDocumentVersion(Long documentId) {
+		return documentContentService.findVersion(documentId);
+	}
+
 	/**
 	 * 전체 문서 그래프를 조회합니다.
 	 * @return DocumentGraphResponse
@@ -123,6 +139,30 @@ public class DocumentService {
 		return documentGraphService.findAllGraph();
 	}
 
+	/**
+	 * 전체 문서 그래프를 그래프의 버전과 함께 조회합니다.
+	 * @return DocumentGraphSnapshot
+	 */
+	public DocumentGraphSnapshot getAllDocumentGraphSnapshot() {
+		return documentGraphService.findAllGraphSnapshot();
+	}
+
+	/**
+	 * 문서 그래프의 현재 버전을 조회합니다.
+	 * @return 문서 그래프의 버전
+	 */
+	public long getDocumentGraphVersion() {
+		return documentGraphService.getGraphVersion();
+	}
+
+	/**
+	 * 전체 문서 그래프를 열 단위 형식으로 직렬화하여 조회합니다.
+	 * @return EncodedDocumentGraph
+	 */
+	public EncodedDocumentGraph getAllDocumentGraphEncoded() {
+		return documentGraphService.findAllGraphEncoded();
+	}
+
 	/**
 	 * 문서의 제목을 기준으로 그래프 노드를 조회합니다.
 	 * @param title: 문서의 제목
@@ -1,5 +1,6 @@
 package goorm.eagle7.stelligence.domain.document.content;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,25 +8,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentRevision;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import jakarta.persistence.LockModeType;
 
 public interface DocumentContentRepository extends JpaRepository<Document, Long> {
 
-	/**
-	 * Document를 조회합니다.
-	 * 업데이트용 조회로, 조회된 Document는 Lock이 걸립니다.
-	 * Contriute Merge를 하는 용도로만 한정적으로 사용하기로 합시다.
-	 * @param documentId 조회할 Document의 ID
-	 * @return 조회된 Document - Lock이 걸린 상태
-	 */
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query("select d from Document d where d.id = :documentId")
-	Optional<Document> findForUpdate(Long documentId);
-
 	/**
 	 * 특정 문자열을 포함하는 Document의 ID를 조회합니다. 최신 버전의 섹션만 조사의 대상이 됩니다.
+	 * <p>모든 섹션에 대한 like 검색이므로, 검색 색인이 준비되지 않은 경우에만 사용합니다.
 	 * @param keyword 검색할 문자열
 	 * @return 검색된 Document의 ID 목록
 	 */
@@ -79,4 +72,53 @@ public interface DocumentContentRepository extends JpaRepository<Document, Long>
 	@Query("select d from Document d join fetch d.author where d.id = :documentId")
 	Optional<Document> findByIdWithAuthor(Long documentId);
 
+	/**
+	 * 모든 Document의 ID와 최신 버전을 조회합니다.
+	 * @return Document의 ID와 최신 버전 목록
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.DocumentRevision(d.id, d.latestRevision) "
+		+ "from Document d "
+		+ "order by d.id")
+	List<DocumentRevision> findAllRevisions();
+
+	/**
+	 * 여러 Document의 ID와 최신 버전을 조회합니다.
+	 * @param documentIds 조회할 Document의 ID 목록
+	 * @return Document의 ID와 최신 버전 목록, 존재하지 않는 Document는 제외됩니다.
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.DocumentRevision(d.id, d.latestRevision) "
+		+ "from Document d "
+		+ "where d.id in :documentIds")
+	List<DocumentRevision> findRevisionsByIdIn(Collection<Long> documentIds);
+
+	/**
+	 * Document를 쓰기 잠금과 함께 조회합니다.
+	 *
+	 * <p>병합은 섹션을 변경하기 전에 문서의 행을 먼저 잠가, 문서의 version을 먼저 갱신한 뒤 섹션을 변경하는
+	 * {@link goorm.eagle7.stelligence.domain.section.order.SectionOrderRebalancer}와 같은 순서로 잠금을 얻습니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return Document
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select d from Document d where d.id = :documentId")
+	Optional<Document> findByIdForUpdate(Long documentId);
+
+	/**
+	 * 조회 응답의 ETag를 계산하기 위해 Document의 버전 정보만 조회합니다.
+	 * 작성자와 기여자의 수정 시각도 함께 조회하여, 닉네임이나 프로필 이미지가 변경되면 ETag도 바뀌도록 합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return Document의 버전 정보
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion("
+		+ "d.latestRevision, d.updatedAt, p.updatedAt, a.updatedAt, "
+		+ "(select max(m.updatedAt) from Contribute c "
+		+ "join c.member m "
+		+ "where c.document = d "
+		+ "and c.status = goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus.MERGED)) "
+		+ "from Document d "
+		+ "join d.author a "
+		+ "left join d.parentDocument p "
+		+ "where d.id = :documentId")
+	Optional<DocumentVersion> findVersionById(Long documentId);
+
 }
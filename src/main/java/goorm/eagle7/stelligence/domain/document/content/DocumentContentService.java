@@ -1,6 +1,10 @@
 package goorm.eagle7.stelligence.domain.document.content;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.owasp.html.PolicyFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -9,12 +13,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.domain.document.content.cache.DocumentRevisionCache;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentSimpleResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.content.parser.DocumentParser;
+import goorm.eagle7.stelligence.domain.document.content.search.DocumentKeywordIndex;
+import goorm.eagle7.stelligence.domain.document.content.search.NGramTokenizer;
 import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
@@ -33,12 +41,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DocumentContentService {
 
+	private static final int VERIFY_CHUNK_SIZE = 1000;
+
 	private final DocumentContentRepository documentRepository;
 	private final SectionRepository sectionRepository;
 	private final SectionIdGenerator sectionIdGenerator;
 	private final DocumentParser documentParser;
 	private final PolicyFactory policyFactory;
 	private final SectionRequestValidator sectionRequestValidator;
+	private final DocumentKeywordIndex documentKeywordIndex;
+	private final DocumentRevisionCache documentRevisionCache;
 
 	/**
 	 * Document를 생성합니다.
@@ -60,40 +72,90 @@ public class DocumentContentService {
 		Document document = Document.createDocument(title, author, parentDocument);
 		documentRepository.save(document);
 
-		// 악성 스크립트를 방지하기 위해 HTML를 필터링합니다.
-		String sanitizedContent = policyFactory.sanitize(rawContent);
-		List<SectionRequest> sectionRequests = documentParser.parse(sanitizedContent);
+		// 악성 스크립트를 방지하기 위해 HTML를 필터링하면서 섹션으로 나눕니다.
+		List<SectionRequest> sectionRequests = documentParser.sanitizeAndParse(rawContent, policyFactory);
 
 		//sectionRequests의 유효성을 검증합니다.
 		sectionRequestValidator.validate(sectionRequests);
 
-		//section 생성
+		//제목(heading)이 없는 본문은 섹션으로 나누어지지 않으므로 저장할 섹션이 없습니다.
+		if (sectionRequests.isEmpty()) {
+			return document;
+		}
+
+		//section 생성에 필요한 ID를 한 번에 할당받습니다.
+		List<Long> sectionIds = sectionIdGenerator.allocate(sectionRequests.size());
+
+		List<Section> sections = new ArrayList<>();
 		for (int order = 0; order < sectionRequests.size(); order++) {
-			Section section = Section.createSection(document, sectionIdGenerator.getAndIncrementSectionId(), 1L,
+			sections.add(Section.createSection(document, sectionIds.get(order), 1L,
 				sectionRequests.get(order).getHeading(), sectionRequests.get(order).getTitle(),
-				sectionRequests.get(order).getContent(), order + 1);
-
-			sectionRepository.save(section);
+				sectionRequests.get(order).getContent(), (order + 1) * Section.ORDER_GAP));
 		}
 
+		//섹션과 최신 버전 조회를 위한 프로젝션을 batch insert로 한 번에 저장합니다.
+		sectionRepository.insertSections(sections);
+		sectionRepository.insertDocumentHeadSections(sections);
+
 		return document;
 	}
 
 	/**
 	 * 최신 Document를 조회합니다.
+	 *
+	 * <p>최신 버전의 섹션은 DocumentHeadSection 프로젝션을 통해 조회합니다.
+	 * 특정 버전의 조회와 달리 섹션별 max(revision) 서브쿼리가 수행되지 않습니다.
+	 *
+	 * <p>인기 문서의 캐시가 삭제된 직후 동시에 조회가 몰리더라도 서버마다 한 번만 DB에서 조회하도록 sync 옵션을 사용합니다.
+	 * (single-flight, stale-while-revalidate, 만료 이전 갱신은 TwoTierCache 참조)
+	 *
 	 * @param documentId 조회할 Document의 ID
 	 * @return 최신 Document의 Response Object
 	 */
-	@Cacheable(value = "document", key = "#documentId", cacheManager = "cacheManager")
+	@Cacheable(value = "document", key = "#documentId", cacheManager = "cacheManager", sync = true)
 	public DocumentResponse getDocument(Long documentId) {
+		log.trace("DocumentService.getDocument called");
+		return loadLatestDocument(documentId);
+	}
+
+	/**
+	 * 캐시를 거치지 않고 최신 Document를 DB에서 조회합니다.
+	 *
+	 * <p>문서의 캐시를 직접 채우는 경우(병합 직후의 캐시 갱신, 인기 문서 캐시 예열)에 사용합니다.
+	 * 호출한 쪽의 트랜잭션에서 수행되므로, 커밋 이전에 변경된 내용도 조회됩니다.
+	 *
+	 * @param documentId 조회할 Document의 ID
+	 * @return 최신 Document의 Response Object
+	 */
+	public DocumentResponse loadLatestDocument(Long documentId) {
 		Document document = documentRepository.findById(documentId)
 			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
 
-		return getDocument(documentId, document.getLatestRevision());
+		//최신 버전의 섹션들을 조회합니다.
+		List<SectionResponse> sections = sectionRepository.findLatestByDocumentId(documentId)
+			.stream()
+			.sorted()
+			.map(SectionResponse::of)
+			.toList();
+
+		return toResponse(document, document.getLatestRevision(), sections);
+	}
+
+	/**
+	 * 조회 응답의 ETag를 계산하기 위해 Document의 버전 정보만 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return Document의 버전 정보, 존재하지 않는 Document라면 empty
+	 */
+	public Optional<DocumentVersion> findVersion(Long documentId) {
+		return documentRepository.findVersionById(documentId);
 	}
 
 	/**
 	 * 특정 버전의 Document를 조회합니다.
+	 *
+	 * <p>이미 존재하는 버전의 섹션 목록은 변하지 않으므로 {@link DocumentRevisionCache}에 캐싱합니다.
+	 * 문서의 제목, 최신 버전, 기여자 목록은 매번 조회합니다.
+	 *
 	 * @param documentId 조회할 Document의 ID
 	 * @param revision 조회할 Document의 버전
 	 * @return 특정 버전의 Document의 Response Object
@@ -111,31 +173,84 @@ public class DocumentContentService {
 		}
 
 		//해당 버전의 섹션들을 조회합니다.
-		List<SectionResponse> sections = sectionRepository.findByVersion(document, revision)
-			.stream()
-			.sorted()
-			.map(SectionResponse::of)
-			.toList();
+		List<SectionResponse> sections = documentRevisionCache.getSections(documentId, revision,
+			() -> sectionRepository.findByVersion(document, revision)
+				.stream()
+				.sorted()
+				.map(SectionResponse::of)
+				.toList());
 
-		//해당 문서의 기여자들을 조회합니다.
-		List<MemberSimpleResponse> contributors = documentRepository.findContributorsByDocumentId(documentId)
-			.stream()
-			.map(MemberSimpleResponse::from)
-			.toList();
+		return toResponse(document, revision, sections);
+	}
 
-		return DocumentResponse.of(document, revision, sections, contributors);
+	/**
+	 * 문서의 기여자들을 조회하여 응답을 만듭니다.
+	 * 응답을 만들 때 조회한 문서와 기여자들의 버전 정보도 함께 담습니다.
+	 * @param document 조회한 Document
+	 * @param revision 조회한 버전
+	 * @param sections 해당 버전의 섹션들
+	 * @return Document의 Response Object
+	 */
+	private DocumentResponse toResponse(Document document, Long revision, List<SectionResponse> sections) {
+		List<Member> contributors = documentRepository.findContributorsByDocumentId(document.getId());
+		return DocumentResponse.of(
+			document,
+			revision,
+			sections,
+			contributors.stream().map(MemberSimpleResponse::from).toList(),
+			DocumentVersion.of(document, contributors)
+		);
 	}
 
 	/**
 	 * 특정 문자열을 포함하는 Document의 ID를 조회합니다. 최신 버전의 섹션만 조사의 대상이 됩니다.
+	 *
+	 * <p>인메모리 검색 색인을 통해 조회하며, 결과는 연관도 순으로 정렬됩니다.
+	 * 애플리케이션 시작 직후 색인이 구축되기 전에는 DB에서 직접 조회합니다.
+	 *
 	 * @param keyword 검색할 키워드
 	 * @return 키워드를 포함하고 있는 Document의 ID 목록
 	 */
 	public List<Long> findDocumentWhichContainsKeyword(String keyword) {
 		log.trace("DocumentService.findDocumentWhichContainsKeyword called");
+		if (documentKeywordIndex.isReady()) {
+			List<Long> candidates = documentKeywordIndex.search(keyword);
+			List<String> words = NGramTokenizer.wordsToVerify(keyword);
+			if (candidates.isEmpty() || words.isEmpty()) {
+				return candidates;
+			}
+			return verifyCandidates(candidates, words);
+		}
 		return documentRepository.findDocumentIdWhichContainsKeywordInLatestVersion(keyword);
 	}
 
+	/**
+	 * 색인에서 찾은 문서 중 최신 본문이 실제로 검색어의 어절을 포함하는 문서만 남깁니다. 색인의 순위는 유지됩니다.
+	 *
+	 * <p>본문을 조회하지 않고, 후보 문서로 범위를 제한한 like 검색으로 DB에서 확인합니다.
+	 * 어절마다 남은 후보만을 대상으로 확인하므로, 후보가 모두 제외되면 이후 어절은 확인하지 않습니다.
+	 *
+	 * @param candidates 색인에서 찾은 문서 ID 목록
+	 * @param words 확인할 검색어의 어절 목록
+	 * @return 검색어를 포함하는 문서 ID 목록
+	 */
+	private List<Long> verifyCandidates(List<Long> candidates, List<String> words) {
+		List<Long> verified = candidates;
+		for (String word : words) {
+			Set<Long> containing = new HashSet<>();
+			for (int from = 0; from < verified.size(); from += VERIFY_CHUNK_SIZE) {
+				List<Long> chunk = verified.subList(from, Math.min(from + VERIFY_CHUNK_SIZE, verified.size()));
+				containing.addAll(sectionRepository.findLatestDocumentIdsContaining(chunk, word));
+			}
+
+			verified = verified.stream().filter(containing::contains).toList();
+			if (verified.isEmpty()) {
+				break;
+			}
+		}
+		return verified;
+	}
+
 	/**
 	 * 문서의 제목을 변경합니다.
 	 * @param documentId 제목을 변경할 문서 ID
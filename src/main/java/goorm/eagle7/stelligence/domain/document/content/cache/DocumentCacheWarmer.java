@@ -0,0 +1,160 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 많이 조회되는 문서의 캐시를 미리 채워두는 컴포넌트입니다.
+ *
+ * <p>각 서버의 {@link DocumentReadCounter}가 집계한 조회 횟수를 주기적으로 Redis의 sorted set에 합산하고,
+ * 조회 횟수 상위 N개 문서 중 캐시에 없는 문서만 다시 조회하여 캐시에 저장합니다.
+ * 조회 횟수는 Redis에 저장되므로, 새로 시작된 서버도 시작 직후 인기 문서의 캐시를 채울 수 있습니다.
+ *
+ * <p>조회 횟수를 계속 누적하면 예전에 많이 조회된 문서가 상위를 차지하여, 새로 많이 조회되기 시작한 문서가
+ * 목록의 크기를 제한할 때 제외됩니다. 이를 피하기 위해 조회 횟수는 시간 구간(bucket)별 sorted set에 합산하고,
+ * 최근 구간들만 ZUNIONSTORE로 합친 결과를 인기 문서 목록으로 사용합니다. 오래된 구간은 만료되어 순위에서 빠집니다.
+ * 합친 결과는 구간들로부터 매번 다시 계산되므로 여러 서버가 동시에 갱신하더라도 같은 결과가 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentCacheWarmer {
+
+	/**
+	 * 최근 구간들의 조회 횟수를 합친 sorted set입니다.
+	 */
+	static final String READ_COUNT_KEY = "document:read-count";
+
+	/**
+	 * 구간별 조회 횟수를 저장하는 sorted set의 접두사입니다. 구간의 번호가 뒤에 붙습니다.
+	 */
+	static final String BUCKET_KEY_PREFIX = "document:read-count:";
+
+	/**
+	 * sorted set에는 상위 N개의 이 배수만큼만 남겨 크기가 계속 커지지 않도록 합니다.
+	 */
+	private static final int RETAIN_FACTOR = 10;
+
+	private final StringRedisTemplate redisTemplate;
+	private final CacheManager cacheManager;
+	private final DocumentContentService documentContentService;
+	private final DocumentReadCounter documentReadCounter;
+
+	@Value("${document.cache.warm-top-n:100}")
+	private int topN;
+
+	@Value("${document.cache.popularity-bucket-minutes:60}")
+	private long bucketMinutes;
+
+	@Value("${document.cache.popularity-window-buckets:24}")
+	private int windowBuckets;
+
+	/**
+	 * 애플리케이션이 시작되면 누적된 조회 횟수를 기준으로 캐시를 채웁니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		warm();
+	}
+
+	/**
+	 * 서버에서 집계한 조회 횟수를 현재 구간에 합산하고, 최근 구간들을 합쳐 인기 문서 목록을 갱신한 뒤 캐시를 채웁니다.
+	 */
+	@Scheduled(
+		initialDelayString = "${document.cache.warm-interval-ms:60000}",
+		fixedDelayString = "${document.cache.warm-interval-ms:60000}"
+	)
+	public void refresh() {
+		long currentBucket = currentBucket();
+		Map<Long, Long> readCounts = documentReadCounter.drain();
+		try {
+			if (!readCounts.isEmpty()) {
+				String bucketKey = BUCKET_KEY_PREFIX + currentBucket;
+				readCounts.forEach((documentId, count) ->
+					redisTemplate.opsForZSet().incrementScore(bucketKey, documentId.toString(), count));
+				// 구간은 합산 대상에서 빠진 이후 만료됩니다.
+				redisTemplate.expire(bucketKey, Duration.ofMinutes(bucketMinutes * (windowBuckets + 1L)));
+			}
+
+			// 구간이 바뀌지 않았더라도 오래된 구간이 빠지도록 매번 다시 합칩니다.
+			List<String> windowKeys = windowKeys(currentBucket);
+			redisTemplate.opsForZSet().unionAndStore(windowKeys.get(0), windowKeys.subList(1, windowKeys.size()),
+				READ_COUNT_KEY);
+			redisTemplate.opsForZSet().removeRange(READ_COUNT_KEY, 0, -(long)topN * RETAIN_FACTOR - 1);
+		} catch (DataAccessException e) {
+			log.warn("[DocumentCacheWarmer] 문서 조회 횟수를 저장하지 못했습니다. {}", e.getMessage());
+		}
+		warm();
+	}
+
+	private long currentBucket() {
+		return System.currentTimeMillis() / Duration.ofMinutes(bucketMinutes).toMillis();
+	}
+
+	/**
+	 * 인기 문서 목록에 합산할, 현재 구간부터 최근 windowBuckets개 구간의 key를 반환합니다.
+	 */
+	private List<String> windowKeys(long currentBucket) {
+		return LongStream.range(0, Math.max(windowBuckets, 1))
+			.mapToObj(age -> BUCKET_KEY_PREFIX + (currentBucket - age))
+			.toList();
+	}
+
+	private void warm() {
+		Cache cache = cacheManager.getCache("document");
+		if (cache == null || topN <= 0) {
+			return;
+		}
+
+		Set<String> documentIds;
+		try {
+			documentIds = redisTemplate.opsForZSet().reverseRange(READ_COUNT_KEY, 0, topN - 1L);
+		} catch (DataAccessException e) {
+			log.warn("[DocumentCacheWarmer] 인기 문서 목록을 조회하지 못했습니다. {}", e.getMessage());
+			return;
+		}
+		if (documentIds == null || documentIds.isEmpty()) {
+			return;
+		}
+
+		int warmed = 0;
+		for (String value : documentIds) {
+			Long documentId = Long.valueOf(value);
+			try {
+				// 이미 캐시에 있는 문서는 다시 조회하지 않습니다.
+				cache.get(documentId, () -> documentContentService.loadLatestDocument(documentId));
+				warmed++;
+			} catch (Cache.ValueRetrievalException e) {
+				if (e.getCause() instanceof BaseException) {
+					// 삭제된 문서는 목록과 구간들에서 제외합니다.
+					redisTemplate.opsForZSet().remove(READ_COUNT_KEY, value);
+					windowKeys(currentBucket()).forEach(key -> redisTemplate.opsForZSet().remove(key, value));
+				} else {
+					log.warn("[DocumentCacheWarmer] 문서 {}의 캐시를 채우지 못했습니다.", documentId, e);
+				}
+			} catch (DataAccessException e) {
+				log.warn("[DocumentCacheWarmer] 문서 캐시에 접근하지 못했습니다. {}", e.getMessage());
+				return;
+			}
+		}
+		log.debug("[DocumentCacheWarmer] 인기 문서 {}개의 캐시를 확인했습니다.", warmed);
+	}
+}
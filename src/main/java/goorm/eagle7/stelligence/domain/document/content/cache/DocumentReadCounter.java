@@ -0,0 +1,40 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 내에서 문서별 최신 버전 조회 횟수를 집계합니다.
+ *
+ * <p>조회할 때마다 Redis에 기록하지 않도록 메모리에서만 집계하며,
+ * {@link DocumentCacheWarmer}가 주기적으로 집계 결과를 가져가 Redis에 합산합니다.
+ */
+@Component
+public class DocumentReadCounter {
+
+	private final ConcurrentMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+	public void record(Long documentId) {
+		counts.computeIfAbsent(documentId, id -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 지금까지 집계된 조회 횟수를 반환하고 초기화합니다.
+	 * @return 문서 ID -> 조회 횟수
+	 */
+	public Map<Long, Long> drain() {
+		Map<Long, Long> drained = new HashMap<>();
+		for (Long documentId : counts.keySet()) {
+			LongAdder adder = counts.remove(documentId);
+			if (adder != null) {
+				drained.put(documentId, adder.sum());
+			}
+		}
+		return drained;
+	}
+}
@@ -0,0 +1,270 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DocumentResponse를 캐시에 저장하기 위한 바이너리 직렬화기입니다.
+ *
+ * <p>JSON 직렬화기는 필드 이름과 클래스 정보를 값마다 함께 저장하고, 섹션 목록으로부터 계산되는 content를
+ * 섹션 목록과 함께 한 번 더 저장합니다. 이 직렬화기는 필드를 정해진 순서대로 기록하고 content는 저장하지 않으며,
+ * 복원할 때 섹션 목록으로부터 다시 계산합니다. 본문이 일정 크기 이상이면 deflate로 압축합니다.
+ *
+ * <p>형식은 다음과 같습니다.
+ * <pre>
+ * [MAGIC (1byte)][FORMAT_VERSION (1byte)][압축 여부 (1byte)][본문]
+ * </pre>
+ * 형식이 다르거나 버전이 다른 값은 예외 없이 null로 복원하여 캐시 미스로 처리합니다.
+ * 따라서 형식을 변경할 때에는 FORMAT_VERSION을 올리기만 하면 기존 캐시 값은 자연스럽게 교체됩니다.
+ */
+@Slf4j
+public class DocumentResponseRedisSerializer implements RedisSerializer<DocumentResponse> {
+
+	private static final byte MAGIC = 'D';
+	private static final byte FORMAT_VERSION = 2;
+
+	private static final byte PLAIN = 0;
+	private static final byte DEFLATED = 1;
+
+	/**
+	 * 이 크기보다 작은 본문은 압축하지 않습니다.
+	 */
+	private static final int COMPRESSION_THRESHOLD = 1024;
+
+	private static final Heading[] HEADINGS = Heading.values();
+
+	@Override
+	public byte[] serialize(DocumentResponse value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+
+		try {
+			byte[] body = writeBody(value);
+			boolean compress = body.length >= COMPRESSION_THRESHOLD;
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / (compress ? 3 : 1) + 3);
+			out.write(MAGIC);
+			out.write(FORMAT_VERSION);
+			out.write(compress ? DEFLATED : PLAIN);
+			if (compress) {
+				Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+				try (OutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+					deflaterOut.write(body);
+				} finally {
+					deflater.end();
+				}
+			} else {
+				out.write(body);
+			}
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new SerializationException("DocumentResponse를 직렬화하지 못했습니다.", e);
+		}
+	}
+
+	@Override
+	public DocumentResponse deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length < 3) {
+			return null;
+		}
+		if (bytes[0] != MAGIC || bytes[1] != FORMAT_VERSION) {
+			log.debug("형식이 다른 DocumentResponse 캐시 값을 무시합니다.");
+			return null;
+		}
+
+		InputStream in = new ByteArrayInputStream(bytes, 3, bytes.length - 3);
+		if (bytes[2] == DEFLATED) {
+			in = new InflaterInputStream(in);
+		}
+
+		try (DataInputStream data = new DataInputStream(in)) {
+			return readBody(data);
+		} catch (IOException e) {
+			throw new SerializationException("DocumentResponse를 역직렬화하지 못했습니다.", e);
+		}
+	}
+
+	private static byte[] writeBody(DocumentResponse value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(estimateSize(value));
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		writeLong(out, value.getDocumentId());
+		writeString(out, value.getTitle());
+		writeLong(out, value.getParentDocumentId());
+		writeString(out, value.getParentDocumentTitle());
+		writeLong(out, value.getLatestRevision());
+		writeLong(out, value.getCurrentRevision());
+		writeDateTime(out, value.getLastModifiedAt());
+
+		List<SectionResponse> sections = value.getSections() == null ? List.of() : value.getSections();
+		out.writeInt(sections.size());
+		for (SectionResponse section : sections) {
+			writeLong(out, section.getSectionId());
+			writeLong(out, section.getRevision());
+			out.writeByte(section.getHeading() == null ? -1 : section.getHeading().ordinal());
+			writeString(out, section.getTitle());
+			writeString(out, section.getContent());
+		}
+
+		writeMember(out, value.getOriginalAuthor());
+
+		List<MemberSimpleResponse> contributors = value.getContributors() == null ? List.of() : value.getContributors();
+		out.writeInt(contributors.size());
+		for (MemberSimpleResponse contributor : contributors) {
+			writeMember(out, contributor);
+		}
+
+		writeVersion(out, value.getVersion());
+
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static DocumentResponse readBody(DataInputStream in) throws IOException {
+		Long documentId = readLong(in);
+		String title = readString(in);
+		Long parentDocumentId = readLong(in);
+		String parentDocumentTitle = readString(in);
+		Long latestRevision = readLong(in);
+		Long currentRevision = readLong(in);
+		LocalDateTime lastModifiedAt = readDateTime(in);
+
+		int sectionCount = in.readInt();
+		List<SectionResponse> sections = new ArrayList<>(sectionCount);
+		for (int i = 0; i < sectionCount; i++) {
+			Long sectionId = readLong(in);
+			Long revision = readLong(in);
+			byte heading = in.readByte();
+			sections.add(SectionResponse.of(sectionId, revision, heading < 0 ? null : HEADINGS[heading],
+				readString(in), readString(in)));
+		}
+
+		MemberSimpleResponse originalAuthor = readMember(in);
+
+		int contributorCount = in.readInt();
+		List<MemberSimpleResponse> contributors = new ArrayList<>(contributorCount);
+		for (int i = 0; i < contributorCount; i++) {
+			contributors.add(readMember(in));
+		}
+
+		DocumentVersion version = readVersion(in);
+
+		return DocumentResponse.of(documentId, title, parentDocumentId, parentDocumentTitle, latestRevision,
+			currentRevision, lastModifiedAt, sections, originalAuthor, contributors, version);
+	}
+
+	private static int estimateSize(DocumentResponse value) {
+		return value.getContent() == null ? 256 : value.getContent().length() * 2 + 256;
+	}
+
+	private static void writeMember(DataOutputStream out, MemberSimpleResponse member) throws IOException {
+		out.writeBoolean(member != null);
+		if (member != null) {
+			writeLong(out, member.getMemberId());
+			writeString(out, member.getNickname());
+			writeString(out, member.getProfileImgUrl());
+		}
+	}
+
+	private static MemberSimpleResponse readMember(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return MemberSimpleResponse.of(readLong(in), readString(in), readString(in));
+	}
+
+	private static void writeVersion(DataOutputStream out, DocumentVersion version) throws IOException {
+		out.writeBoolean(version != null);
+		if (version != null) {
+			writeLong(out, version.latestRevision());
+			writeDateTime(out, version.updatedAt());
+			writeDateTime(out, version.parentUpdatedAt());
+			writeDateTime(out, version.authorUpdatedAt());
+			writeDateTime(out, version.contributorsUpdatedAt());
+		}
+	}
+
+	private static DocumentVersion readVersion(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return new DocumentVersion(readLong(in), readDateTime(in), readDateTime(in), readDateTime(in),
+			readDateTime(in));
+	}
+
+	private static void writeLong(DataOutputStream out, Long value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value);
+		}
+	}
+
+	private static Long readLong(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readLong() : null;
+	}
+
+	/**
+	 * writeUTF는 65535바이트를 넘는 문자열을 기록할 수 없으므로 길이와 UTF-8 바이트를 직접 기록합니다.
+	 * null은 길이 -1로 기록합니다.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(utf8.length);
+		out.write(utf8);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] utf8 = new byte[length];
+		in.readFully(utf8);
+		return new String(utf8, StandardCharsets.UTF_8);
+	}
+
+	private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(value.getNano());
+		}
+	}
+
+	private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		long epochSecond = in.readLong();
+		int nano = in.readInt();
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,46 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.common.cache.ImmutableLruCache;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 문서의 특정 버전에 해당하는 섹션 목록을 캐싱합니다.
+ *
+ * <p>병합은 항상 새로운 revision의 섹션을 추가하므로, 이미 존재하는 버전의 섹션 목록은 이후에 변하지 않습니다.
+ * 따라서 (문서 ID, 버전)을 키로 하는 캐시는 삭제할 필요가 없으며, 긴 유효 시간과 크기 제한만으로 관리합니다.
+ *
+ * <p>문서의 제목, 최신 버전, 기여자 목록은 이후에 변할 수 있으므로 캐싱하지 않고 조회할 때마다 함께 조회합니다.
+ */
+@Component
+public class DocumentRevisionCache {
+
+	private final ImmutableLruCache<List<SectionResponse>> cache;
+
+	public DocumentRevisionCache(
+		MeterRegistry meterRegistry,
+		@Value("${document.revision-cache.max-size:500}") int maxSize,
+		@Value("${document.revision-cache.ttl-seconds:86400}") long ttlSeconds
+	) {
+		this.cache = new ImmutableLruCache<>("documentRevision", maxSize, Duration.ofSeconds(ttlSeconds),
+			meterRegistry);
+	}
+
+	/**
+	 * 해당 버전의 섹션 목록을 반환하고, 캐시에 없다면 조회하여 저장합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 문서의 최신 버전 이하의 버전
+	 * @param loader 섹션 목록을 조회하는 함수
+	 * @return 순서대로 정렬된 섹션 목록
+	 */
+	public List<SectionResponse> getSections(Long documentId, Long revision, Supplier<List<SectionResponse>> loader) {
+		return cache.get(documentId + ":" + revision, loader);
+	}
+}
@@ -3,6 +3,8 @@ package goorm.eagle7.stelligence.domain.document.content.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
 import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
@@ -48,6 +50,14 @@ public class DocumentResponse {
 
 	private List<MemberSimpleResponse> contributors;
 
+	/**
+	 * 응답을 만들 때 조회한 문서의 버전 정보입니다.
+	 * 캐시된 응답이 현재 버전과 일치하는지 확인하여, 이전 내용에 새로운 ETag가 붙지 않도록 합니다.
+	 * 버전을 알 수 없는 응답이라면 null입니다.
+	 */
+	@JsonIgnore
+	private DocumentVersion version;
+
 	/**
 	 * DocumentResponse를 생성합니다.
 	 *
@@ -63,6 +73,20 @@ public class DocumentResponse {
 		List<SectionResponse> sections,
 		List<MemberSimpleResponse> contributors
 	) {
+		return of(document, currentRevision, sections, contributors, null);
+	}
+
+	/**
+	 * 버전 정보와 함께 DocumentResponse를 생성합니다.
+	 * @param version : 응답을 만들 때 조회한 문서의 버전 정보
+	 */
+	public static DocumentResponse of(
+		Document document,
+		Long currentRevision,
+		List<SectionResponse> sections,
+		List<MemberSimpleResponse> contributors,
+		DocumentVersion version
+	) {
 
 		return new DocumentResponse(
 			document.getId(),
@@ -75,7 +99,42 @@ public class DocumentResponse {
 			sections,
 			SectionResponseConcatenator.concat(sections),
 			MemberSimpleResponse.from(document.getAuthor()),
-			contributors
+			contributors,
+			version
+		);
+	}
+
+	/**
+	 * 캐시에 저장된 값으로부터 DocumentResponse를 복원합니다.
+	 * content는 저장하지 않고 sections로부터 다시 계산합니다.
+	 */
+	public static DocumentResponse of(
+		Long documentId,
+		String title,
+		Long parentDocumentId,
+		String parentDocumentTitle,
+		Long latestRevision,
+		Long currentRevision,
+		LocalDateTime lastModifiedAt,
+		List<SectionResponse> sections,
+		MemberSimpleResponse originalAuthor,
+		List<MemberSimpleResponse> contributors,
+		DocumentVersion version
+	) {
+
+		return new DocumentResponse(
+			documentId,
+			title,
+			parentDocumentId,
+			parentDocumentTitle,
+			latestRevision,
+			currentRevision,
+			lastModifiedAt,
+			sections,
+			SectionResponseConcatenator.concat(sections),
+			originalAuthor,
+			contributors,
+			version
 		);
 	}
 
@@ -0,0 +1,10 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+/**
+ * 문서의 최신 버전만을 조회하기 위한 프로젝션입니다.
+ *
+ * @param documentId 문서 ID
+ * @param latestRevision 문서의 최신 버전
+ */
+public record DocumentRevision(Long documentId, Long latestRevision) {
+}
@@ -0,0 +1,64 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import goorm.eagle7.stelligence.common.util.ETagUtils;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.member.model.Member;
+
+/**
+ * 문서 조회 응답의 ETag를 계산하기 위한 문서의 버전 정보입니다.
+ *
+ * <p>문서의 본문과 기여자 목록은 병합에 따라 최신 버전과 함께 바뀌고, 제목과 상위 문서는 수정 시각에 반영됩니다.
+ * 상위 문서의 제목도 응답에 포함되므로 상위 문서의 수정 시각을 함께 사용합니다.
+ * 작성자와 기여자의 닉네임, 프로필 이미지도 응답에 포함되므로 작성자의 수정 시각과 기여자들의 가장 최근 수정 시각을 함께 사용합니다.
+ * 응답의 표현이 바이트 단위로 같다는 것을 보장하지는 않으므로 약한 ETag를 사용합니다.
+ *
+ * @param latestRevision 문서의 최신 버전
+ * @param updatedAt 문서의 수정 시각
+ * @param parentUpdatedAt 상위 문서의 수정 시각, 상위 문서가 없다면 null
+ * @param authorUpdatedAt 작성자의 수정 시각
+ * @param contributorsUpdatedAt 기여자들의 가장 최근 수정 시각, 기여자가 없다면 null
+ */
+public record DocumentVersion(
+	Long latestRevision,
+	LocalDateTime updatedAt,
+	LocalDateTime parentUpdatedAt,
+	LocalDateTime authorUpdatedAt,
+	LocalDateTime contributorsUpdatedAt
+) {
+
+	/**
+	 * 응답을 만들 때 조회한 문서와 기여자로부터 버전 정보를 만듭니다.
+	 * @param document 문서
+	 * @param contributors 문서의 기여자 목록
+	 * @return 응답이 만들어진 시점의 버전 정보
+	 */
+	public static DocumentVersion of(Document document, List<Member> contributors) {
+		return new DocumentVersion(
+			document.getLatestRevision(),
+			document.getUpdatedAt(),
+			document.getParentDocument() == null ? null : document.getParentDocument().getUpdatedAt(),
+			document.getAuthor().getUpdatedAt(),
+			contributors.stream()
+				.map(Member::getUpdatedAt)
+				.max(Comparator.naturalOrder())
+				.orElse(null)
+		);
+	}
+
+	/**
+	 * @param documentId 문서 ID
+	 * @param revision 조회할 버전, 최신 버전을 조회한다면 null
+	 * @return 해당 버전의 문서 조회 응답에 대한 ETag, 존재하지 않는 버전이라면 null
+	 */
+	public String eTag(Long documentId, Long revision) {
+		if (revision != null && revision > latestRevision) {
+			return null;
+		}
+		return ETagUtils.weak("document", documentId, revision == null ? latestRevision : revision,
+			latestRevision, updatedAt, parentUpdatedAt, authorUpdatedAt, contributorsUpdatedAt);
+	}
+}
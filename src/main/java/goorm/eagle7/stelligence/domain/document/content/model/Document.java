@@ -5,6 +5,8 @@ import static jakarta.persistence.GenerationType.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import goorm.eagle7.stelligence.common.entity.BaseTimeEntity;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.section.model.Section;
@@ -16,6 +18,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,8 +27,12 @@ import lombok.NoArgsConstructor;
  * Document Entity
  * 문서를 저장하기 위한 엔티티 클래스입니다.
  * 문서는 여러 Section을 가질 수 있습니다.
+ *
+ * <p>{@link #version}을 이용한 낙관적 락을 사용합니다. 병합이나 섹션 순서의 재배치처럼 문서의 섹션을 변경하는 작업은
+ * 문서의 version을 함께 증가시키므로, 다른 트랜잭션이 먼저 문서를 변경했다면 갱신되는 행이 없어 트랜잭션 전체가 롤백됩니다.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Document extends BaseTimeEntity {
@@ -49,6 +56,12 @@ public class Document extends BaseTimeEntity {
 	 */
 	private Long latestRevision;
 
+	/**
+	 * 낙관적 락을 위한 버전입니다. 문서의 내용 버전을 나타내는 latestRevision과는 무관합니다.
+	 */
+	@Version
+	private Long version;
+
 	/**
 	 * Document가 가지고 있는 Section들입니다. 이는 과거버전과 현재버전을 모두 담고 있습니다.
 	 *
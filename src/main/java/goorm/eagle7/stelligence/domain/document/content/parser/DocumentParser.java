@@ -2,8 +2,16 @@ package goorm.eagle7.stelligence.domain.document.content.parser;
 
 import java.util.List;
 
+import org.owasp.html.PolicyFactory;
+
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 
 public interface DocumentParser {
 	List<SectionRequest> parse(String rawContent);
+
+	/**
+	 * 사용자가 작성한 HTML을 정화(sanitize)하면서 동시에 섹션으로 나눕니다.
+	 * {@code parse(policyFactory.sanitize(rawContent))}와 같은 결과를 반환합니다.
+	 */
+	List<SectionRequest> sanitizeAndParse(String rawContent, PolicyFactory policyFactory);
 }
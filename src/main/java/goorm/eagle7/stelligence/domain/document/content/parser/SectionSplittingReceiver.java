@@ -0,0 +1,148 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.owasp.html.Handler;
+import org.owasp.html.HtmlStreamEventReceiver;
+import org.owasp.html.HtmlStreamRenderer;
+
+/**
+ * 정화(sanitize)된 HTML 이벤트를 받아 heading 태그 기준으로 섹션을 나누는 수신기입니다.
+ *
+ * <p>이벤트는 그대로 HtmlStreamRenderer에 전달하되, 렌더링 결과가 기록될 버퍼를 상황에 따라 바꿉니다.
+ * heading 태그 안에서는 제목 버퍼에, heading 태그 이후에는 내용 버퍼에 기록하고,
+ * heading 태그 자체와 첫 번째 heading 이전의 내용은 기록하지 않습니다.
+ * 렌더러의 상태는 모든 이벤트를 받으므로 {@code PolicyFactory.sanitize}의 결과를 나눈 것과 같은 문자열이 만들어집니다.
+ *
+ * <p>섹션을 나누는 규칙은 {@link TagDocumentParser#parse(String)}와 같습니다.
+ * 속성이 없는 {@code <h1>} ~ {@code <h6>} 태그가 열리면 새로운 섹션이 시작되고,
+ * 제목은 같은 수준의 닫는 태그가 나올 때까지의 내용입니다.
+ */
+class SectionSplittingReceiver implements HtmlStreamEventReceiver {
+
+	private final SwitchableAppendable output = new SwitchableAppendable();
+	private final HtmlStreamRenderer renderer = HtmlStreamRenderer.create(output, Handler.PROPAGATE,
+		Handler.DO_NOTHING);
+	private final List<RawSection> sections = new ArrayList<>();
+	private final int expectedContentLength;
+
+	private char level;
+	private String openHeadingTag;
+	private StringBuilder title;
+	private StringBuilder content;
+
+	SectionSplittingReceiver(int expectedContentLength) {
+		this.expectedContentLength = expectedContentLength;
+	}
+
+	List<RawSection> getSections() {
+		return sections;
+	}
+
+	@Override
+	public void openDocument() {
+		renderer.openDocument();
+	}
+
+	@Override
+	public void closeDocument() {
+		renderer.closeDocument();
+		finishSection();
+	}
+
+	@Override
+	public void openTag(String elementName, List<String> attrs) {
+		// 제목 안에서 열리는 heading 태그는 제목의 일부로 취급합니다.
+		if (openHeadingTag != null || !isHeadingTag(elementName) || !attrs.isEmpty()) {
+			renderer.openTag(elementName, attrs);
+			return;
+		}
+
+		finishSection();
+		output.target = null;
+		renderer.openTag(elementName, attrs);
+
+		level = elementName.charAt(1);
+		openHeadingTag = elementName;
+		title = new StringBuilder();
+		output.target = title;
+	}
+
+	@Override
+	public void closeTag(String elementName) {
+		if (!elementName.equals(openHeadingTag)) {
+			renderer.closeTag(elementName);
+			return;
+		}
+
+		output.target = null;
+		renderer.closeTag(elementName);
+
+		openHeadingTag = null;
+		content = new StringBuilder(Math.min(expectedContentLength, 1024));
+		output.target = content;
+	}
+
+	@Override
+	public void text(String text) {
+		renderer.text(text);
+	}
+
+	/**
+	 * 지금까지 기록한 섹션을 결과에 추가합니다.
+	 * 닫는 태그가 나오지 않은 heading은 섹션으로 인정하지 않습니다.
+	 */
+	private void finishSection() {
+		if (content != null) {
+			sections.add(new RawSection(level, title.toString(), content.toString()));
+		}
+		title = null;
+		content = null;
+		output.target = null;
+	}
+
+	private static boolean isHeadingTag(String elementName) {
+		return elementName.length() == 2
+			&& elementName.charAt(0) == 'h'
+			&& TagDocumentParser.isHeadingLevel(elementName.charAt(1));
+	}
+
+	/**
+	 * heading 태그의 수준, 제목, 다듬어지지 않은 내용을 담습니다.
+	 */
+	record RawSection(char level, String title, String content) {
+	}
+
+	/**
+	 * 기록 대상을 바꿀 수 있는 Appendable입니다. 대상이 null이면 기록하지 않습니다.
+	 */
+	private static final class SwitchableAppendable implements Appendable {
+
+		private StringBuilder target;
+
+		@Override
+		public Appendable append(CharSequence csq) {
+			if (target != null) {
+				target.append(csq);
+			}
+			return this;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) {
+			if (target != null) {
+				target.append(csq, start, end);
+			}
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			if (target != null) {
+				target.append(c);
+			}
+			return this;
+		}
+	}
+}
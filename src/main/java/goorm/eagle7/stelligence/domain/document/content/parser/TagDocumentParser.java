@@ -1,10 +1,11 @@
 package goorm.eagle7.stelligence.domain.document.content.parser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.owasp.html.HtmlSanitizer;
+import org.owasp.html.PolicyFactory;
 import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
@@ -15,15 +16,22 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * HTML 태그로 들어온 문서를 파싱하여 SectionRequest로 변환하는 클래스입니다.
+ *
+ * <p>문서는 heading 태그({@code <h1>} ~ {@code <h6>})를 기준으로 나뉩니다.
+ * heading 태그 사이의 내용이 섹션의 제목이 되고, 다음 heading 태그 전까지의 내용이 섹션의 내용이 됩니다.
+ * 첫 번째 heading 태그 이전의 내용은 무시합니다.
+ *
+ * <p>이전에는 {@code (<h([1-6])>(.*?)</h\2>)(.*?)(?=<h[1-6]>|$)} 정규식을 사용했으나,
+ * 역참조와 전방탐색 때문에 문서가 커질수록 백트래킹 비용이 크게 증가했습니다.
+ * 지금은 문자열을 앞에서부터 한 번만 훑으며 섹션을 나누고, 결과는 기존 정규식과 같습니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TagDocumentParser implements DocumentParser {
 
-	// Heading 태그를 기반으로 문서를 파싱하기 위한 정규식
-	private static final Pattern HEADING_TAG_PATTERN = Pattern.compile(
-		"(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+	private static final int OPEN_TAG_LENGTH = "<h1>".length();
+	private static final int CLOSE_TAG_LENGTH = "</h1>".length();
 
 	/**
 	 * HTML 태그로 들어온 문서를 파싱하여 SectionRequest로 변환합니다.
@@ -34,21 +42,106 @@ public class TagDocumentParser implements DocumentParser {
 	public List<SectionRequest> parse(String htmlContent) {
 
 		List<SectionRequest> sectionRequests = new ArrayList<>();
-		Matcher matcher = HEADING_TAG_PATTERN.matcher(htmlContent);
 
-		while (matcher.find()) {
-			String level = getValidLevel(matcher.group(2));
+		// 수준별로 마지막에 찾은 닫는 태그의 위치입니다. 같은 수준의 닫는 태그를 다시 처음부터 찾지 않기 위해 사용합니다.
+		int[] closeTagIndex = new int[7];
+		int[] closeTagSearchedFrom = new int[7];
+		Arrays.fill(closeTagSearchedFrom, Integer.MAX_VALUE);
 
-			Heading heading = Heading.valueOf("H" + level); // h 태그의 숫자를 Heading enum의 이름으로 사용합니다.
-			String title = matcher.group(3); // 타이틀은 h 태그 사이의 내용입니다.
-			String content = matcher.group(4).trim(); // 콘텐츠는 다음 h 태그 전까지입니다.
+		int start = nextOpenTag(htmlContent, 0);
+		while (start >= 0) {
+			char level = htmlContent.charAt(start + 2);
+			int titleStart = start + OPEN_TAG_LENGTH;
+			int titleEnd = findCloseTag(htmlContent, level, titleStart, closeTagIndex, closeTagSearchedFrom);
+
+			// 닫는 태그가 없는 heading은 섹션으로 인정하지 않고 다음 heading 태그를 찾습니다.
+			if (titleEnd < 0) {
+				start = nextOpenTag(htmlContent, start + 1);
+				continue;
+			}
+
+			int contentStart = titleEnd + CLOSE_TAG_LENGTH;
+			int next = nextOpenTag(htmlContent, contentStart);
+			int contentEnd = next < 0 ? htmlContent.length() : next;
+
+			Heading heading = Heading.valueOf("H" + getValidLevel(String.valueOf(level))); // h 태그의 숫자를 Heading enum의 이름으로 사용합니다.
+			String title = htmlContent.substring(titleStart, titleEnd); // 타이틀은 h 태그 사이의 내용입니다.
+			String content = htmlContent.substring(contentStart, contentEnd).trim(); // 콘텐츠는 다음 h 태그 전까지입니다.
 
 			sectionRequests.add(new SectionRequest(heading, title, content));
+			start = next;
 		}
 
 		return sectionRequests;
 	}
 
+	/**
+	 * 사용자가 작성한 HTML을 정화(sanitize)하면서 동시에 섹션으로 나눕니다.
+	 *
+	 * <p>OWASP sanitizer가 HTML을 토큰화하며 발생시키는 이벤트를 받아 섹션별로 바로 기록하므로,
+	 * 정화된 HTML 문자열을 만든 뒤 다시 처음부터 훑을 필요가 없습니다.
+	 *
+	 * @param rawContent 사용자가 작성한 HTML
+	 * @param policyFactory HTML 정화 정책
+	 * @return SectionRequest 리스트
+	 */
+	@Override
+	public List<SectionRequest> sanitizeAndParse(String rawContent, PolicyFactory policyFactory) {
+		if (rawContent == null) {
+			return new ArrayList<>();
+		}
+
+		SectionSplittingReceiver receiver = new SectionSplittingReceiver(rawContent.length());
+		HtmlSanitizer.sanitize(rawContent, policyFactory.apply(receiver));
+
+		List<SectionRequest> sectionRequests = new ArrayList<>(receiver.getSections().size());
+		for (SectionSplittingReceiver.RawSection section : receiver.getSections()) {
+			Heading heading = Heading.valueOf("H" + getValidLevel(String.valueOf(section.level())));
+			sectionRequests.add(new SectionRequest(heading, section.title(), section.content().trim()));
+		}
+		return sectionRequests;
+	}
+
+	/**
+	 * from 이후에 처음 등장하는 여는 heading 태그({@code <h1>} ~ {@code <h6>})의 위치를 찾습니다.
+	 * @return 태그의 시작 위치, 없다면 -1
+	 */
+	private static int nextOpenTag(String html, int from) {
+		int index = html.indexOf("<h", from);
+		while (index >= 0) {
+			if (index + OPEN_TAG_LENGTH <= html.length()
+				&& isHeadingLevel(html.charAt(index + 2))
+				&& html.charAt(index + 3) == '>') {
+				return index;
+			}
+			index = html.indexOf("<h", index + 2);
+		}
+		return -1;
+	}
+
+	/**
+	 * from 이후에 처음 등장하는 해당 수준의 닫는 heading 태그의 위치를 찾습니다.
+	 *
+	 * <p>from은 호출할수록 커지므로, 이전에 찾은 위치가 from 이후라면 그 위치를 그대로 사용하고
+	 * 이전에 찾지 못했다면 이후에도 찾을 수 없습니다. 따라서 수준별로 문서를 최대 한 번만 훑습니다.
+	 *
+	 * @return 태그의 시작 위치, 없다면 -1
+	 */
+	private static int findCloseTag(String html, char level, int from, int[] closeTagIndex,
+		int[] closeTagSearchedFrom) {
+		int i = level - '0';
+		if (closeTagSearchedFrom[i] <= from && (closeTagIndex[i] < 0 || closeTagIndex[i] >= from)) {
+			return closeTagIndex[i];
+		}
+		closeTagSearchedFrom[i] = from;
+		closeTagIndex[i] = html.indexOf("</h" + level + ">", from);
+		return closeTagIndex[i];
+	}
+
+	static boolean isHeadingLevel(char c) {
+		return c >= '1' && c <= '6';
+	}
+
 	/**
 	 * 들어온 Heading의 수준을 정제하여 반환합니다.
 	 * 4 5 6 은 사용되면 안되므로, 3으로 변경하여 반환합니다.
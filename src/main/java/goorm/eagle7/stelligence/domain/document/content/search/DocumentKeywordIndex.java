@@ -0,0 +1,145 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 최신 버전의 문서 본문에 대한 인메모리 역색인입니다.
+ *
+ * <p>n-gram 토큰마다 해당 토큰을 포함하는 문서와 등장 횟수(posting)를 저장합니다.
+ * 검색 시에는 검색어의 모든 토큰을 포함하는 문서를 찾고, 토큰의 등장 횟수 합이 큰 순서로 정렬합니다.
+ *
+ * <p>문서 단위로 색인을 교체하므로, 문서가 생성되거나 병합될 때마다 해당 문서의 최신 본문으로 {@link #index}를 호출해야 합니다.
+ * 문서마다 색인된 본문의 버전을 함께 기록하여, 먼저 읽었지만 늦게 도착한 이전 버전의 본문이 더 최신의 색인을 덮어쓰지 않도록 합니다.
+ * 색인이 처음 구축되기 전까지는 {@link #isReady()}가 false를 반환하며, 이 때는 DB를 통해 검색해야 합니다.
+ *
+ * @see DocumentKeywordIndexer
+ */
+@Component
+public class DocumentKeywordIndex {
+
+	/**
+	 * 토큰 -> (문서 ID -> 등장 횟수)
+	 */
+	private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+	/**
+	 * 문서 ID -> (토큰 -> 등장 횟수), 문서의 색인을 교체할 때 기존 posting을 제거하기 위해 사용합니다.
+	 */
+	private final Map<Long, Map<String, Integer>> documentTokens = new ConcurrentHashMap<>();
+
+	/**
+	 * 문서 ID -> 색인된 본문의 버전
+	 */
+	private final Map<Long, Long> documentRevisions = new ConcurrentHashMap<>();
+
+	private volatile boolean ready = false;
+
+	/**
+	 * 문서의 색인을 최신 본문으로 교체합니다.
+	 * 이미 더 최신 버전의 본문으로 색인되어 있다면 교체하지 않습니다.
+	 * @param documentId 문서 ID
+	 * @param revision 본문을 읽기 전에 조회한 문서의 최신 버전
+	 * @param contents 최신 버전의 섹션 본문 목록
+	 * @return 색인을 교체했다면 true
+	 */
+	public synchronized boolean index(Long documentId, Long revision, Collection<String> contents) {
+		Long indexedRevision = documentRevisions.get(documentId);
+		if (indexedRevision != null && indexedRevision > revision) {
+			return false;
+		}
+		remove(documentId);
+
+		Map<String, Integer> tokens = new HashMap<>();
+		for (String content : contents) {
+			NGramTokenizer.tokenizeContent(content).forEach((token, count) -> tokens.merge(token, count, Integer::sum));
+		}
+
+		tokens.forEach((token, count) ->
+			postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(documentId, count));
+		documentTokens.put(documentId, tokens);
+		documentRevisions.put(documentId, revision);
+		return true;
+	}
+
+	/**
+	 * 문서를 색인에서 제거합니다.
+	 * @param documentId 문서 ID
+	 */
+	public synchronized void remove(Long documentId) {
+		documentRevisions.remove(documentId);
+		Map<String, Integer> tokens = documentTokens.remove(documentId);
+		if (tokens == null) {
+			return;
+		}
+
+		for (String token : tokens.keySet()) {
+			postings.computeIfPresent(token, (t, documents) -> {
+				documents.remove(documentId);
+				return documents.isEmpty() ? null : documents;
+			});
+		}
+	}
+
+	/**
+	 * 검색어를 포함하는 문서의 ID를 연관도 순으로 조회합니다.
+	 * 검색어가 비어있다면 색인된 모든 문서를 ID 순으로 반환합니다.
+	 * @param keyword 검색어
+	 * @return 문서 ID 목록
+	 */
+	public List<Long> search(String keyword) {
+		Set<String> tokens = NGramTokenizer.tokenizeKeyword(keyword);
+		if (tokens.isEmpty()) {
+			return documentTokens.keySet().stream().sorted().toList();
+		}
+
+		// 가장 짧은 posting을 기준으로 교집합을 구합니다.
+		List<Map<Long, Integer>> tokenPostings = new ArrayList<>();
+		for (String token : tokens) {
+			Map<Long, Integer> documents = postings.get(token);
+			if (documents == null) {
+				return List.of();
+			}
+			tokenPostings.add(documents);
+		}
+		tokenPostings.sort(Comparator.comparingInt(Map::size));
+
+		Map<Long, Integer> scores = new HashMap<>();
+		candidate:
+		for (Map.Entry<Long, Integer> entry : tokenPostings.get(0).entrySet()) {
+			int score = entry.getValue();
+			for (int i = 1; i < tokenPostings.size(); i++) {
+				Integer count = tokenPostings.get(i).get(entry.getKey());
+				if (count == null) {
+					continue candidate;
+				}
+				score += count;
+			}
+			scores.put(entry.getKey(), score);
+		}
+
+		return scores.entrySet().stream()
+			.sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.map(Map.Entry::getKey)
+			.toList();
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 전체 색인이 구축되었음을 표시합니다.
+	 */
+	public void markReady() {
+		this.ready = true;
+	}
+}
@@ -0,0 +1,188 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.contribute.event.ContributeMergedEvent;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentRevision;
+import goorm.eagle7.stelligence.domain.document.event.NewDocumentEvent;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.dto.SectionContent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DocumentKeywordIndex}를 구축하고 갱신하는 리스너입니다.
+ *
+ * <p>애플리케이션이 시작되면 모든 문서의 최신 본문으로 색인을 구축하고,
+ * 이후에는 문서가 생성되거나 수정요청이 병합된 트랜잭션이 커밋된 뒤 해당 문서의 색인만 교체합니다.
+ *
+ * <p>색인은 서버마다 메모리에 유지되므로, 문서의 색인을 교체한 서버는 pub/sub을 통해 다른 서버에 문서 ID를 전달하고
+ * 다른 서버는 DB에서 해당 문서의 본문을 다시 읽어 색인을 교체합니다. 메시지가 유실되더라도 서버 간의 색인이 계속 어긋나지 않도록,
+ * document.search.rebuild-interval-ms(기본값 1시간)마다 색인 전체를 다시 구축합니다.
+ *
+ * <p>문서의 최신 버전을 본문보다 먼저 조회하고 색인에 함께 기록합니다. 따라서 재구축이 오래 걸려
+ * 그 사이 병합된 문서의 색인이 먼저 교체되더라도, 재구축이 읽은 이전 본문으로 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentKeywordIndexer implements MessageListener {
+
+	private static final int BUILD_CHUNK_SIZE = 100;
+	private static final ChannelTopic TOPIC = new ChannelTopic("document:search:reindex");
+	private static final String DELIMITER = ":";
+
+	private final DocumentKeywordIndex documentKeywordIndex;
+	private final DocumentContentRepository documentContentRepository;
+	private final SectionRepository sectionRepository;
+	private final ContributeRepository contributeRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	/**
+	 * 자신이 발행한 메시지를 구분하기 위한 서버의 식별자입니다.
+	 */
+	private final String instanceId = UUID.randomUUID().toString();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, TOPIC);
+	}
+
+	/**
+	 * 모든 문서의 최신 본문으로 색인을 구축합니다.
+	 * 애플리케이션이 시작될 때와, 이후 주기적으로 실행됩니다.
+	 *
+	 * <p>본문은 엔티티가 아닌 프로젝션으로 BUILD_CHUNK_SIZE개의 문서씩 조회합니다.
+	 * 하나의 트랜잭션으로 묶지 않으므로 재구축 도중 영속성 컨텍스트에 섹션이 쌓이지 않습니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(
+		initialDelayString = "${document.search.rebuild-interval-ms:3600000}",
+		fixedDelayString = "${document.search.rebuild-interval-ms:3600000}"
+	)
+	public void build() {
+		List<DocumentRevision> revisions = documentContentRepository.findAllRevisions();
+
+		int skipped = 0;
+		for (int from = 0; from < revisions.size(); from += BUILD_CHUNK_SIZE) {
+			skipped += index(revisions.subList(from, Math.min(from + BUILD_CHUNK_SIZE, revisions.size())));
+		}
+
+		documentKeywordIndex.markReady();
+		log.info("[DocumentKeywordIndexer] 문서 {}개의 검색 색인을 구축했습니다. 더 최신의 색인을 유지한 문서: {}개",
+			revisions.size() - skipped, skipped);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(value = ContributeMergedEvent.class)
+	public void onContributeMerged(ContributeMergedEvent event) {
+		contributeRepository.findById(event.contributeId())
+			.ifPresent(contribute -> reindex(contribute.getDocument().getId()));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(value = NewDocumentEvent.class)
+	public void onDocumentNew(NewDocumentEvent event) {
+		reindex(event.documentId());
+	}
+
+	/**
+	 * 다른 서버에서 색인을 교체한 문서의 색인을 DB에서 다시 읽어 교체합니다.
+	 * 자신이 발행한 메시지는 이미 반영되었으므로 무시합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(DELIMITER);
+		if (parts.length != 2 || parts[0].equals(instanceId)) {
+			return;
+		}
+
+		try {
+			indexLatest(Long.valueOf(parts[1]));
+		} catch (NumberFormatException e) {
+			log.warn("[DocumentKeywordIndexer] 잘못된 형식의 메시지입니다. message: {}", message);
+		} catch (DataAccessException e) {
+			log.warn("[DocumentKeywordIndexer] 색인 갱신에 실패했습니다. 다음 재구축 시 반영됩니다.", e);
+		}
+	}
+
+	private void reindex(Long documentId) {
+		indexLatest(documentId);
+		publish(documentId);
+	}
+
+	/**
+	 * 문서의 최신 버전과 본문을 DB에서 읽어 색인을 교체합니다. 문서가 존재하지 않는다면 색인에서 제거합니다.
+	 */
+	private void indexLatest(Long documentId) {
+		Optional<DocumentRevision> revision = documentContentRepository.findRevisionsByIdIn(List.of(documentId))
+			.stream()
+			.findFirst();
+		if (revision.isEmpty()) {
+			documentKeywordIndex.remove(documentId);
+			return;
+		}
+		index(List.of(revision.get()));
+	}
+
+	/**
+	 * 문서들의 본문을 한 번에 조회하여 색인을 교체합니다.
+	 * 버전은 본문보다 먼저 조회되어야 하므로, 본문은 항상 전달된 버전과 같거나 더 최신입니다.
+	 * @param revisions 본문을 조회하기 전에 읽은 문서의 최신 버전 목록
+	 * @return 이미 더 최신의 본문으로 색인되어 있어 교체하지 않은 문서의 수
+	 */
+	private int index(List<DocumentRevision> revisions) {
+		List<Long> documentIds = revisions.stream().map(DocumentRevision::documentId).toList();
+		Map<Long, List<String>> contents = sectionRepository.findLatestContentsByDocumentIdIn(documentIds)
+			.stream()
+			.collect(Collectors.groupingBy(
+				SectionContent::documentId,
+				Collectors.mapping(SectionContent::content, Collectors.toList())
+			));
+
+		int skipped = 0;
+		for (DocumentRevision revision : revisions) {
+			boolean indexed = documentKeywordIndex.index(revision.documentId(), revision.latestRevision(),
+				contents.getOrDefault(revision.documentId(), List.of()));
+			if (!indexed) {
+				skipped++;
+			}
+		}
+		return skipped;
+	}
+
+	/**
+	 * 다른 서버에 문서의 색인이 교체되었음을 알립니다.
+	 * Redis에 접근할 수 없다면 다른 서버의 색인은 다음 재구축 시 반영됩니다.
+	 */
+	private void publish(Long documentId) {
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), instanceId + DELIMITER + documentId);
+		} catch (DataAccessException e) {
+			log.warn("[DocumentKeywordIndexer] 색인 변경 전파에 실패했습니다. documentId: {}", documentId, e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 문서 검색을 위한 n-gram 토크나이저
+ *
+ * <p>한국어는 조사와 어미가 단어에 붙어 있어 공백 단위의 토큰화로는 부분 검색이 불가능합니다.
+ * 따라서 형태소 분석 대신 공백으로 나눈 각 어절을 글자 단위의 unigram, bigram으로 분해하여 색인합니다.
+ * 예를 들어 "별자리는"은 "별", "자", "리", "는", "별자", "자리", "리는"으로 분해되며, "자리"로 검색할 수 있습니다.
+ *
+ * <p>본문은 HTML이므로 태그를 제거한 뒤 토큰화합니다.
+ */
+public class NGramTokenizer {
+
+	private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+	private NGramTokenizer() {
+		throw new AssertionError("인스턴스화 할 수 없는 유틸리티 클래스입니다.");
+	}
+
+	/**
+	 * 색인할 본문을 토큰화합니다.
+	 * @param content 섹션 본문 (HTML)
+	 * @return 토큰별 등장 횟수
+	 */
+	public static Map<String, Integer> tokenizeContent(String content) {
+		Map<String, Integer> frequencies = new HashMap<>();
+		if (content == null) {
+			return frequencies;
+		}
+
+		for (String word : split(TAG_PATTERN.matcher(content).replaceAll(" "))) {
+			for (int i = 0; i < word.length(); i++) {
+				frequencies.merge(word.substring(i, i + 1), 1, Integer::sum);
+				if (i + 1 < word.length()) {
+					frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+				}
+			}
+		}
+		return frequencies;
+	}
+
+	/**
+	 * 검색어를 토큰화합니다.
+	 *
+	 * <p>한 글자 어절은 unigram으로, 두 글자 이상의 어절은 bigram으로만 분해합니다.
+	 * 검색어의 모든 토큰을 포함하는 문서가 검색 결과가 됩니다.
+	 *
+	 * @param keyword 검색어
+	 * @return 검색어의 토큰 목록, 검색어가 비어있다면 빈 집합
+	 */
+	public static Set<String> tokenizeKeyword(String keyword) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (keyword == null) {
+			return tokens;
+		}
+
+		for (String word : split(keyword)) {
+			if (word.length() == 1) {
+				tokens.add(word);
+			}
+			for (int i = 0; i + 1 < word.length(); i++) {
+				tokens.add(word.substring(i, i + 2));
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * 색인의 검색 결과를 본문과 비교하여 확인해야 하는 어절을 반환합니다.
+	 *
+	 * <p>세 글자 이상의 어절은 여러 bigram으로 분해되는데, 모든 bigram을 포함하는 문서라도 bigram들이 이어서 등장하지 않을 수 있습니다.
+	 * 예를 들어 "별자리"의 bigram인 "별자", "자리"는 "별자 ... 자리"처럼 떨어져 등장하는 문서에도 모두 포함됩니다.
+	 * 두 글자 이하의 어절은 토큰과 같으므로 색인의 결과만으로 충분합니다.
+	 *
+	 * @param keyword 검색어
+	 * @return 세 글자 이상의 어절 목록 (소문자), 확인이 필요하지 않다면 빈 목록
+	 */
+	public static List<String> wordsToVerify(String keyword) {
+		return Arrays.stream(split(keyword == null ? "" : keyword))
+			.filter(word -> word.length() > 2)
+			.distinct()
+			.toList();
+	}
+
+	private static String[] split(String text) {
+		String normalized = text.toLowerCase(Locale.ROOT).strip();
+		return normalized.isEmpty() ? new String[0] : WHITESPACE_PATTERN.split(normalized);
+	}
+}
@@ -3,16 +3,18 @@ package goorm.eagle7.stelligence.domain.document.graph;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphCache;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphEncoder;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphSnapshot;
+import goorm.eagle7.stelligence.domain.document.graph.cache.EncodedDocumentGraph;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
-import goorm.eagle7.stelligence.domain.document.graph.dto.HasChildRelationshipResponse;
 import goorm.eagle7.stelligence.domain.document.graph.model.DocumentNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,66 +26,100 @@ import lombok.extern.slf4j.Slf4j;
 public class DocumentGraphService {
 
 	private final DocumentNodeRepository documentNodeRepository;
+	private final DocumentGraphCache documentGraphCache;
+	private final DocumentGraphEncoder documentGraphEncoder;
 
 	/**
 	 * 생성된 Document 객체를 기준으로 새로운 문서 노드를 생성합니다.
 	 * 상위 문서가 없는 최상위 문서에 대한 노드를 생성할 때민 사용합니다.
 	 * 상위 문서가 존재하는 문서 노드는 {@link #createDocumentNodeWithParent} 메서드를 통해 생성해주세요.
-	 * (기존에 설정된 그래프 관련 캐시를 모두 무효화합니다.)
+	 * (커밋 이후 메모리의 그래프에 변경된 노드만 반영합니다.)
 	 * @param document: 생성된 문서를 나타냅니다.
 	 */
 	@Transactional
-	@CacheEvict(value="RootGraph", allEntries = true, cacheManager = "cacheManager")
 	public void createDocumentNode(Document document) {
 
 		DocumentNode documentNode = new DocumentNode(document.getId(), document.getTitle());
 		documentNodeRepository.save(documentNode);
+
+		documentGraphCache.applyAfterCommit(
+			List.of(DocumentGraphRow.of(documentNode.getDocumentId(), documentNode.getTitle(), documentNode.getGroup(),
+				null, null)),
+			List.of()
+		);
 	}
 
 	/**
 	 * 생성된 Document 객체를 기준으로 새로운 문서 노드를 생성합니다.
 	 * 추가로, parentDocumentId를 갖는 문서 노드와 생성된 문서 노드 간의 링크를 연결합니다.
-	 * (기존에 설정된 그래프 관련 캐시를 모두 무효화합니다.)
+	 * (커밋 이후 메모리의 그래프에 변경된 노드만 반영합니다.)
 	 * @param document: 생성된 문서를 나타냅니다.
 	 * @param parentDocumentId: 링크를 연결할 상위 문서의 id를 나타냅니다.
 	 */
 	@Transactional
-	@CacheEvict(value="RootGraph", allEntries = true, cacheManager = "cacheManager")
 	public void createDocumentNodeWithParent(Document document, Long parentDocumentId) {
 
 		DocumentNode parentDocumentNode = documentNodeRepository.findSingleNodeByDocumentId(parentDocumentId)
 			.orElseThrow(() -> new BaseException("링크를 연결할 문서가 존재하지 않습니다."));
 		DocumentNode documentNode = new DocumentNode(document.getId(), document.getTitle(), parentDocumentNode);
 		documentNodeRepository.save(documentNode);
+
+		// 링크의 ID는 저장된 이후에 알 수 있으므로 다시 조회합니다.
+		documentGraphCache.applyAfterCommit(
+			documentNodeRepository.findGraphRowByDocumentId(List.of(documentNode.getDocumentId())),
+			List.of()
+		);
 	}
 
 	/**
 	 * 툭정 문서와 그 문서로부터 n번째 깊이의 문서까지 함께 조회합니다.
+	 * (메모리에 유지하는 그래프에서 조회합니다.)
 	 * @param documentId: 찾으려는 특정 문서의 id를 나타냅니다.
 	 * @param depth: 어느 깊이의 문서까지 가져올지를 결정합니다. depth가 0이면 자기자신만 반환합니다.
 	 * @return DocumentGraphResponse: 문서 그래프와 관련된 응답 DTO입니다.
 	 */
 	public DocumentGraphResponse findGraphWithDepth(Long documentId, int depth) {
 
-		List<DocumentNodeResponse> documentNodes = documentNodeRepository.findDocumentNodeByDocumentIdWithDepth(documentId, depth);
-		List<HasChildRelationshipResponse> hasChildRelationshipList = documentNodeRepository.findHasChildRelationshipByDocumentIdWithDepth(documentId, depth);
-
-		return DocumentGraphResponse.of(documentNodes, hasChildRelationshipList);
+		return documentGraphCache.find(documentId, depth);
 	}
 
 	/**
 	 * 모든 문서와 문서 간의 관계를 조회합니다.
-	 * 문서가 많아지면 부하가 발생할 수 있습니다.
-	 * (비슷한 요청이 반복될 것으로 예상되어 데이터를 캐싱합니다.)
+	 * (메모리에 유지하는 그래프에서 조회합니다.)
 	 * @return DocumentGraphResponse: 문서 그래프와 관련된 응답 DTO입니다.
 	 */
-	@Cacheable(value = "RootGraph", cacheManager = "cacheManager")
 	public DocumentGraphResponse findAllGraph() {
 
-		List<DocumentNodeResponse> documentNodes = documentNodeRepository.findAllDocumentNode();
-		List<HasChildRelationshipResponse> hasChildRelationshipList = documentNodeRepository.findAllHasChildRelationship();
+		return documentGraphCache.findAll();
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 그래프의 버전과 함께 조회합니다.
+	 * @return DocumentGraphSnapshot: 그래프의 버전과 문서 그래프입니다.
+	 */
+	public DocumentGraphSnapshot findAllGraphSnapshot() {
+
+		return documentGraphCache.snapshot();
+	}
+
+	/**
+	 * 문서 그래프의 현재 버전을 조회합니다.
+	 * 그래프가 변경될 때마다 증가하므로, 그래프 조회 응답의 ETag로 사용할 수 있습니다.
+	 * @return 문서 그래프의 버전
+	 */
+	public long getGraphVersion() {
+
+		return documentGraphCache.getVersion();
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 열 단위 형식으로 직렬화하여 조회합니다.
+	 * (그래프가 변경되기 전까지 직렬화한 결과를 재사용합니다.)
+	 * @return EncodedDocumentGraph: 직렬화된 응답 본문과 gzip으로 압축된 응답 본문입니다.
+	 */
+	public EncodedDocumentGraph findAllGraphEncoded() {
 
-		return DocumentGraphResponse.of(documentNodes, hasChildRelationshipList);
+		return documentGraphEncoder.encodeAll();
 	}
 
 	/**
@@ -109,59 +145,65 @@ public class DocumentGraphService {
 
 	/**
 	 * 처음 그래프를 조회할 때에는 루트 노드로부터 특정 깊이까지를 조회할 수 있어야합니다.
-	 * (비슷한 요청이 반복될 것으로 예상되어 데이터를 캐싱합니다.)
+	 * (메모리에 유지하는 그래프에서 조회합니다.)
 	 * @param depth: 루트 노드로부터 몇 번째 깊이까지를 조회할 것인지를 결정합니다.
 	 * @return DocumentGraphResponse: 문서 그래프와 관련된 응답 DTO입니다.
 	 */
-	@Cacheable(value = "RootGraph", key = "#depth", cacheManager = "cacheManager")
 	public DocumentGraphResponse findFromRootNodesWithDepth(int depth) {
 
-		List<DocumentNodeResponse> documentNodes = documentNodeRepository.findDocumentNodeFromRootWithDepth(depth);
-		List<HasChildRelationshipResponse> hasChildRelationshipList = documentNodeRepository.findHasChildRelationshipFromRootWithDepth(depth);
-
-		return DocumentGraphResponse.of(documentNodes, hasChildRelationshipList);
+		return documentGraphCache.findFromRoots(depth);
 	}
 
 	/**
 	 * 문서 ID에 따라 특정 문서 노드를 삭제합니다.
 	 * 이때, 해당 문서의 하위 문서의 링크와 그룹을 함께 재정의합니다.
-	 * (기존에 설정된 그래프 관련 캐시를 모두 무효화합니다.)
+	 * (커밋 이후 메모리의 그래프에 변경된 노드만 반영합니다.)
 	 * @param documentId: 삭제할 문서의 ID입니다.
 	 */
 	@Transactional
-	@CacheEvict(value="RootGraph", allEntries = true, cacheManager = "cacheManager")
 	public void deleteDocumentNode(Long documentId) {
 
 		boolean isRoot = documentNodeRepository.isRootNode(documentId)
 			.orElseThrow(() -> new IllegalArgumentException("삭제하려는 노드가 존재하지 않습니다."));
 
+		List<Long> childIds = documentNodeRepository.findChildDocumentIds(documentId);
+
 		if (isRoot) {
 			documentNodeRepository.deleteRootNodeByDocumentId(documentId);
 		} else {
 			documentNodeRepository.deleteNonrootNodeByDocumentId(documentId);
 		}
+
+		// 루트 노드가 삭제되면 자식 노드의 하위 그래프 전체의 그룹이 변경되고, 그렇지 않다면 자식 노드의 부모만 변경됩니다.
+		List<DocumentGraphRow> changedRows = isRoot
+			? documentNodeRepository.findSubGraphRowByDocumentId(childIds)
+			: documentNodeRepository.findGraphRowByDocumentId(childIds);
+		documentGraphCache.applyAfterCommit(changedRows, List.of(documentId));
 	}
 
 	/**
 	 * documentId에 따라 특정 문서를 찾습니다.
 	 * 찾은 특정 문서의 상위 문서를 parentDocumentId를 갖는 문서로 변경합니다.
 	 * parentDocumentId가 null이라면 링크를 삭제합니다.
-	 * (기존에 설정된 그래프 관련 캐시를 모두 무효화합니다.)
+	 * (커밋 이후 메모리의 그래프에 변경된 노드만 반영합니다.)
 	 * @param documentId: 링크를 변경할 문서 ID
 	 * @param parentDocumentId: 링크를 연결할 문서 ID
 	 */
 	@Transactional
-	@CacheEvict(value="RootGraph", allEntries = true, cacheManager = "cacheManager")
 	public void updateDocumentLink(Long documentId, Long parentDocumentId) {
 		if (parentDocumentId != null) {
 			changeLinkToParent(documentId, parentDocumentId);
 		} else {
 			removeLink(documentId);
 		}
+
+		documentGraphCache.applyAfterCommit(
+			documentNodeRepository.findSubGraphRowByDocumentId(List.of(documentId)),
+			List.of()
+		);
 	}
 
 	@Transactional
-	@CacheEvict(value="RootGraph", allEntries = true, cacheManager = "cacheManager")
 	public void changeTitle(Long documentId, String updateTitle) {
 
 		DocumentNode documentNode = documentNodeRepository.findById(documentId)
@@ -172,11 +214,17 @@ public class DocumentGraphService {
 			return;
 		}
 
-		if (documentNode.getParentDocumentNode() == null) {
+		boolean isRoot = documentNode.getParentDocumentNode() == null;
+		if (isRoot) {
 			documentNodeRepository.updateRootNodeTitle(documentId, updateTitle);
 		}
 		documentNodeRepository.updateNonrootNodeTitle(documentId, updateTitle);
 
+		// 루트 노드의 제목이 변경되면 하위 그래프 전체의 그룹이 함께 변경됩니다.
+		List<DocumentGraphRow> changedRows = isRoot
+			? documentNodeRepository.findSubGraphRowByDocumentId(List.of(documentId))
+			: documentNodeRepository.findGraphRowByDocumentId(List.of(documentId));
+		documentGraphCache.applyAfterCommit(changedRows, List.of());
 	}
 
 	/**
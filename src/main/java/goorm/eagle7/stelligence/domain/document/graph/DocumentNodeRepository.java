@@ -7,6 +7,7 @@ import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.data.repository.query.Param;
 
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.HasChildRelationshipResponse;
 import goorm.eagle7.stelligence.domain.document.graph.model.DocumentNode;
@@ -22,6 +23,45 @@ public interface DocumentNodeRepository extends Neo4jRepository<DocumentNode, Lo
 	@Query("match ()-[r:HAS_CHILD]->() return id(r) as linkId, startNode(r).documentId as parentDocumentId, endNode(r).documentId as childDocumentId")
 	List<HasChildRelationshipResponse> findAllHasChildRelationship();
 
+	/**
+	 * 모든 문서 노드를 해당 노드로 들어오는 링크와 함께 조회합니다.
+	 * 메모리에 문서 그래프 전체를 적재할 때 사용합니다.
+	 */
+	@Query("match (n:DocumentNode)"
+		+ " optional match (parent:DocumentNode)-[r:HAS_CHILD]->(n)"
+		+ " return n.documentId as documentId, n.title as title, n.group as group,"
+		+ " parent.documentId as parentDocumentId, id(r) as linkId")
+	List<DocumentGraphRow> findAllGraphRow();
+
+	/**
+	 * 주어진 문서 노드들을 해당 노드로 들어오는 링크와 함께 조회합니다.
+	 * @param documentIdList: 조회할 문서 노드의 ID 목록
+	 */
+	@Query("match (n:DocumentNode)"
+		+ " where n.documentId in $idList"
+		+ " optional match (parent:DocumentNode)-[r:HAS_CHILD]->(n)"
+		+ " return n.documentId as documentId, n.title as title, n.group as group,"
+		+ " parent.documentId as parentDocumentId, id(r) as linkId")
+	List<DocumentGraphRow> findGraphRowByDocumentId(@Param("idList") List<Long> documentIdList);
+
+	/**
+	 * 주어진 문서 노드들과 모든 후손 노드를, 각 노드로 들어오는 링크와 함께 조회합니다.
+	 * 그룹이 함께 변경되는 하위 그래프를 다시 읽을 때 사용합니다.
+	 * @param documentIdList: 하위 그래프의 시작 노드 ID 목록
+	 */
+	@Query("match (n1:DocumentNode)-[:HAS_CHILD*0..]->(n:DocumentNode)"
+		+ " where n1.documentId in $idList"
+		+ " with distinct n"
+		+ " optional match (parent:DocumentNode)-[r:HAS_CHILD]->(n)"
+		+ " return n.documentId as documentId, n.title as title, n.group as group,"
+		+ " parent.documentId as parentDocumentId, id(r) as linkId")
+	List<DocumentGraphRow> findSubGraphRowByDocumentId(@Param("idList") List<Long> documentIdList);
+
+	@Query("match (n:DocumentNode)-[:HAS_CHILD]->(child:DocumentNode)"
+		+ " where n.documentId = $documentId"
+		+ " return child.documentId")
+	List<Long> findChildDocumentIds(@Param("documentId") Long documentId);
+
 	// $depth가 mapping 되지 않아 :#{literal(#depth)}을 사용
 	@Query("match (n1:DocumentNode)-[:HAS_CHILD*0..:#{literal(#depth)}]->(n2:DocumentNode)"
 		+ " where n1.documentId=$documentId"
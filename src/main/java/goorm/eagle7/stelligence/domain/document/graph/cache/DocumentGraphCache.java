@@ -0,0 +1,232 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.domain.document.graph.DocumentNodeRepository;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서 그래프를 메모리에 유지하고, 서버 간에 변경사항을 동기화합니다.
+ *
+ * <p>처음 조회할 때 Neo4j에서 그래프 전체를 한 번 적재하고, 이후에는 문서 노드가 변경될 때마다
+ * 변경된 노드만을 {@link DocumentGraphDelta}로 반영합니다. 그래프가 변경될 때마다 캐시 전체를 무효화하고
+ * 다시 전체 그래프를 조회하던 방식과 달리, 변경의 크기만큼만 비용이 발생합니다.
+ *
+ * <p>변경사항은 트랜잭션이 커밋된 이후 Redis에서 발급한 버전과 함께 로컬 그래프에 반영되고, pub/sub을 통해 다른 서버로 전달됩니다.
+ * 다른 서버는 버전 순서대로 변경사항을 반영하며, 중간 버전이 누락되었다면 다음 조회 시 그래프 전체를 다시 적재합니다.
+ * 마지막 변경사항이 유실되면 다음 변경사항이 도착할 때까지 누락을 알 수 없으므로, 주기적으로 Redis의 버전과 비교하여
+ * 한 주기가 지나도록 따라잡지 못한 버전이 있다면 그래프를 다시 적재합니다.
+ * Redis에 접근할 수 없다면 로컬 그래프를 다시 적재하도록 표시하여, DB의 상태와 어긋나지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentGraphCache implements MessageListener {
+
+	private static final String VERSION_KEY = "document:graph:version";
+	private static final ChannelTopic TOPIC = new ChannelTopic("document:graph:delta");
+
+	private final DocumentNodeRepository documentNodeRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+
+	private final InMemoryDocumentGraph graph = new InMemoryDocumentGraph();
+
+	/**
+	 * 이전 확인에서 로컬 그래프보다 앞서 있던 Redis의 버전입니다. 앞서 있지 않았다면 0입니다.
+	 */
+	private long laggingVersion;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, TOPIC);
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 조회합니다.
+	 * 그래프가 변경되지 않았다면 같은 응답 객체를 재사용합니다.
+	 */
+	public DocumentGraphResponse findAll() {
+		return loadedGraph().findAll();
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 현재 버전과 함께 조회합니다.
+	 * 그래프가 변경되지 않았다면 같은 객체를 반환합니다.
+	 */
+	public DocumentGraphSnapshot snapshot() {
+		return loadedGraph().snapshot();
+	}
+
+	/**
+	 * 최상위 문서들로부터 depth 깊이까지의 그래프를 조회합니다.
+	 */
+	public DocumentGraphResponse findFromRoots(int depth) {
+		return loadedGraph().findFromRoots(depth);
+	}
+
+	/**
+	 * 특정 문서로부터 depth 깊이까지의 그래프를 조회합니다.
+	 */
+	public DocumentGraphResponse find(Long documentId, int depth) {
+		return loadedGraph().find(documentId, depth);
+	}
+
+	/**
+	 * 현재 적재된 그래프의 버전을 반환합니다.
+	 */
+	public long getVersion() {
+		return loadedGraph().getVersion();
+	}
+
+	/**
+	 * 문서 그래프의 변경사항을 현재 트랜잭션이 커밋된 이후 반영합니다.
+	 * 트랜잭션이 롤백되면 반영하지 않습니다. 트랜잭션 밖에서 호출되었다면 즉시 반영합니다.
+	 *
+	 * @param upserted 추가되거나 변경된 노드 (변경 이후의 상태)
+	 * @param removed 삭제된 노드의 ID
+	 */
+	public void applyAfterCommit(List<DocumentGraphRow> upserted, List<Long> removed) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(upserted, removed);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(upserted, removed);
+			}
+		});
+	}
+
+	/**
+	 * 다음 조회 시 그래프 전체를 다시 적재하도록 합니다.
+	 */
+	public void invalidate() {
+		graph.invalidate();
+	}
+
+	/**
+	 * 다른 서버에서 발생한 변경사항을 반영합니다.
+	 * 자신이 발행한 변경사항은 이미 반영된 버전이므로 무시됩니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		DocumentGraphDelta delta;
+		try {
+			delta = objectMapper.readValue(message.getBody(), DocumentGraphDelta.class);
+		} catch (IOException e) {
+			log.warn("문서 그래프 변경사항을 읽지 못했습니다. 그래프를 다시 적재합니다. {}", e.getMessage());
+			graph.invalidate();
+			return;
+		}
+
+		synchronized (this) {
+			if (!graph.apply(delta)) {
+				log.info("문서 그래프의 버전이 누락되었습니다. 그래프를 다시 적재합니다. 수신한 버전: {}", delta.version());
+			}
+		}
+	}
+
+	/**
+	 * Redis에서 발급된 버전과 로컬 그래프의 버전을 비교합니다.
+	 *
+	 * <p>발급된 버전의 변경사항은 곧바로 전달되므로, 이전 확인에서 발견한 버전을 이번 확인까지 반영하지 못했다면
+	 * 변경사항이 유실된 것으로 보고 다음 조회 시 그래프를 다시 적재합니다.
+	 * Redis의 버전이 로컬 그래프보다 작다면 Redis가 초기화된 것이므로 마찬가지로 다시 적재합니다.
+	 */
+	@Scheduled(fixedDelayString = "${document.graph.version-check-interval-ms:5000}")
+	public synchronized void checkVersion() {
+		if (!graph.isFresh()) {
+			laggingVersion = 0;
+			return;
+		}
+
+		long localVersion = graph.getVersion();
+		long remoteVersion = currentVersion();
+		if (remoteVersion < localVersion || laggingVersion > localVersion) {
+			log.info("문서 그래프의 버전이 Redis와 다릅니다. 그래프를 다시 적재합니다. 로컬 버전: {}, Redis 버전: {}",
+				localVersion, remoteVersion);
+			graph.invalidate();
+			laggingVersion = 0;
+			return;
+		}
+
+		laggingVersion = remoteVersion > localVersion ? remoteVersion : 0;
+	}
+
+	private synchronized void publish(List<DocumentGraphRow> upserted, List<Long> removed) {
+		Long version;
+		try {
+			version = redisTemplate.opsForValue().increment(VERSION_KEY);
+		} catch (DataAccessException e) {
+			log.warn("문서 그래프의 버전을 발급하지 못했습니다. 그래프를 다시 적재합니다. {}", e.getMessage());
+			graph.invalidate();
+			return;
+		}
+
+		DocumentGraphDelta delta = new DocumentGraphDelta(version, upserted, removed);
+		if (!graph.apply(delta)) {
+			log.info("문서 그래프의 버전이 누락되었습니다. 그래프를 다시 적재합니다. 발급한 버전: {}", version);
+		}
+
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), objectMapper.writeValueAsString(delta));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("문서 그래프 변경사항을 전달하지 못했습니다. 버전: {}, {}", version, e.getMessage());
+		}
+	}
+
+	private InMemoryDocumentGraph loadedGraph() {
+		if (!graph.isFresh()) {
+			reload();
+		}
+		return graph;
+	}
+
+	/**
+	 * 그래프 전체를 다시 적재합니다.
+	 * 버전을 먼저 읽은 뒤 그래프를 조회하므로, 적재 도중 커밋된 변경사항이 다시 반영되더라도 같은 상태가 됩니다.
+	 */
+	private synchronized void reload() {
+		if (graph.isFresh()) {
+			return;
+		}
+
+		long version = currentVersion();
+		List<DocumentGraphRow> rows = documentNodeRepository.findAllGraphRow();
+		graph.load(rows, version);
+		log.debug("문서 그래프를 적재했습니다. 노드 수: {}, 버전: {}", rows.size(), version);
+	}
+
+	private long currentVersion() {
+		try {
+			String version = redisTemplate.opsForValue().get(VERSION_KEY);
+			return version == null ? 0L : Long.parseLong(version);
+		} catch (DataAccessException e) {
+			log.warn("문서 그래프의 버전을 조회하지 못했습니다. {}", e.getMessage());
+			return graph.getVersion();
+		}
+	}
+}
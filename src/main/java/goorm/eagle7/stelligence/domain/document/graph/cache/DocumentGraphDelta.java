@@ -0,0 +1,22 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
+
+/**
+ * 문서 그래프의 변경사항입니다.
+ *
+ * <p>삭제된 노드를 먼저 제거한 뒤, 변경되거나 추가된 노드를 반영합니다.
+ * version은 모든 서버가 공유하는 그래프의 버전으로, 변경사항은 버전 순서대로 한 번씩 반영되어야 합니다.
+ *
+ * @param version 변경사항이 반영된 이후의 그래프 버전
+ * @param upserted 추가되거나 변경된 노드 (변경 이후의 상태)
+ * @param removed 삭제된 노드의 ID
+ */
+public record DocumentGraphDelta(
+	long version,
+	List<DocumentGraphRow> upserted,
+	List<Long> removed
+) {
+}
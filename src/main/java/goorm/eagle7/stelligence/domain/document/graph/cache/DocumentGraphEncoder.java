@@ -0,0 +1,75 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.api.ResponseTemplate;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphColumnarResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 문서 그래프를 열 단위 형식으로 직렬화하고, 그래프가 변경되기 전까지 직렬화한 결과를 재사용합니다.
+ *
+ * <p>직렬화한 결과는 그래프의 스냅샷마다 한 번만 만들어지므로, 그래프가 변경되지 않았다면
+ * 반복되는 전체 그래프 조회에서 객체를 다시 직렬화하거나 압축하지 않고 같은 바이트를 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentGraphEncoder {
+
+	private final DocumentGraphCache documentGraphCache;
+	private final ObjectMapper objectMapper;
+
+	private volatile CachedEncoding cached;
+
+	/**
+	 * 현재 버전의 전체 문서 그래프를 직렬화한 결과를 반환합니다.
+	 * @return 열 단위 형식의 응답 본문과 gzip으로 압축한 본문
+	 */
+	public EncodedDocumentGraph encodeAll() {
+		DocumentGraphSnapshot snapshot = documentGraphCache.snapshot();
+
+		CachedEncoding current = cached;
+		if (current != null && current.source() == snapshot) {
+			return current.encoded();
+		}
+
+		EncodedDocumentGraph encoded = encode(snapshot);
+		cached = new CachedEncoding(snapshot, encoded);
+		log.debug("문서 그래프를 직렬화했습니다. 버전: {}, 크기: {}bytes, 압축 크기: {}bytes",
+			encoded.version(), encoded.json().length, encoded.gzip().length);
+		return encoded;
+	}
+
+	private EncodedDocumentGraph encode(DocumentGraphSnapshot snapshot) {
+		DocumentGraphColumnarResponse columnar = DocumentGraphColumnarResponse.of(snapshot.version(), snapshot.graph());
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(ResponseTemplate.ok(columnar));
+			return new EncodedDocumentGraph(snapshot.version(), json, gzip(json));
+		} catch (IOException e) {
+			throw new UncheckedIOException("문서 그래프를 직렬화하지 못했습니다.", e);
+		}
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * 직렬화에 사용한 스냅샷과 그 결과입니다. 스냅샷이 교체되면 다시 직렬화합니다.
+	 */
+	private record CachedEncoding(DocumentGraphSnapshot source, EncodedDocumentGraph encoded) {
+	}
+}
@@ -0,0 +1,15 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+
+/**
+ * 특정 버전의 전체 문서 그래프입니다.
+ *
+ * @param version 그래프의 버전
+ * @param graph 해당 버전의 전체 그래프
+ */
+public record DocumentGraphSnapshot(
+	long version,
+	DocumentGraphResponse graph
+) {
+}
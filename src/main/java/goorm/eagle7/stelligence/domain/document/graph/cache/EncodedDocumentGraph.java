@@ -0,0 +1,15 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+/**
+ * 특정 버전의 전체 문서 그래프를 미리 직렬화한 결과입니다.
+ *
+ * @param version 그래프의 버전
+ * @param json 열 단위 형식으로 직렬화한 응답 본문
+ * @param gzip json을 gzip으로 압축한 결과
+ */
+public record EncodedDocumentGraph(
+	long version,
+	byte[] json,
+	byte[] gzip
+) {
+}
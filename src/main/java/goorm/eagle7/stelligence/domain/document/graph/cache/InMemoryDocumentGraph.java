@@ -0,0 +1,253 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.HasChildRelationshipResponse;
+
+/**
+ * 메모리에 유지하는 문서 그래프입니다.
+ *
+ * <p>문서 노드와 부모-자식 관계를 인접 리스트로 보관하고, 전체 그래프와 깊이 제한 그래프를 메모리에서 계산합니다.
+ * 변경사항은 {@link DocumentGraphDelta} 단위로 버전 순서대로 반영하며,
+ * 중간 버전이 누락되었다면 변경사항을 반영하지 않고 stale 상태가 되어 다시 적재되기를 기다립니다.
+ *
+ * <p>stale 상태에서도 기존 데이터는 유지하므로, 다시 적재되기 전까지는 마지막으로 반영된 그래프를 조회할 수 있습니다.
+ */
+public class InMemoryDocumentGraph {
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 문서 ID -> 노드, 전체 그래프를 문서 ID 순서로 반환하기 위해 정렬된 맵을 사용합니다.
+	 */
+	private final TreeMap<Long, DocumentGraphRow> nodes = new TreeMap<>();
+
+	/**
+	 * 부모 문서 ID -> 자식 문서 ID 목록
+	 */
+	private final Map<Long, NavigableSet<Long>> children = new HashMap<>();
+
+	private long version;
+	private volatile boolean stale = true;
+
+	/**
+	 * 같은 버전에 대한 전체 그래프 응답을 재사용하기 위해 보관합니다. 그래프가 변경되면 비워집니다.
+	 */
+	private DocumentGraphSnapshot allGraph;
+
+	/**
+	 * 그래프 전체를 주어진 노드들로 교체합니다.
+	 * @param rows 모든 문서 노드
+	 * @param version 적재한 그래프의 버전
+	 */
+	public void load(Collection<DocumentGraphRow> rows, long version) {
+		lock.writeLock().lock();
+		try {
+			nodes.clear();
+			children.clear();
+			rows.forEach(this::upsert);
+			this.version = version;
+			this.allGraph = null;
+			this.stale = false;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 변경사항을 반영합니다.
+	 *
+	 * <p>이미 반영된 버전이라면 무시하고, 중간 버전이 누락되었다면 반영하지 않고 stale 상태가 됩니다.
+	 * 아직 적재되지 않았거나 stale 상태라면 다시 적재할 때 변경사항이 포함되므로 무시합니다.
+	 *
+	 * @param delta 반영할 변경사항
+	 * @return 버전이 누락되어 다시 적재해야 한다면 false
+	 */
+	public boolean apply(DocumentGraphDelta delta) {
+		lock.writeLock().lock();
+		try {
+			if (stale || delta.version() <= version) {
+				return true;
+			}
+			if (delta.version() != version + 1) {
+				stale = true;
+				return false;
+			}
+
+			delta.removed().forEach(this::remove);
+			delta.upserted().forEach(this::upsert);
+			version = delta.version();
+			allGraph = null;
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 그래프를 다시 적재해야 하는 상태로 표시합니다. 기존 데이터는 유지합니다.
+	 */
+	public void invalidate() {
+		stale = true;
+	}
+
+	/**
+	 * 최신 상태로 적재되어 있는지 확인합니다.
+	 */
+	public boolean isFresh() {
+		return !stale;
+	}
+
+	public long getVersion() {
+		lock.readLock().lock();
+		try {
+			return version;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 반환합니다.
+	 */
+	public DocumentGraphResponse findAll() {
+		return snapshot().graph();
+	}
+
+	/**
+	 * 모든 문서와 문서 간의 관계를 현재 버전과 함께 반환합니다.
+	 * 그래프가 변경되지 않았다면 같은 객체를 반환합니다.
+	 */
+	public DocumentGraphSnapshot snapshot() {
+		lock.readLock().lock();
+		try {
+			DocumentGraphSnapshot cached = allGraph;
+			if (cached != null) {
+				return cached;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (allGraph == null) {
+				List<DocumentNodeResponse> documentNodes = new ArrayList<>(nodes.size());
+				List<HasChildRelationshipResponse> links = new ArrayList<>(nodes.size());
+				for (DocumentGraphRow row : nodes.values()) {
+					documentNodes.add(toNode(row));
+					if (row.getParentDocumentId() != null) {
+						links.add(toLink(row));
+					}
+				}
+				allGraph = new DocumentGraphSnapshot(version, DocumentGraphResponse.of(
+					Collections.unmodifiableList(documentNodes), Collections.unmodifiableList(links)));
+			}
+			return allGraph;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 최상위 문서들로부터 depth 깊이까지의 문서와 관계를 반환합니다.
+	 * @param depth 0이면 최상위 문서만 반환합니다.
+	 */
+	public DocumentGraphResponse findFromRoots(int depth) {
+		lock.readLock().lock();
+		try {
+			List<Long> rootIds = nodes.values().stream()
+				.filter(row -> row.getParentDocumentId() == null)
+				.map(DocumentGraphRow::getDocumentId)
+				.toList();
+			return traverse(rootIds, depth);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 특정 문서로부터 depth 깊이까지의 문서와 관계를 반환합니다.
+	 * @param documentId 시작 문서 ID, 존재하지 않는다면 빈 그래프를 반환합니다.
+	 * @param depth 0이면 자기 자신만 반환합니다.
+	 */
+	public DocumentGraphResponse find(Long documentId, int depth) {
+		lock.readLock().lock();
+		try {
+			return traverse(nodes.containsKey(documentId) ? List.of(documentId) : List.of(), depth);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 시작 노드들로부터 너비 우선으로 depth 깊이까지 탐색합니다. 호출하는 쪽에서 읽기 잠금을 획득해야 합니다.
+	 */
+	private DocumentGraphResponse traverse(List<Long> startIds, int depth) {
+		List<DocumentNodeResponse> documentNodes = new ArrayList<>();
+		List<HasChildRelationshipResponse> links = new ArrayList<>();
+
+		startIds.forEach(id -> documentNodes.add(toNode(nodes.get(id))));
+
+		List<Long> level = startIds;
+		for (int d = 1; d <= depth && !level.isEmpty(); d++) {
+			List<Long> next = new ArrayList<>();
+			for (Long parentId : level) {
+				for (Long childId : children.getOrDefault(parentId, Collections.emptyNavigableSet())) {
+					DocumentGraphRow child = nodes.get(childId);
+					documentNodes.add(toNode(child));
+					links.add(toLink(child));
+					next.add(childId);
+				}
+			}
+			level = next;
+		}
+
+		return DocumentGraphResponse.of(documentNodes, links);
+	}
+
+	private void upsert(DocumentGraphRow row) {
+		DocumentGraphRow previous = nodes.put(row.getDocumentId(), row);
+		if (previous != null && previous.getParentDocumentId() != null) {
+			NavigableSet<Long> siblings = children.get(previous.getParentDocumentId());
+			if (siblings != null) {
+				siblings.remove(row.getDocumentId());
+			}
+		}
+		if (row.getParentDocumentId() != null) {
+			children.computeIfAbsent(row.getParentDocumentId(), k -> new TreeSet<>()).add(row.getDocumentId());
+		}
+	}
+
+	private void remove(Long documentId) {
+		DocumentGraphRow removed = nodes.remove(documentId);
+		if (removed != null && removed.getParentDocumentId() != null) {
+			NavigableSet<Long> siblings = children.get(removed.getParentDocumentId());
+			if (siblings != null) {
+				siblings.remove(documentId);
+			}
+		}
+		children.remove(documentId);
+	}
+
+	private static DocumentNodeResponse toNode(DocumentGraphRow row) {
+		return DocumentNodeResponse.of(row.getDocumentId(), row.getTitle(), row.getGroup());
+	}
+
+	private static HasChildRelationshipResponse toLink(DocumentGraphRow row) {
+		return HasChildRelationshipResponse.of(row.getLinkId(), row.getParentDocumentId(), row.getDocumentId());
+	}
+}
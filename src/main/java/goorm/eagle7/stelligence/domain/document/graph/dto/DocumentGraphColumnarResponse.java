@@ -0,0 +1,77 @@
+package goorm.eagle7.stelligence.domain.document.graph.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 문서 그래프를 열 단위로 표현하는 응답 DTO입니다.
+ *
+ * <p>{@link DocumentGraphResponse}는 노드마다 그룹 문자열을 반복하고 노드와 링크를 별도의 객체 목록으로 전달하므로,
+ * 문서가 많아질수록 응답의 크기가 빠르게 증가합니다. 이 응답은 다음과 같이 표현합니다.
+ * <ul>
+ *     <li>그룹은 중복 없이 groups에 한 번씩만 담고, 각 노드는 groups의 인덱스(groupIndexes)를 가집니다.</li>
+ *     <li>i번째 노드의 정보는 documentIds, titles, groupIndexes, parentDocumentIds, linkIds의 i번째 원소에 담깁니다.</li>
+ *     <li>최상위 문서라면 parentDocumentIds와 linkIds의 값이 {@link #NONE}입니다.</li>
+ * </ul>
+ *
+ * <p>Accept 헤더로 {@link #MEDIA_TYPE}을 요청한 경우에만 이 형식으로 응답합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocumentGraphColumnarResponse {
+
+	public static final String MEDIA_TYPE = "application/vnd.stelligence.graph-columnar+json";
+
+	/**
+	 * 부모 문서나 링크가 없음을 나타내는 값입니다.
+	 */
+	public static final long NONE = -1L;
+
+	private long version;
+	private List<String> groups;
+	private long[] documentIds;
+	private String[] titles;
+	private int[] groupIndexes;
+	private long[] parentDocumentIds;
+	private long[] linkIds;
+
+	public static DocumentGraphColumnarResponse of(long version, DocumentGraphResponse graph) {
+		List<DocumentNodeResponse> documentNodes = graph.getDocumentNodes();
+		int size = documentNodes.size();
+
+		Map<Long, HasChildRelationshipResponse> linkByChildId = new HashMap<>(graph.getLinks().size() * 2);
+		graph.getLinks().forEach(link -> linkByChildId.put(link.getChildDocumentId(), link));
+
+		DocumentGraphColumnarResponse response = new DocumentGraphColumnarResponse();
+		response.version = version;
+		response.groups = new ArrayList<>();
+		response.documentIds = new long[size];
+		response.titles = new String[size];
+		response.groupIndexes = new int[size];
+		response.parentDocumentIds = new long[size];
+		response.linkIds = new long[size];
+
+		Map<String, Integer> groupIndex = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			DocumentNodeResponse node = documentNodes.get(i);
+			response.documentIds[i] = node.getDocumentId();
+			response.titles[i] = node.getTitle();
+			response.groupIndexes[i] = groupIndex.computeIfAbsent(node.getGroup(), group -> {
+				response.groups.add(group);
+				return response.groups.size() - 1;
+			});
+
+			HasChildRelationshipResponse link = linkByChildId.get(node.getDocumentId());
+			response.parentDocumentIds[i] = link == null ? NONE : link.getParentDocumentId();
+			response.linkIds[i] = link == null || link.getLinkId() == null ? NONE : link.getLinkId();
+		}
+
+		return response;
+	}
+}
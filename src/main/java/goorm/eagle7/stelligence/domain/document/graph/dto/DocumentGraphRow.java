@@ -0,0 +1,26 @@
+package goorm.eagle7.stelligence.domain.document.graph.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 문서 노드 하나와, 해당 노드로 들어오는 HAS_CHILD 링크를 함께 나타냅니다.
+ * 메모리에 유지하는 문서 그래프를 구성하거나 변경사항을 전달할 때 사용합니다.
+ * 최상위 문서라면 parentDocumentId와 linkId가 null입니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "of")
+@ToString
+public class DocumentGraphRow {
+
+	private Long documentId;
+	private String title;
+	private String group;
+	private Long parentDocumentId;
+	private Long linkId;
+
+}
@@ -1,12 +1,14 @@
 package goorm.eagle7.stelligence.domain.document.graph.dto;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "of")
 @ToString
 public class DocumentNodeResponse {
 
@@ -1,11 +1,13 @@
 package goorm.eagle7.stelligence.domain.document.graph.dto;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "of")
 public class HasChildRelationshipResponse {
 
 	private Long linkId;
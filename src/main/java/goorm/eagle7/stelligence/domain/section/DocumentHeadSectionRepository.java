@@ -0,0 +1,13 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import goorm.eagle7.stelligence.domain.section.model.DocumentHeadSection;
+
+/**
+ * 최신 버전 조회를 위한 프로젝션의 저장소입니다.
+ * 문서 생성과 병합 시의 갱신은 {@link SectionRepository}의 batch 메서드를 통해 섹션과 함께 수행합니다.
+ * @see goorm.eagle7.stelligence.domain.section.custom.CustomSectionRepository
+ */
+public interface DocumentHeadSectionRepository extends JpaRepository<DocumentHeadSection, Long> {
+}
@@ -1,5 +1,6 @@
 package goorm.eagle7.stelligence.domain.section;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,10 +10,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.custom.CustomSectionRepository;
+import goorm.eagle7.stelligence.domain.section.dto.SectionContent;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import goorm.eagle7.stelligence.domain.section.model.SectionId;
 
-public interface SectionRepository extends JpaRepository<Section, SectionId> {
+public interface SectionRepository extends JpaRepository<Section, SectionId>, CustomSectionRepository {
 
 	/**
 	 * Document의 특정 버전의 글을 조회하는 메서드입니다.
@@ -31,6 +34,50 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 		+ ") ")
 	List<Section> findByVersion(Document document, Long revision);
 
+	/**
+	 * Document의 최신 버전의 글을 조회하는 메서드입니다.
+	 *
+	 * <p>{@link #findByVersion}과 달리 섹션마다 max(revision) 서브쿼리를 수행하지 않고,
+	 * DocumentHeadSection 프로젝션을 통해 각 섹션의 최신 revision을 바로 찾아 조인합니다.
+	 * 과거 버전의 조회는 {@link #findByVersion}을 사용해야 합니다.
+	 *
+	 * @param documentId 문서 ID
+	 * @return 최신 버전의 섹션 목록 (삭제된 섹션 제외)
+	 */
+	@Query("select s from Section s "
+		+ "join DocumentHeadSection h on h.sectionId = s.id and h.revision = s.revision "
+		+ "where h.documentId = :documentId "
+		+ "and s.content is not null")
+	List<Section> findLatestByDocumentId(Long documentId);
+
+	/**
+	 * 여러 Document의 최신 버전의 본문만을 한 번에 조회하는 메서드입니다.
+	 * 섹션을 엔티티로 조회하지 않으므로, 많은 문서의 본문을 읽더라도 영속성 컨텍스트에 섹션이 쌓이지 않습니다.
+	 * @param documentIds 문서 ID 목록
+	 * @return 최신 버전의 섹션 본문 목록 (삭제된 섹션 제외)
+	 * @see #findLatestByDocumentId(Long)
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.section.dto.SectionContent(h.documentId, s.content) "
+		+ "from Section s "
+		+ "join DocumentHeadSection h on h.sectionId = s.id and h.revision = s.revision "
+		+ "where h.documentId in :documentIds "
+		+ "and s.content is not null")
+	List<SectionContent> findLatestContentsByDocumentIdIn(Collection<Long> documentIds);
+
+	/**
+	 * 여러 Document 중 최신 버전의 본문에 특정 문자열을 포함하는 Document의 ID를 조회하는 메서드입니다.
+	 * 대소문자를 구분하지 않으며, 본문을 조회하지 않고 DB에서 비교합니다.
+	 * @param documentIds 확인할 문서 ID 목록
+	 * @param keyword 포함되어야 하는 문자열 (소문자)
+	 * @return 해당 문자열을 포함하는 문서 ID 목록
+	 */
+	@Query("select distinct h.documentId "
+		+ "from Section s "
+		+ "join DocumentHeadSection h on h.sectionId = s.id and h.revision = s.revision "
+		+ "where h.documentId in :documentIds "
+		+ "and lower(s.content) like %:keyword%")
+	List<Long> findLatestDocumentIdsContaining(Collection<Long> documentIds, String keyword);
+
 	/**
 	 * Document의 특정 버전의 글에서 ID만을 조회하는 메서드입니다.
 	 * @param document 문서
@@ -75,6 +122,21 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 		+ "order by s.revision desc limit 1")
 	Optional<Section> findLatestSection(Long sectionId);
 
+	/**
+	 * 여러 SectionId에 대해 가장 최근에 개정된 버전을 한 번에 가져옵니다.
+	 * @param sectionIds 섹션 ID 목록
+	 * @return 최근 개정된 Section 목록, 존재하지 않는 ID는 제외됩니다.
+	 * @see #findLatestSection(Long)
+	 */
+	@Query("select s from Section s "
+		+ "where s.id in :sectionIds "
+		+ "and s.revision = ( "
+		+ "   select max(s2.revision) "
+		+ "   from Section s2 "
+		+ "   where s2.id = s.id "
+		+ ") ")
+	List<Section> findLatestSections(Collection<Long> sectionIds);
+
 	/**
 	 * <h3>Section이 중간에 삽입되는 경우 이후 순서인 섹션들의 순서를 변경하기 위한 메서드입니다.</h3>
 	 *
@@ -105,6 +167,10 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 	 * 위 방법은 추후 고려해볼 예정이고, 일단은 기존의 엔티티를 사용하면서 변경감지를 통해 값을 수정하게 만들었습니다. 이러한 이유로
 	 * 아래 메서드는 사용하지 않습니다.
 	 *
+	 * <p>현재는 섹션의 순서를 간격을 두고 저장하므로, 새로운 섹션은 대부분 기존 섹션 사이의 빈 순서에 배치되어
+	 * 다른 섹션의 순서를 변경하지 않습니다. 빈 순서가 부족한 경우에만 필요한 섹션의 순서를 메모리에서 계산하여 변경감지로 갱신합니다.
+	 * (goorm.eagle7.stelligence.domain.contribute.scheduler.template.SectionOrderPlanner 참조)
+	 *
 	 * @param documentId 문서 ID
 	 * @param revision 순서를 변경할 문서의 버전
 	 * @param insertOrders 순서를 변경할 기준 순서
@@ -0,0 +1,110 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 섹션의 과거 revision 본문을 압축/복원하는 유틸리티 클래스
+ *
+ * <p>최신 revision이 아닌 섹션의 본문은 더 이상 수정되거나 검색되지 않으므로,
+ * Deflate로 압축한 뒤 Base64로 인코딩하여 기존 TEXT 컬럼에 그대로 저장합니다.
+ * 압축된 본문은 {@link #MARKER}로 시작하며, 이 접두사가 없는 본문은 원문으로 취급합니다.
+ *
+ * <p>MARKER의 첫 글자인 U+0001은 XML에서 허용되지 않는 제어문자로, HtmlSanitizer를 거친 본문에는 나타나지 않습니다.
+ */
+public class SectionContentCompressor {
+
+	static final String MARKER = "\u0001z:";
+
+	/**
+	 * 이보다 짧은 본문은 압축으로 얻는 이득이 거의 없으므로 압축하지 않습니다.
+	 */
+	private static final int MIN_COMPRESS_BYTES = 512;
+
+	private static final int BUFFER_SIZE = 4096;
+
+	private SectionContentCompressor() {
+		throw new AssertionError("인스턴스화 할 수 없는 유틸리티 클래스입니다.");
+	}
+
+	/**
+	 * 본문이 압축된 형태인지 확인합니다.
+	 * @param content 본문
+	 * @return 압축된 본문이라면 true
+	 */
+	public static boolean isCompressed(String content) {
+		return content != null && content.startsWith(MARKER);
+	}
+
+	/**
+	 * 본문을 압축합니다. 압축 결과가 원문보다 작지 않거나, 이미 압축된 본문이라면 원문을 그대로 반환합니다.
+	 * @param content 원문
+	 * @return 압축된 본문 또는 원문
+	 */
+	public static String compress(String content) {
+		if (content == null || isCompressed(content)) {
+			return content;
+		}
+
+		byte[] raw = content.getBytes(UTF_8);
+		if (raw.length < MIN_COMPRESS_BYTES) {
+			return content;
+		}
+
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!deflater.finished()) {
+				int length = deflater.deflate(buffer);
+				out.write(buffer, 0, length);
+			}
+
+			// 인코딩된 결과는 ASCII이므로 문자 수가 곧 바이트 수입니다.
+			String compressed = MARKER + Base64.getEncoder().encodeToString(out.toByteArray());
+			return compressed.length() < raw.length ? compressed : content;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 압축된 본문을 복원합니다. 압축되지 않은 본문이라면 그대로 반환합니다.
+	 * @param content 저장된 본문
+	 * @return 원문
+	 */
+	public static String decompress(String content) {
+		if (!isCompressed(content)) {
+			return content;
+		}
+
+		byte[] compressed = Base64.getDecoder().decode(content.substring(MARKER.length()));
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!inflater.finished()) {
+				int length = inflater.inflate(buffer);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("압축된 섹션 본문이 손상되었습니다.");
+				}
+				out.write(buffer, 0, length);
+			}
+			return out.toString(UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("압축된 섹션 본문이 손상되었습니다.", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
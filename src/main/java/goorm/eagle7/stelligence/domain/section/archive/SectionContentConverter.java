@@ -0,0 +1,24 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Section의 본문을 조회할 때 압축된 본문을 원문으로 복원하는 컨버터입니다.
+ *
+ * <p>저장 시에는 값을 변환하지 않습니다. 본문의 압축은 {@link SectionHistoryArchiver}가
+ * 최신 revision이 아닌 섹션에 한해 별도로 수행하므로, 엔티티는 항상 원문만을 다루게 됩니다.
+ */
+@Converter
+public class SectionContentConverter implements AttributeConverter<String, String> {
+
+	@Override
+	public String convertToDatabaseColumn(String attribute) {
+		return attribute;
+	}
+
+	@Override
+	public String convertToEntityAttribute(String dbData) {
+		return SectionContentCompressor.decompress(dbData);
+	}
+}
@@ -0,0 +1,110 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 revision이 아닌 섹션의 본문을 주기적으로 압축하는 스케쥴러입니다.
+ *
+ * <p>섹션은 revision마다 본문 전체를 저장하므로, 수정이 누적될수록 section 테이블이 선형적으로 커집니다.
+ * 최신 revision의 본문은 조회와 검색을 위해 원문으로 유지하고, 이미 다음 revision이 존재하는 섹션의 본문만 압축합니다.
+ * 최신 revision 여부는 document_head_section을 통해 판단합니다.
+ *
+ * <p>처리한 섹션은 section.archived를 1로 표시합니다. 짧거나 압축으로 이득을 볼 수 없어 원문으로 남겨둔 본문도
+ * 함께 표시하므로, 한 번 처리한 과거 revision은 다시 읽지 않습니다.
+ *
+ * <p>압축 대상은 (archived, section_id, revision) 인덱스를 따라 (section_id, revision) 순서의 키셋 페이지네이션으로
+ * 일정 개수씩 읽어오므로, 전체 테이블을 읽거나 정렬하지 않고 아직 처리되지 않은 행만 읽습니다.
+ * 압축 결과는 batchUpdate로 한 번에 반영합니다. 처음 실행될 때 기존에 쌓인 과거 revision을 모두 압축하는
+ * 마이그레이션 역할을 겸하며, 이후에는 새롭게 과거가 된 revision만 처리하게 됩니다.
+ *
+ * @see SectionContentConverter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SectionHistoryArchiver {
+
+	private static final String FIND_ARCHIVE_TARGETS_SQL = "SELECT s.section_id, s.revision, s.content "
+		+ "FROM section s "
+		+ "JOIN document_head_section h ON h.section_id = s.section_id "
+		+ "WHERE s.archived = 0 "
+		+ "AND s.revision < h.revision "
+		+ "AND (s.section_id > ? OR (s.section_id = ? AND s.revision > ?)) "
+		+ "ORDER BY s.section_id, s.revision "
+		+ "LIMIT ?";
+
+	/**
+	 * 처리한 섹션을 표시합니다. 압축되지 않은 본문은 null을 전달하여 원문을 그대로 둡니다.
+	 */
+	private static final String ARCHIVE_SQL = "UPDATE section SET content = COALESCE(?, content), archived = 1 "
+		+ "WHERE section_id = ? AND revision = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${section.archive.batch-size:500}")
+	private int batchSize;
+
+	/**
+	 * 압축되지 않은 과거 revision을 모두 찾아 압축합니다.
+	 */
+	@Scheduled(
+		initialDelayString = "${section.archive.interval-ms:3600000}",
+		fixedDelayString = "${section.archive.interval-ms:3600000}"
+	)
+	public void archive() {
+		long lastSectionId = 0L;
+		long lastRevision = 0L;
+		int archived = 0;
+
+		while (true) {
+			List<ArchiveTarget> targets = jdbcTemplate.query(
+				FIND_ARCHIVE_TARGETS_SQL,
+				(rs, rowNum) -> new ArchiveTarget(
+					rs.getLong("section_id"),
+					rs.getLong("revision"),
+					rs.getString("content")
+				),
+				lastSectionId, lastSectionId, lastRevision, batchSize
+			);
+
+			if (targets.isEmpty()) {
+				break;
+			}
+
+			List<Object[]> parameters = new ArrayList<>(targets.size());
+			for (ArchiveTarget target : targets) {
+				// 짧거나 압축으로 이득을 볼 수 없는 본문, 이미 압축된 본문은 그대로 두고 처리되었다는 표시만 남깁니다.
+				String compressed = SectionContentCompressor.compress(target.content());
+				if (compressed == null || compressed.equals(target.content())) {
+					compressed = null;
+				} else {
+					archived++;
+				}
+				parameters.add(new Object[] {compressed, target.sectionId(), target.revision()});
+			}
+			jdbcTemplate.batchUpdate(ARCHIVE_SQL, parameters);
+
+			ArchiveTarget last = targets.get(targets.size() - 1);
+			lastSectionId = last.sectionId();
+			lastRevision = last.revision();
+
+			if (targets.size() < batchSize) {
+				break;
+			}
+		}
+
+		log.info("[SectionHistoryArchiver] 과거 revision의 섹션 본문 {}개를 압축했습니다.", archived);
+	}
+
+	private record ArchiveTarget(long sectionId, long revision, String content) {
+	}
+}
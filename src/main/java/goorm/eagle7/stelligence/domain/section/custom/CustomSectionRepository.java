@@ -0,0 +1,28 @@
+package goorm.eagle7.stelligence.domain.section.custom;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+
+public interface CustomSectionRepository {
+
+	/**
+	 * 새로운 섹션들을 한 번에 저장합니다.
+	 * @param sections 저장할 섹션 목록
+	 */
+	void insertSections(List<Section> sections);
+
+	/**
+	 * 새로운 섹션들을 최신 버전 조회를 위한 프로젝션에 한 번에 추가합니다.
+	 * 문서 생성과 같이 프로젝션에 존재하지 않는 섹션들에 대해서만 사용해야 합니다.
+	 * @param sections 프로젝션에 추가할 섹션 목록
+	 */
+	void insertDocumentHeadSections(List<Section> sections);
+
+	/**
+	 * 이미 프로젝션에 존재하는 섹션들이 새로운 revision을 가리키도록 한 번에 변경합니다.
+	 * 병합 시 수정되거나 삭제된 섹션들에 대해 사용합니다.
+	 * @param sections 새로운 revision으로 저장된 섹션 목록
+	 */
+	void updateDocumentHeadSections(List<Section> sections);
+}
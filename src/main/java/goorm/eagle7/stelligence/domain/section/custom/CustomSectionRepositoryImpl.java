@@ -0,0 +1,72 @@
+package goorm.eagle7.stelligence.domain.section.custom;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CustomSectionRepositoryImpl implements CustomSectionRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private static final String INSERT_SECTIONS_SQL = "INSERT INTO section (section_id, revision, document_id, heading, title, content, orders, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+	private static final String INSERT_DOCUMENT_HEAD_SECTIONS_SQL = "INSERT INTO document_head_section (section_id, document_id, revision) VALUES (?, ?, ?)";
+	private static final String UPDATE_DOCUMENT_HEAD_SECTIONS_SQL = "UPDATE document_head_section SET revision = ? WHERE section_id = ?";
+
+	/**
+	 * 섹션 등록
+	 * <p>Section은 복합키(@IdClass)를 직접 할당하므로, save를 호출하면 Hibernate는 새로운 엔티티인지 판단하지 못하고
+	 * merge를 수행합니다. 이로 인해 섹션마다 INSERT 이전에 SELECT가 한 번씩 더 발생합니다.
+	 * 이를 피하기 위해 JdbcTemplate의 batchUpdate를 사용하여 여러 개의 섹션을 한 번에 등록합니다.
+	 *
+	 * <p>JdbcTemplate으로 저장한 섹션은 영속성 컨텍스트에서 관리되지 않으므로, 저장 이후 섹션 엔티티를 수정하더라도 반영되지 않습니다.
+	 * 또한 createdAt, updatedAt은 DB의 현재 시간으로 저장되며 엔티티에는 채워지지 않습니다.
+	 *
+	 * @param sections 저장할 섹션 목록
+	 * @see goorm.eagle7.stelligence.domain.notification.custom.CustomNotificationRepositoryImpl
+	 */
+	@Override
+	public void insertSections(List<Section> sections) {
+		jdbcTemplate.batchUpdate(INSERT_SECTIONS_SQL, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.getId());
+			ps.setLong(2, section.getRevision());
+			ps.setLong(3, section.getDocument().getId());
+			ps.setString(4, section.getHeading() == null ? null : section.getHeading().name());
+			ps.setString(5, section.getTitle());
+			ps.setString(6, section.getContent());
+			ps.setInt(7, section.getOrder());
+		});
+	}
+
+	/**
+	 * 최신 버전 조회를 위한 프로젝션 등록
+	 * <p>DocumentHeadSection 역시 ID를 직접 할당하므로, 섹션과 마찬가지로 batchUpdate를 사용합니다.
+	 * @param sections 프로젝션에 추가할 섹션 목록
+	 */
+	@Override
+	public void insertDocumentHeadSections(List<Section> sections) {
+		jdbcTemplate.batchUpdate(INSERT_DOCUMENT_HEAD_SECTIONS_SQL, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.getId());
+			ps.setLong(2, section.getDocument().getId());
+			ps.setLong(3, section.getRevision());
+		});
+	}
+
+	/**
+	 * 최신 버전 조회를 위한 프로젝션 갱신
+	 * <p>섹션마다 프로젝션을 조회하고 변경감지로 갱신하지 않고, batchUpdate로 한 번에 갱신합니다.
+	 * @param sections 새로운 revision으로 저장된 섹션 목록
+	 */
+	@Override
+	public void updateDocumentHeadSections(List<Section> sections) {
+		jdbcTemplate.batchUpdate(UPDATE_DOCUMENT_HEAD_SECTIONS_SQL, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.getRevision());
+			ps.setLong(2, section.getId());
+		});
+	}
+}
@@ -0,0 +1,11 @@
+package goorm.eagle7.stelligence.domain.section.dto;
+
+/**
+ * 섹션의 본문만을 조회하기 위한 프로젝션입니다.
+ * 엔티티로 조회하지 않으므로 영속성 컨텍스트에 섹션이 쌓이지 않습니다.
+ *
+ * @param documentId 섹션이 속한 문서의 ID
+ * @param content 섹션의 본문 (HTML)
+ */
+public record SectionContent(Long documentId, String content) {
+}
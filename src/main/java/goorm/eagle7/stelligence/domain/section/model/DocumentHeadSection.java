@@ -0,0 +1,48 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static lombok.AccessLevel.*;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DocumentHeadSection
+ * 문서의 최신 버전을 구성하는 각 섹션이 어떤 revision을 가리키는지 저장하는 프로젝션입니다.
+ *
+ * <p>최신 문서를 조회할 때 섹션마다 max(revision) 서브쿼리를 수행하지 않고,
+ * document_id 기준의 인덱스 범위 스캔 한 번과 section 테이블의 PK 조인만으로 조회할 수 있도록 합니다.
+ *
+ * <p>문서 생성과 병합 시점에 함께 갱신되어야 합니다. 삭제된 섹션의 경우 content가 null인 revision을 가리키게 되며,
+ * 조회 시점에 content가 null인 섹션을 제외합니다.
+ *
+ * @see goorm.eagle7.stelligence.domain.section.SectionRepository#findLatestByDocumentId(Long)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class DocumentHeadSection {
+
+	@Id
+	@Column(name = "section_id")
+	private Long sectionId;
+
+	@Column(name = "document_id")
+	private Long documentId;
+
+	/**
+	 * 최신 버전의 문서에서 해당 섹션이 가지는 revision입니다.
+	 */
+	private Long revision;
+
+	//===생성===//
+	public static DocumentHeadSection of(Section section) {
+		DocumentHeadSection headSection = new DocumentHeadSection();
+		headSection.sectionId = section.getId();
+		headSection.documentId = section.getDocument().getId();
+		headSection.revision = section.getRevision();
+		return headSection;
+	}
+}
@@ -3,9 +3,13 @@ package goorm.eagle7.stelligence.domain.section.model;
 import static jakarta.persistence.FetchType.*;
 import static lombok.AccessLevel.*;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import goorm.eagle7.stelligence.common.entity.BaseTimeEntity;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.archive.SectionContentConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -19,13 +23,25 @@ import lombok.NoArgsConstructor;
 /**
  * Section
  * Document의 구성단위를 나타내며, 수정의 단위입니다.
+ *
+ * <p>병합 시 순서만 변경되는 경우가 많으므로, 변경된 컬럼만 갱신하도록 DynamicUpdate를 사용합니다.
+ *
+ * <p>섹션의 순서는 연속된 정수가 아니라 {@link #ORDER_GAP} 간격의 정수로 저장합니다.
+ * 섹션을 삽입할 때에는 앞뒤 섹션 사이의 빈 순서를 사용하므로 이후의 섹션들의 순서를 변경하지 않아도 됩니다.
+ * 순서는 상대적인 크기만 의미가 있으며, 외부에 노출되지 않습니다.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @IdClass(SectionId.class)
 @NoArgsConstructor(access = PROTECTED)
 public class Section extends BaseTimeEntity implements Comparable<Section> {
 
+	/**
+	 * 문서를 생성하거나 순서를 재배치할 때 인접한 섹션 사이에 두는 순서의 간격입니다.
+	 */
+	public static final int ORDER_GAP = 1024;
+
 	@Id
 	@Column(name = "section_id")
 	private Long id;
@@ -43,6 +59,10 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 
 	private String title;
 
+	/**
+	 * 최신 revision이 아닌 경우 압축된 상태로 저장될 수 있으며, 조회 시 원문으로 복원됩니다.
+	 */
+	@Convert(converter = SectionContentConverter.class)
 	@Column(columnDefinition = "TEXT")
 	private String content;
 
@@ -73,13 +93,13 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 		return section;
 	}
 
-	public void incrementOrder() {
-		this.order++;
+	public void changeOrder(int order) {
+		this.order = order;
 	}
 
 	@Override
 	public int compareTo(Section section) {
-		return this.order - section.order;
+		return Integer.compare(this.order, section.order);
 	}
 
 }
@@ -0,0 +1,143 @@
+package goorm.eagle7.stelligence.domain.section.order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 섹션 사이의 빈 순서가 부족해진 문서를 찾아 순서를 다시 {@link Section#ORDER_GAP} 간격으로 벌려두는 스케쥴러입니다.
+ *
+ * <p>섹션을 삽입할 때에는 앞뒤 섹션 사이의 빈 순서를 사용하므로, 같은 위치에 삽입이 반복되면 빈 순서가 줄어듭니다.
+ * 빈 순서가 모두 소진되면 병합 시 뒤의 섹션들의 순서를 밀어내야 하므로, 그 전에 미리 간격을 벌려둡니다.
+ * 간격 없이 연속된 순서로 저장된 기존 문서도 이 과정을 통해 점진적으로 옮겨집니다.
+ *
+ * <p>최신 버전의 섹션 중 인접한 섹션과의 간격이 section.order.rebalance-min-gap 보다 작은 문서를 대상으로 하며,
+ * 한 번에 section.order.rebalance-batch-size 개의 문서만 처리합니다.
+ *
+ * <p>섹션의 순서는 과거 revision의 섹션과 함께 비교되므로, 최신 버전뿐 아니라 문서의 모든 revision에 등장하는 순서 값을
+ * 크기 순서를 유지한 채로 다시 매깁니다. 따라서 어느 버전의 문서를 조회하더라도 섹션의 순서는 달라지지 않습니다.
+ * 재배치를 시작할 때 문서의 version을 증가시키므로, 재배치 이전의 순서를 읽고 병합하던 트랜잭션은
+ * 커밋 시점에 낙관적 락 충돌로 롤백된 뒤 재배치된 순서를 기준으로 다시 수행됩니다.
+ * 병합도 섹션을 변경하기 전에 문서의 행을 먼저 잠그므로, 두 작업은 같은 순서로 잠금을 얻어 교착 상태가 발생하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SectionOrderRebalancer {
+
+	/**
+	 * 최신 버전의 섹션 중 이전 섹션과의 간격이 기준보다 작은 섹션이 있는 문서를 찾습니다.
+	 * 첫 번째 섹션은 순서 0인 가상의 섹션과 비교합니다.
+	 */
+	private static final String FIND_CROWDED_DOCUMENTS_SQL = "SELECT DISTINCT g.document_id FROM ( "
+		+ "    SELECT s.document_id, "
+		+ "           s.orders - COALESCE(LAG(s.orders) OVER (PARTITION BY s.document_id ORDER BY s.orders), 0) AS gap "
+		+ "    FROM section s "
+		+ "    JOIN document_head_section h ON h.section_id = s.section_id AND h.revision = s.revision "
+		+ ") g "
+		+ "WHERE g.gap < ? "
+		+ "ORDER BY g.document_id "
+		+ "LIMIT ?";
+	private static final String INCREMENT_VERSION_SQL = "UPDATE document SET version = version + 1 WHERE document_id = ?";
+	private static final String FIND_ORDERS_SQL = "SELECT DISTINCT orders FROM section WHERE document_id = ? ORDER BY orders";
+
+	/**
+	 * 바뀐 순서가 아직 바뀌지 않은 순서와 겹치지 않도록 음수로 먼저 기록한 뒤, 마지막에 한 번에 부호를 되돌립니다.
+	 */
+	private static final String MOVE_ORDER_SQL = "UPDATE section SET orders = ? WHERE document_id = ? AND orders = ?";
+	private static final String RESTORE_ORDER_SQL = "UPDATE section SET orders = -orders WHERE document_id = ? AND orders < 0";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int minGap;
+	private final int batchSize;
+
+	public SectionOrderRebalancer(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${section.order.rebalance-min-gap:16}") int minGap,
+		@Value("${section.order.rebalance-batch-size:100}") int batchSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.minGap = minGap;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 빈 순서가 부족해진 문서들의 섹션 순서를 재배치합니다.
+	 * 문서마다 별도의 트랜잭션에서 수행하므로, 하나의 문서가 실패하더라도 다른 문서는 계속 처리됩니다.
+	 */
+	@Scheduled(
+		initialDelayString = "${section.order.rebalance-interval-ms:600000}",
+		fixedDelayString = "${section.order.rebalance-interval-ms:600000}"
+	)
+	public void rebalance() {
+		List<Long> documentIds = jdbcTemplate.queryForList(FIND_CROWDED_DOCUMENTS_SQL, Long.class, minGap, batchSize);
+
+		int rebalanced = 0;
+		for (Long documentId : documentIds) {
+			try {
+				Integer changed = transactionTemplate.execute(status -> rebalance(documentId));
+				log.debug("[SectionOrderRebalancer] documentId: {}, 변경된 순서: {}", documentId, changed);
+				rebalanced++;
+			} catch (RuntimeException e) {
+				log.warn("[SectionOrderRebalancer] 섹션 순서를 재배치하지 못했습니다. documentId: {}", documentId, e);
+			}
+		}
+
+		if (!documentIds.isEmpty()) {
+			log.info("[SectionOrderRebalancer] 문서 {}개의 섹션 순서를 재배치했습니다.", rebalanced);
+		}
+	}
+
+	/**
+	 * 하나의 문서의 섹션 순서를 재배치합니다. 트랜잭션 안에서 호출되어야 합니다.
+	 * @param documentId 문서 ID
+	 * @return 값이 바뀐 순서의 개수
+	 */
+	private int rebalance(Long documentId) {
+		if (jdbcTemplate.update(INCREMENT_VERSION_SQL, documentId) == 0) {
+			return 0;
+		}
+
+		List<Integer> orders = jdbcTemplate.queryForList(FIND_ORDERS_SQL, Integer.class, documentId);
+		int[] rebalanced = rebalancedOrders(orders.size());
+
+		List<Object[]> parameters = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			if (orders.get(i) != rebalanced[i]) {
+				parameters.add(new Object[] {-rebalanced[i], documentId, orders.get(i)});
+			}
+		}
+
+		if (!parameters.isEmpty()) {
+			jdbcTemplate.batchUpdate(MOVE_ORDER_SQL, parameters);
+			jdbcTemplate.update(RESTORE_ORDER_SQL, documentId);
+		}
+		return parameters.size();
+	}
+
+	/**
+	 * 크기 순서대로 정렬된 count개의 순서 값이 재배치될 순서를 계산합니다.
+	 * 기본적으로 {@link Section#ORDER_GAP} 간격으로 배치하며, 범위를 넘어서는 경우 int 범위 안에서 균등하게 배치합니다.
+	 * @param count 서로 다른 순서 값의 개수
+	 * @return 재배치될 순서, i번째 값은 i번째로 작은 순서 값이 바뀔 순서입니다.
+	 */
+	static int[] rebalancedOrders(int count) {
+		int step = (int)Math.min(Section.ORDER_GAP, Integer.MAX_VALUE / ((long)count + 1));
+		int[] orders = new int[count];
+		for (int i = 0; i < count; i++) {
+			orders[i] = (i + 1) * step;
+		}
+		return orders;
+	}
+}
@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.vote;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,8 +13,10 @@ import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.vote.dto.VoteRequest;
 import goorm.eagle7.stelligence.domain.vote.dto.VoteSummaryResponse;
+import goorm.eagle7.stelligence.domain.vote.event.VoteChangedEvent;
 import goorm.eagle7.stelligence.domain.vote.model.Vote;
 import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+import goorm.eagle7.stelligence.domain.vote.tally.VoteTallyRepository;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -24,6 +27,8 @@ public class VoteService {
 	private final MemberRepository memberRepository;
 	private final VoteRepository voteRepository;
 	private final ContributeRepository contributeRepository;
+	private final VoteTallyRepository voteTallyRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 투표 하기
@@ -49,19 +54,29 @@ public class VoteService {
 
 		Optional<Vote> existingVote = voteRepository.findByMemberAndContribute(member, contribute);
 
+		Boolean beforeVoteStatus;
 		Boolean userVoteStatus;
 
 		if (existingVote.isPresent()) { //이미 투표한 경우 요청에 따라 변경
 			Vote vote = existingVote.get();
+			beforeVoteStatus = vote.getAgree();
 			vote.updateAgree(voteRequest.getAgree());
 			userVoteStatus = vote.getAgree();
 		} else { //처음 투표하는 경우 새로 생성
 			Vote vote = Vote.createVote(member, contribute, voteRequest.getAgree());
 			voteRepository.save(vote);
+			beforeVoteStatus = null;
 			userVoteStatus = vote.getAgree();
 		}
 
-		VoteSummary voteSummary = voteRepository.getVoteSummary(contribute.getId());
+		//커밋 이후 Redis의 투표 현황에 반영합니다.
+		VoteChangedEvent event = new VoteChangedEvent(contribute.getId(), beforeVoteStatus, userVoteStatus);
+		applicationEventPublisher.publishEvent(event);
+
+		//Redis에 집계가 있다면 이번 변경을 반영하여 응답하고, 없다면 DB에서 집계합니다.
+		VoteSummary voteSummary = voteTallyRepository.find(contribute.getId())
+			.map(summary -> summary.add(event.agreeDelta(), event.disagreeDelta()))
+			.orElseGet(() -> voteRepository.getVoteSummary(contribute.getId()));
 
 		return VoteSummaryResponse.of(
 			voteSummary.getAgreeCount(),
@@ -92,7 +107,7 @@ public class VoteService {
 			}
 		}
 
-		VoteSummary voteSummary = voteRepository.getVoteSummary(contribute.getId());
+		VoteSummary voteSummary = findVoteSummary(contribute.getId());
 
 		return VoteSummaryResponse.of(
 			voteSummary.getAgreeCount(),
@@ -100,4 +115,20 @@ public class VoteService {
 			userVoteStatus
 		);
 	}
+
+	/**
+	 * Redis에 저장된 투표 현황을 조회합니다.
+	 * 집계가 없는 경우 DB에서 집계한 뒤 Redis에 저장합니다.
+	 * 그 사이 다른 요청이 먼저 집계를 저장했다면 덮어쓰지 않습니다.
+	 * @param contributeId
+	 * @return 투표 현황 (찬성 개수, 반대 개수)
+	 */
+	private VoteSummary findVoteSummary(Long contributeId) {
+		return voteTallyRepository.find(contributeId)
+			.orElseGet(() -> {
+				VoteSummary voteSummary = voteRepository.getVoteSummary(contributeId);
+				voteTallyRepository.putIfAbsent(contributeId, voteSummary);
+				return voteSummary;
+			});
+	}
 }
@@ -1,5 +1,8 @@
 package goorm.eagle7.stelligence.domain.vote.custom;
 
+import java.util.Collection;
+import java.util.Map;
+
 import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
 
 /**
@@ -14,4 +17,12 @@ public interface CustomVoteRepository {
 	 * @return 투표 현황 (찬성 개수, 반대 개수)
 	 */
 	VoteSummary getVoteSummary(Long contributeId);
+
+	/**
+	 * 여러 Contribute에 대한 투표 현황을 한 번에 반환합니다.
+	 * 투표가 하나도 없는 Contribute는 결과에 포함되지 않습니다.
+	 * @param contributeIds
+	 * @return Contribute ID별 투표 현황
+	 */
+	Map<Long, VoteSummary> getVoteSummaries(Collection<Long> contributeIds);
 }
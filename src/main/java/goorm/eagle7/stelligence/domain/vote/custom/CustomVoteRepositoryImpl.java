@@ -1,7 +1,12 @@
 package goorm.eagle7.stelligence.domain.vote.custom;
 
-import java.util.Objects;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import goorm.eagle7.stelligence.domain.vote.model.QVote;
@@ -16,35 +21,58 @@ public class CustomVoteRepositoryImpl implements CustomVoteRepository {
 		this.queryFactory = new JPAQueryFactory(entityManager);
 	}
 
-	//찬성 표를 가져오는 메서드
-	private Long getAgreeCount(Long contributeId) {
-		QVote vote = QVote.vote;
+	//찬성 표의 개수를 집계하는 표현식
+	private NumberExpression<Integer> agreeCount(QVote vote) {
+		return new CaseBuilder().when(vote.agree.isTrue()).then(1).otherwise(0).sum();
+	}
 
-		return queryFactory
-			.select(vote.count())
-			.from(vote)
-			.where(vote.contribute.id.eq(contributeId), vote.agree.isTrue())
-			.fetchOne();
+	//반대 표의 개수를 집계하는 표현식
+	private NumberExpression<Integer> disagreeCount(QVote vote) {
+		return new CaseBuilder().when(vote.agree.isFalse()).then(1).otherwise(0).sum();
 	}
 
-	//반대 표를 가져오는 메서드
-	private Long getDisagreeCount(Long contributeId) {
+	/**
+	 * 찬성 표와 반대 표의 개수를 하나의 쿼리로 집계합니다.
+	 * 투표가 없는 경우 sum의 결과가 null이므로 0으로 취급합니다.
+	 */
+	@Override
+	public VoteSummary getVoteSummary(Long contributeId) {
 		QVote vote = QVote.vote;
 
-		return queryFactory
-			.select(vote.count())
+		Tuple result = queryFactory
+			.select(agreeCount(vote), disagreeCount(vote))
 			.from(vote)
-			.where(vote.contribute.id.eq(contributeId), vote.agree.isFalse())
+			.where(vote.contribute.id.eq(contributeId))
 			.fetchOne();
+
+		if (result == null) {
+			return new VoteSummary(0, 0);
+		}
+		return toVoteSummary(result.get(0, Number.class), result.get(1, Number.class));
 	}
 
 	@Override
-	public VoteSummary getVoteSummary(Long contributeId) {
+	public Map<Long, VoteSummary> getVoteSummaries(Collection<Long> contributeIds) {
+		QVote vote = QVote.vote;
 
-		Long agreements = getAgreeCount(contributeId);
-		Long disagreements = getDisagreeCount(contributeId);
+		return queryFactory
+			.select(vote.contribute.id, agreeCount(vote), disagreeCount(vote))
+			.from(vote)
+			.where(vote.contribute.id.in(contributeIds))
+			.groupBy(vote.contribute.id)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(
+				tuple -> tuple.get(0, Long.class),
+				tuple -> toVoteSummary(tuple.get(1, Number.class), tuple.get(2, Number.class))
+			));
+	}
 
-		return new VoteSummary(Objects.requireNonNull(agreements).intValue(),
-			Objects.requireNonNull(disagreements).intValue());
+	//DB에 따라 sum의 결과 타입이 다를 수 있으므로 Number로 받아 변환합니다.
+	private VoteSummary toVoteSummary(Number agreements, Number disagreements) {
+		return new VoteSummary(
+			agreements == null ? 0 : agreements.intValue(),
+			disagreements == null ? 0 : disagreements.intValue()
+		);
 	}
 }
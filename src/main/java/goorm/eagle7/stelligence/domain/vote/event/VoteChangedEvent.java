@@ -0,0 +1,28 @@
+package goorm.eagle7.stelligence.domain.vote.event;
+
+/**
+ * 사용자의 투표가 생성되거나 변경될 때 발생하는 이벤트
+ * @param contributeId 수정요청 ID
+ * @param before 변경 전 투표 상태 (true: 찬성, false: 반대, null: 투표하지 않음)
+ * @param after 변경 후 투표 상태 (true: 찬성, false: 반대, null: 취소)
+ */
+public record VoteChangedEvent(Long contributeId, Boolean before, Boolean after) {
+
+	/**
+	 * 이 변경으로 인한 찬성 표의 증감량
+	 */
+	public int agreeDelta() {
+		return count(after, true) - count(before, true);
+	}
+
+	/**
+	 * 이 변경으로 인한 반대 표의 증감량
+	 */
+	public int disagreeDelta() {
+		return count(after, false) - count(before, false);
+	}
+
+	private static int count(Boolean agree, boolean target) {
+		return agree != null && agree == target ? 1 : 0;
+	}
+}
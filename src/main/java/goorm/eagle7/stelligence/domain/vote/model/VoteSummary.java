@@ -13,4 +13,14 @@ public class VoteSummary {
 
 	private int agreeCount;    //찬성 개수
 	private int disagreeCount;    //반대 개수
+
+	/**
+	 * 투표 변경에 따른 증감량을 반영한 새로운 투표 현황을 반환합니다.
+	 * @param agreeDelta 찬성 표의 증감량
+	 * @param disagreeDelta 반대 표의 증감량
+	 * @return 증감량이 반영된 투표 현황
+	 */
+	public VoteSummary add(int agreeDelta, int disagreeDelta) {
+		return new VoteSummary(agreeCount + agreeDelta, disagreeCount + disagreeDelta);
+	}
 }
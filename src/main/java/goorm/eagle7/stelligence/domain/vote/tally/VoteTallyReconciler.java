@@ -0,0 +1,63 @@
+package goorm.eagle7.stelligence.domain.vote.tally;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.vote.VoteRepository;
+import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis의 투표 현황을 MySQL의 투표 데이터와 주기적으로 맞추는 스케쥴러입니다.
+ *
+ * <p>투표 현황은 커밋 이후에 증감되므로, 서버가 커밋 직후 종료되거나 Redis에 일시적으로 접근할 수 없는 경우
+ * 실제 투표 수와 달라질 수 있습니다. 투표 중인 수정요청의 집계를 DB 기준으로 다시 덮어써 이러한 차이를 바로잡습니다.
+ *
+ * <p>DB에서 집계하는 동안 반영된 증감을 덮어쓰지 않도록, 집계하기 전에 조회한 버전에서 변경되지 않은 집계만 교체합니다.
+ * 그 사이 변경된 집계는 다음 주기에 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyReconciler {
+
+	private final ContributeRepository contributeRepository;
+	private final VoteRepository voteRepository;
+	private final VoteTallyRepository voteTallyRepository;
+
+	@Scheduled(fixedDelayString = "${vote.tally.reconcile-interval-ms:600000}")
+	@Transactional(readOnly = true)
+	public void reconcile() {
+		List<Long> contributeIds = contributeRepository.findVotingContributeIds();
+		if (contributeIds.isEmpty()) {
+			return;
+		}
+
+		//DB에서 집계하기 전에 버전을 조회해야 집계하는 동안 반영된 증감을 감지할 수 있습니다.
+		Map<Long, Long> versions = new LinkedHashMap<>();
+		contributeIds.forEach(contributeId -> voteTallyRepository.findVersion(contributeId)
+			.ifPresent(version -> versions.put(contributeId, version)));
+		if (versions.isEmpty()) {
+			return;
+		}
+
+		Map<Long, VoteSummary> voteSummaries = voteRepository.getVoteSummaries(versions.keySet());
+		long replaced = versions.entrySet()
+			.stream()
+			.filter(entry -> voteTallyRepository.replaceIfUnchanged(
+				entry.getKey(),
+				entry.getValue(),
+				voteSummaries.getOrDefault(entry.getKey(), new VoteSummary(0, 0))
+			))
+			.count();
+
+		log.info("[VoteTallyReconciler] 투표 중인 수정요청 {}개 중 {}개의 투표 현황을 갱신했습니다.", versions.size(), replaced);
+	}
+}
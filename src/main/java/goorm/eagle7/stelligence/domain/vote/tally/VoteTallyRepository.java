@@ -0,0 +1,182 @@
+package goorm.eagle7.stelligence.domain.vote.tally;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수정요청별 투표 현황을 Redis에 저장하는 저장소입니다.
+ *
+ * <p>vote:tally:{contributeId} 해시에 찬성(agree), 반대(disagree) 개수를 저장합니다.
+ * 투표가 변경되면 HINCRBY로 개수를 원자적으로 증감시키므로, 투표 현황의 조회에 SQL이 필요하지 않습니다.
+ *
+ * <p>DB에서 집계한 값은 증감과 경쟁하므로 덮어쓰지 않습니다. 집계가 없는 경우에만 채우고,
+ * 이미 존재하는 집계는 집계가 변경될 때마다 증가하는 버전(version)이 조회한 시점과 같을 때에만 교체합니다.
+ * 따라서 DB에서 집계하는 사이에 반영된 증감이 오래된 집계로 덮어써지지 않습니다.
+ *
+ * <p>Redis는 캐시로만 사용하며 원본은 MySQL의 vote 테이블입니다.
+ * Redis에 접근할 수 없는 경우 예외를 전파하지 않고 조회 결과가 없는 것처럼 동작하므로, 호출하는 측에서는 DB를 통해 조회해야 합니다.
+ *
+ * @see VoteTallyReconciler
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class VoteTallyRepository {
+
+	private static final String KEY_PREFIX = "vote:tally:";
+	private static final String AGREE = "agree";
+	private static final String DISAGREE = "disagree";
+	private static final String VERSION = "version";
+
+	/**
+	 * 투표가 종료된 수정요청의 집계가 계속 남아있지 않도록 만료 시간을 둡니다.
+	 */
+	private static final Duration TTL = Duration.ofDays(1);
+
+	/**
+	 * 집계가 존재하는 경우에만 증감합니다.
+	 * 집계가 없는 상태에서 증감하면 0에서부터 계산되어 실제 투표 수와 달라지기 때문입니다.
+	 */
+	private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then "
+			+ "redis.call('HINCRBY', KEYS[1], 'agree', ARGV[1]) "
+			+ "redis.call('HINCRBY', KEYS[1], 'disagree', ARGV[2]) "
+			+ "redis.call('HINCRBY', KEYS[1], 'version', 1) "
+			+ "return 1 "
+			+ "end "
+			+ "return 0",
+		Long.class
+	);
+
+	/**
+	 * 집계가 존재하지 않는 경우에만 저장합니다.
+	 * DB에서 집계하는 사이에 다른 요청이 먼저 집계를 채우고 증감이 반영되었다면, 오래된 집계로 덮어쓰지 않습니다.
+	 */
+	private static final RedisScript<Long> PUT_IF_ABSENT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 0 then "
+			+ "redis.call('HSET', KEYS[1], 'agree', ARGV[1], 'disagree', ARGV[2], 'version', 1) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+			+ "return 1 "
+			+ "end "
+			+ "return 0",
+		Long.class
+	);
+
+	/**
+	 * 집계의 버전이 기대한 버전과 같은 경우에만 교체하고 버전을 증가시킵니다. 집계가 없다면 버전은 0입니다.
+	 */
+	private static final RedisScript<Long> REPLACE_IF_UNCHANGED = new DefaultRedisScript<>(
+		"local version = tonumber(redis.call('HGET', KEYS[1], 'version') or '0') "
+			+ "if version ~= tonumber(ARGV[1]) then "
+			+ "return 0 "
+			+ "end "
+			+ "redis.call('HSET', KEYS[1], 'agree', ARGV[2], 'disagree', ARGV[3], 'version', version + 1) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+			+ "return 1",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 투표 현황을 조회합니다.
+	 * @param contributeId 수정요청 ID
+	 * @return 투표 현황, 집계가 없거나 Redis에 접근할 수 없다면 empty
+	 */
+	public Optional<VoteSummary> find(Long contributeId) {
+		try {
+			List<Object> values = redisTemplate.opsForHash().multiGet(key(contributeId), List.of(AGREE, DISAGREE));
+			if (values.get(0) == null || values.get(1) == null) {
+				return Optional.empty();
+			}
+			return Optional.of(new VoteSummary(
+				Integer.parseInt((String)values.get(0)),
+				Integer.parseInt((String)values.get(1))
+			));
+		} catch (DataAccessException e) {
+			log.warn("투표 현황을 Redis에서 조회하지 못했습니다. contributeId: {}, {}", contributeId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 집계의 버전을 조회합니다. 버전은 집계가 증감되거나 교체될 때마다 증가합니다.
+	 * @param contributeId 수정요청 ID
+	 * @return 집계의 버전, 집계가 없다면 0이며 Redis에 접근할 수 없다면 empty
+	 */
+	public OptionalLong findVersion(Long contributeId) {
+		try {
+			Object version = redisTemplate.opsForHash().get(key(contributeId), VERSION);
+			return OptionalLong.of(version == null ? 0L : Long.parseLong((String)version));
+		} catch (DataAccessException e) {
+			log.warn("투표 현황의 버전을 Redis에서 조회하지 못했습니다. contributeId: {}, {}", contributeId, e.getMessage());
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * 집계가 없는 경우에만 투표 현황을 저장합니다.
+	 * @param contributeId 수정요청 ID
+	 * @param voteSummary DB에서 집계한 투표 현황
+	 */
+	public void putIfAbsent(Long contributeId, VoteSummary voteSummary) {
+		try {
+			redisTemplate.execute(PUT_IF_ABSENT, List.of(key(contributeId)),
+				String.valueOf(voteSummary.getAgreeCount()), String.valueOf(voteSummary.getDisagreeCount()),
+				String.valueOf(TTL.toSeconds()));
+		} catch (DataAccessException e) {
+			log.warn("투표 현황을 Redis에 저장하지 못했습니다. contributeId: {}, {}", contributeId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 집계가 주어진 버전에서 변경되지 않은 경우에만 투표 현황을 교체합니다.
+	 * @param contributeId 수정요청 ID
+	 * @param expectedVersion DB에서 집계하기 전에 조회한 집계의 버전
+	 * @param voteSummary DB에서 집계한 투표 현황
+	 * @return 교체되었다면 true, 그 사이 집계가 변경되었거나 Redis에 접근할 수 없다면 false
+	 */
+	public boolean replaceIfUnchanged(Long contributeId, long expectedVersion, VoteSummary voteSummary) {
+		try {
+			Long replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED, List.of(key(contributeId)),
+				String.valueOf(expectedVersion),
+				String.valueOf(voteSummary.getAgreeCount()), String.valueOf(voteSummary.getDisagreeCount()),
+				String.valueOf(TTL.toSeconds()));
+			return replaced != null && replaced == 1L;
+		} catch (DataAccessException e) {
+			log.warn("투표 현황을 Redis에 저장하지 못했습니다. contributeId: {}, {}", contributeId, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 투표 현황을 증감합니다. 집계가 존재하지 않는다면 아무 일도 하지 않습니다.
+	 * @param contributeId 수정요청 ID
+	 * @param agreeDelta 찬성 표의 증감량
+	 * @param disagreeDelta 반대 표의 증감량
+	 */
+	public void increment(Long contributeId, int agreeDelta, int disagreeDelta) {
+		try {
+			redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key(contributeId)),
+				String.valueOf(agreeDelta), String.valueOf(disagreeDelta));
+		} catch (DataAccessException e) {
+			log.warn("투표 현황을 Redis에 반영하지 못했습니다. contributeId: {}, {}", contributeId, e.getMessage());
+		}
+	}
+
+	private static String key(Long contributeId) {
+		return KEY_PREFIX + contributeId;
+	}
+}
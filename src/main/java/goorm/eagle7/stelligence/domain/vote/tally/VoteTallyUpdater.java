@@ -0,0 +1,27 @@
+package goorm.eagle7.stelligence.domain.vote.tally;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import goorm.eagle7.stelligence.domain.vote.event.VoteChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 투표가 변경된 트랜잭션이 커밋된 이후 Redis의 투표 현황을 갱신하는 리스너
+ *
+ * <p>커밋 이후에만 반영하므로 롤백된 투표가 집계에 포함되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteTallyUpdater {
+
+	private final VoteTallyRepository voteTallyRepository;
+
+	@TransactionalEventListener(value = VoteChangedEvent.class)
+	public void onVoteChanged(VoteChangedEvent event) {
+		if (event.agreeDelta() == 0 && event.disagreeDelta() == 0) {
+			return;
+		}
+		voteTallyRepository.increment(event.contributeId(), event.agreeDelta(), event.disagreeDelta());
+	}
+}
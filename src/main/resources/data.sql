@@ -4,3 +4,10 @@ values ('section', 1);
 insert into section (section_id, revision, document_id, heading, title, content, orders, created_at, updated_at)
 values (0, 0, NULL, NULL, NULL, NULL, 0, NOW(), NOW());
 
+-- 각 섹션의 최신 revision을 document_head_section에 채워 넣습니다.
+insert into document_head_section (section_id, document_id, revision)
+select s.section_id, s.document_id, max(s.revision)
+from section s
+where s.document_id is not null
+group by s.section_id, s.document_id;
+
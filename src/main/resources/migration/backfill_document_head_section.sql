@@ -0,0 +1,22 @@
+-- document_head_section 프로젝션이 추가되기 이전부터 운영 중인 DB에 한 번 실행합니다.
+-- 최신 문서 조회는 document_head_section을 통해 섹션을 조회하므로, 프로젝션이 비어있으면 기존 문서의 섹션이 조회되지 않습니다.
+-- 애플리케이션이 실행 중인 상태에서 실행해도 되며, 여러 번 실행해도 결과는 같습니다.
+-- 실행 중에 병합되어 이미 더 최신 revision이 기록된 섹션은 그대로 둡니다.
+
+CREATE TABLE IF NOT EXISTS document_head_section
+(
+    section_id  BIGINT NOT NULL,
+    document_id BIGINT NOT NULL,
+    revision    BIGINT NOT NULL,
+    PRIMARY KEY (section_id),
+    INDEX index_document_head_section_document_id (document_id, section_id, revision)
+);
+
+-- 각 섹션의 최신 revision을 document_head_section에 채워 넣습니다.
+INSERT INTO document_head_section (section_id, document_id, revision)
+SELECT latest.section_id, latest.document_id, latest.revision
+FROM (SELECT s.section_id, s.document_id, max(s.revision) AS revision
+      FROM section s
+      WHERE s.document_id IS NOT NULL
+      GROUP BY s.section_id, s.document_id) latest
+ON DUPLICATE KEY UPDATE revision = GREATEST(document_head_section.revision, latest.revision);
@@ -0,0 +1,193 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheManagerTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	ConcurrentMapCacheManager remoteCacheManager;
+	SimpleMeterRegistry meterRegistry;
+	TwoTierCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		remoteCacheManager = new ConcurrentMapCacheManager();
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, redisMessageListenerContainer,
+			meterRegistry, new TwoTierCacheSettings(2, Duration.ofMinutes(1), Duration.ofMinutes(5),
+				Duration.ofSeconds(5), 1.0));
+	}
+
+	@Test
+	@DisplayName("로컬 캐시에 없으면 Redis에서 읽고 로컬 캐시에 저장")
+	void readThroughLocal() {
+		remoteCacheManager.getCache("document").put(1L, "value1");
+		Cache cache = cacheManager.getCache("document");
+
+		assertThat(cache.get(1L).get()).isEqualTo("value1");
+		// Redis의 값이 삭제되어도 로컬 캐시에서 조회
+		remoteCacheManager.getCache("document").evict(1L);
+		assertThat(cache.get(1L).get()).isEqualTo("value1");
+
+		assertThat(count("local", "hit")).isEqualTo(1.0);
+		assertThat(count("local", "miss")).isEqualTo(1.0);
+		assertThat(count("remote", "hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("캐시를 삭제하면 두 단계 모두 삭제하고 다른 서버에 알림")
+	void evictBothTiers() {
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value1");
+
+		cache.evict(1L);
+
+		assertThat(cache.get(1L)).isNull();
+		assertThat(remoteCacheManager.getCache("document").get(1L)).isNull();
+
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).convertAndSend(anyString(), message.capture());
+		assertThat(message.getValue()).endsWith("\ndocument\n1");
+	}
+
+	@Test
+	@DisplayName("다른 서버의 알림을 받으면 로컬 캐시에서만 삭제")
+	void evictLocalOnMessage() {
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value1");
+
+		cacheManager.onMessage(message("other-instance\ndocument\n1"), null);
+
+		// 로컬 캐시에서 삭제되었으므로 Redis에서 다시 읽음
+		assertThat(cache.get(1L).get()).isEqualTo("value1");
+		assertThat(count("local", "miss")).isEqualTo(1.0);
+		assertThat(count("remote", "hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시는 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+	void localLruEviction() {
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value1");
+		cache.put(2L, "value2");
+		cache.get(1L);
+		cache.put(3L, "value3");
+
+		cache.get(2L);
+
+		// 2번은 로컬 캐시에서 제거되어 Redis에서 읽음
+		assertThat(count("local", "hit")).isEqualTo(1.0);
+		assertThat(count("remote", "hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("같은 키를 동시에 조회하면 값은 한 번만 계산")
+	void singleFlight() throws Exception {
+		Cache cache = cacheManager.getCache("document");
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<String> first = executor.submit(() -> cache.get(1L, () -> {
+				loadCount.incrementAndGet();
+				loading.countDown();
+				release.await();
+				return "value1";
+			}));
+			loading.await(5, TimeUnit.SECONDS);
+
+			Future<String> second = executor.submit(() -> cache.get(1L, () -> {
+				loadCount.incrementAndGet();
+				return "value2";
+			}));
+			// 두 번째 조회가 계산 중인 작업을 기다리도록 합류할 때까지 대기
+			while (meterRegistry.get("cache.load.coalesced").counter().count() < 1) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value1");
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value1");
+			assertThat(loadCount.get()).isEqualTo(1);
+			assertThat(remoteCacheManager.getCache("document").get(1L).get()).isEqualTo("value1");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("새 값을 계산하는 동안에는 삭제된 이전 값을 반환")
+	void staleWhileRevalidate() throws Exception {
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "old");
+		cache.evict(1L);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> refresh = executor.submit(() -> cache.get(1L, () -> {
+				loading.countDown();
+				release.await();
+				return "new";
+			}));
+			loading.await(5, TimeUnit.SECONDS);
+
+			assertThat(cache.get(1L, () -> "other")).isEqualTo("old");
+			assertThat(count("stale", "hit")).isEqualTo(1.0);
+
+			release.countDown();
+			assertThat(refresh.get(5, TimeUnit.SECONDS)).isEqualTo("new");
+			assertThat(cache.get(1L, () -> "other")).isEqualTo("new");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private double count(String tier, String result) {
+		return meterRegistry.get("cache.tier.requests")
+			.tag("cache", "document")
+			.tag("tier", tier)
+			.tag("result", result)
+			.counter()
+			.count();
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage("cache:eviction".getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
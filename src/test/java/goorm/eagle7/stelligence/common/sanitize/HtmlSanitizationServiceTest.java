@@ -0,0 +1,78 @@
+package goorm.eagle7.stelligence.common.sanitize;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.owasp.html.PolicyFactory;
+
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HtmlSanitizationServiceTest {
+
+	PolicyFactory policyFactory = spy(new HtmlPolicyConfig().htmlPolicyBuilder());
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	HtmlSanitizationService service = new HtmlSanitizationService(policyFactory, meterRegistry, 100, 3600, 1024, 4);
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 내용은 한 번만 정화")
+	void memoize() {
+		String rawHtml = "<p onclick=\"alert(1)\">content</p><script>alert(1)</script>";
+
+		String first = service.sanitize(rawHtml);
+		String second = service.sanitize(new String(rawHtml));
+
+		assertThat(first).isEqualTo("<p>content</p>").isEqualTo(second);
+		verify(policyFactory, times(1)).sanitize(rawHtml);
+		assertThat(meterRegistry.get("html.sanitize").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("캐싱하기에 너무 긴 내용은 매번 정화")
+	void skipLargeContent() {
+		String rawHtml = "<p>" + "a".repeat(1024) + "</p><script>alert(1)</script>";
+
+		String first = service.sanitize(rawHtml);
+		String second = service.sanitize(rawHtml);
+
+		assertThat(first).isEqualTo("<p>" + "a".repeat(1024) + "</p>").isEqualTo(second);
+		verify(policyFactory, times(2)).sanitize(rawHtml);
+	}
+
+	@Test
+	@DisplayName("null과 빈 문자열은 빈 문자열로 정화")
+	void nullOrEmpty() {
+		assertThat(service.sanitize(null)).isEmpty();
+		assertThat(service.sanitize("")).isEmpty();
+		verifyNoInteractions(policyFactory);
+	}
+
+	@Test
+	@DisplayName("여러 내용을 병렬로 정화해도 순서가 유지됨")
+	void sanitizeAll() {
+		List<String> rawHtmls = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			rawHtmls.add("<p>content " + i + "</p><script>alert(1)</script>");
+		}
+		rawHtmls.add(null);
+
+		List<String> result = service.sanitizeAll(rawHtmls);
+
+		assertThat(result).hasSize(51);
+		for (int i = 0; i < 50; i++) {
+			assertThat(result.get(i)).isEqualTo("<p>content " + i + "</p>");
+		}
+		assertThat(result.get(50)).isEmpty();
+	}
+}
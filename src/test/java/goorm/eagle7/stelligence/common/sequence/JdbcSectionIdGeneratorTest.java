@@ -0,0 +1,72 @@
+package goorm.eagle7.stelligence.common.sequence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcSectionIdGeneratorTest {
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	@DisplayName("예약한 구간 안에서는 DB에 접근하지 않고 ID를 발급한다.")
+	void allocateInBlock() {
+		//given
+		JdbcSectionIdGenerator sectionIdGenerator = new JdbcSectionIdGenerator(jdbcTemplate, transactionManager, 3);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(15L, 18L);
+
+		//when
+		//then
+		assertThat(sectionIdGenerator.allocate(2)).containsExactly(15L, 16L);
+		assertThat(sectionIdGenerator.getAndIncrementSectionId()).isEqualTo(17L);
+		verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class));
+
+		//구간이 소진되면 새로운 구간을 예약한다.
+		assertThat(sectionIdGenerator.allocate(2)).containsExactly(18L, 19L);
+		verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+		verify(jdbcTemplate, times(2)).update(anyString(), eq(3));
+	}
+
+	@Test
+	@DisplayName("구간의 크기보다 많은 ID를 요청하면 요청한 개수만큼 구간을 예약한다.")
+	void allocateLargerThanBlock() {
+		//given
+		JdbcSectionIdGenerator sectionIdGenerator = new JdbcSectionIdGenerator(jdbcTemplate, transactionManager, 3);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+
+		//when
+		//then
+		assertThat(sectionIdGenerator.allocate(5)).containsExactly(1L, 2L, 3L, 4L, 5L);
+		verify(jdbcTemplate).update(anyString(), eq(5));
+	}
+
+	@Test
+	@DisplayName("0개의 ID를 요청하면 DB에 접근하지 않고 빈 목록을 반환한다.")
+	void allocateZero() {
+		JdbcSectionIdGenerator sectionIdGenerator = new JdbcSectionIdGenerator(jdbcTemplate, transactionManager, 3);
+
+		assertThat(sectionIdGenerator.allocate(0)).isEmpty();
+		verifyNoInteractions(jdbcTemplate, transactionManager);
+	}
+
+	@Test
+	@DisplayName("음수 개의 ID를 요청하면 예외가 발생한다.")
+	void allocateNegative() {
+		JdbcSectionIdGenerator sectionIdGenerator = new JdbcSectionIdGenerator(jdbcTemplate, transactionManager, 3);
+
+		assertThatThrownBy(() -> sectionIdGenerator.allocate(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
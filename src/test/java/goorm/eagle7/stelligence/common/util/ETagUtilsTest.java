@@ -0,0 +1,50 @@
+package goorm.eagle7.stelligence.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ETagUtilsTest {
+
+	@Test
+	@DisplayName("버전 정보로 ETag 생성")
+	void strong() {
+		LocalDateTime time = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6);
+
+		String eTag = ETagUtils.strong("document", 1L, 3L, time, null);
+
+		assertThat(eTag).startsWith("\"document-1-3-").endsWith("--\"");
+		assertThat(eTag).isEqualTo(ETagUtils.strong("document", 1L, 3L, time, null));
+		assertThat(eTag).isNotEqualTo(ETagUtils.strong("document", 1L, 3L, time.plusNanos(1), null));
+		assertThat(ETagUtils.weak("document", 1L)).isEqualTo("W/\"document-1\"");
+	}
+
+	@Test
+	@DisplayName("If-None-Match 헤더와 약한 비교")
+	void matches() {
+		String eTag = ETagUtils.strong("graph", 7L);
+
+		assertThat(ETagUtils.matches("\"graph-7\"", eTag)).isTrue();
+		assertThat(ETagUtils.matches("W/\"graph-7\"", eTag)).isTrue();
+		assertThat(ETagUtils.matches("\"graph-6\", \"graph-7\"", eTag)).isTrue();
+		assertThat(ETagUtils.matches("*", eTag)).isTrue();
+		assertThat(ETagUtils.matches("\"graph-6\"", eTag)).isFalse();
+		assertThat(ETagUtils.matches(null, eTag)).isFalse();
+		assertThat(ETagUtils.matches("\"graph-7\"", null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("304 응답 생성")
+	void notModified() {
+		ResponseEntity<String> response = ETagUtils.notModified("\"graph-7\"");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"graph-7\"");
+		assertThat(response.getBody()).isNull();
+	}
+}
@@ -0,0 +1,71 @@
+package goorm.eagle7.stelligence.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class RetryUtilsTest {
+
+	@Test
+	@DisplayName("낙관적 락 충돌이 발생하면 다시 수행")
+	void retry() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = RetryUtils.retryOnOptimisticLockFailure(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new OptimisticLockingFailureException("conflict");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("교착 상태 등으로 잠금을 얻지 못하면 다시 수행")
+	void retryOnPessimisticLockFailure() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = RetryUtils.retryOnOptimisticLockFailure(() -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new CannotAcquireLockException("deadlock");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("최대 횟수만큼 충돌하면 마지막 예외를 던짐")
+	void exhausted() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> RetryUtils.retryOnOptimisticLockFailure(() -> {
+			attempts.incrementAndGet();
+			throw new OptimisticLockingFailureException("conflict");
+		}, 2))
+			.isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("낙관적 락 충돌이 아닌 예외는 다시 수행하지 않음")
+	void otherException() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> RetryUtils.retryOnOptimisticLockFailure(() -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException();
+		}))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(attempts).hasValue(1);
+	}
+}
@@ -1,6 +1,8 @@
 package goorm.eagle7.stelligence.config;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 
 import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
 
@@ -13,6 +15,12 @@ public class MockSectionIdGenerator implements SectionIdGenerator {
 		return sequenceValue.getAndIncrement();
 	}
 
+	@Override
+	public List<Long> allocate(int count) {
+		long start = sequenceValue.getAndAdd(count);
+		return LongStream.range(start, start + count).boxed().toList();
+	}
+
 	public void clear() {
 		sequenceValue.set(1L);
 	}
@@ -28,6 +28,7 @@ import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepositor
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
 
 @ExtendWith(MockitoExtension.class)
 class ContributeRequestValidatorTest {
@@ -71,7 +72,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>(List.of(1L, 2L, 3L)));
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(latestSections(1L, 2L, 3L));
 		when(documentContentRepository.findByTitle("title")).thenReturn(Optional.of(targetDocument));
 		when(contributeRepository.existsDuplicateRequestedDocumentTitle("title")).thenReturn(false);
 		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.empty());
@@ -82,6 +83,32 @@ class ContributeRequestValidatorTest {
 
 	}
 
+	@Test
+	@DisplayName("검증 시 조회한 문서와 섹션을 반환")
+	void validateReturnsContext() {
+		Document targetDocument = document(1L, member(1L, "pete"), "title", 1L, null);
+		AmendmentRequest a1 = new AmendmentRequest(3L, AmendmentType.UPDATE, Heading.H2, "title", "content", 0);
+		ContributeRequest contributeRequest = new ContributeRequest("title", "description",
+			List.of(a1), 1L, "title", null, null);
+		List<Section> sections = latestSections(3L, 1L, 2L);
+
+		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(targetDocument));
+		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(sections);
+		when(documentContentRepository.findByTitle("title")).thenReturn(Optional.of(targetDocument));
+		when(contributeRepository.existsDuplicateRequestedDocumentTitle("title")).thenReturn(false);
+		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.empty());
+
+		ContributeValidationContext context = contributeRequestValidator.validate(contributeRequest, 2L);
+
+		assertThat(context.getDocument()).isSameAs(targetDocument);
+		assertThat(context.getLatestSections()).isSameAs(sections);
+		assertThat(context.getLatestDebate()).isEmpty();
+		assertThat(context.containsSection(1L)).isTrue();
+		assertThat(context.containsSection(0L)).isTrue();
+		assertThat(context.containsSection(4L)).isFalse();
+	}
+
 	@Test
 	@DisplayName("documentId에 해당하는 문서가 존재하지 않는 경우")
 	void noDocument() {
@@ -203,7 +230,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>());
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(new ArrayList<>());
 		when(documentContentRepository.findByTitle("newTitle")).thenReturn(Optional.of(targetDocument));
 
 		assertThatThrownBy(
@@ -222,7 +249,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>());
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(new ArrayList<>());
 		when(documentContentRepository.findByTitle("newTitle")).thenReturn(Optional.empty());
 		when(contributeRepository.existsDuplicateRequestedDocumentTitle("newTitle")).thenReturn(true);
 
@@ -244,7 +271,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>(List.of(2L)));
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(latestSections(2L));
 
 		//then
 		assertThatThrownBy(
@@ -265,7 +292,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>(List.of(2L)));
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(latestSections(2L));
 
 		//then
 		assertThatThrownBy(
@@ -288,7 +315,7 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>(List.of(1L, 2L)));
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(latestSections(1L, 2L));
 
 		//then
 		assertThatThrownBy(
@@ -311,11 +338,19 @@ class ContributeRequestValidatorTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
 		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(new ArrayList<>(List.of(1L, 2L)));
+		when(sectionRepository.findLatestByDocumentId(any())).thenReturn(latestSections(1L, 2L));
 
 		//then
 		assertThatThrownBy(
 			() -> contributeRequestValidator.validate(contributeRequest, loginMemberId)
 		).isInstanceOf(BaseException.class).hasMessage("생성 순서가 순차적이지 않습니다.");
 	}
-}
\ No newline at end of file
+
+	private static List<Section> latestSections(Long... sectionIds) {
+		List<Section> sections = new ArrayList<>();
+		for (int i = 0; i < sectionIds.length; i++) {
+			sections.add(section(sectionIds[i], 1L, null, Heading.H1, "title", "content", i + 1));
+		}
+		return sections;
+	}
+}
@@ -0,0 +1,117 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ContributeSchedulerTest {
+
+	@Mock
+	ContributeSchedulingActionDeterminer contributeSchedulingActionDeterminer;
+	@Mock
+	MergeHandler mergeHandler;
+	@Mock
+	DebateHandler debateHandler;
+	@Mock
+	RejectHandler rejectHandler;
+	@Mock
+	SchedulingTargetContributeExtractor schedulingTargetContributeExtractor;
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	ContributeScheduler contributeScheduler;
+
+	@BeforeEach
+	void setUp() {
+		contributeScheduler = new ContributeScheduler(contributeSchedulingActionDeterminer, mergeHandler,
+			debateHandler, rejectHandler, schedulingTargetContributeExtractor, meterRegistry, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		contributeScheduler.shutdown();
+	}
+
+	@Test
+	void processAllContributes() {
+		//given
+		Document document1 = document(1L, null, "title1", 1L);
+		Document document2 = document(2L, null, "title2", 1L);
+		Contribute c1 = contribute(1L, null, "title", "description", ContributeStatus.VOTING, document1);
+		Contribute c2 = contribute(2L, null, "title", "description", ContributeStatus.VOTING, document2);
+		Contribute c3 = contribute(3L, null, "title", "description", ContributeStatus.VOTING, document1);
+
+		when(contributeSchedulingActionDeterminer.check(any())).thenReturn(ContributeSchedulingAction.MERGE);
+
+		//when
+		contributeScheduler.process(List.of(c3, c2, c1));
+
+		//then
+		//같은 문서의 수정요청은 ID 순서대로 처리된다.
+		InOrder inOrder = inOrder(mergeHandler);
+		inOrder.verify(mergeHandler).handle(1L);
+		inOrder.verify(mergeHandler).handle(3L);
+		verify(mergeHandler).handle(2L);
+
+		assertThat(meterRegistry.get("contribute.scheduler.action").tag("action", "MERGE").timer().count())
+			.isEqualTo(3);
+		assertThat(meterRegistry.get("contribute.scheduler.queue.depth").gauge().value()).isZero();
+	}
+
+	@Test
+	void failureDoesNotStopPartition() {
+		//given
+		Document document = document(1L, null, "title1", 1L);
+		Contribute c1 = contribute(1L, null, "title", "description", ContributeStatus.VOTING, document);
+		Contribute c2 = contribute(2L, null, "title", "description", ContributeStatus.VOTING, document);
+
+		when(contributeSchedulingActionDeterminer.check(any())).thenReturn(ContributeSchedulingAction.REJECT);
+		doThrow(new RuntimeException()).when(rejectHandler).handle(1L);
+
+		//when
+		contributeScheduler.process(List.of(c1, c2));
+
+		//then
+		//첫 번째 수정요청의 처리에 실패하더라도 같은 문서의 다음 수정요청은 처리된다.
+		verify(rejectHandler).handle(2L);
+		assertThat(meterRegistry.get("contribute.scheduler.failures").tag("action", "REJECT").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void retryOnOptimisticLockFailure() {
+		//given
+		Document document = document(1L, null, "title1", 1L);
+		Contribute c1 = contribute(1L, null, "title", "description", ContributeStatus.VOTING, document);
+
+		when(contributeSchedulingActionDeterminer.check(any())).thenReturn(ContributeSchedulingAction.MERGE);
+		doThrow(new ObjectOptimisticLockingFailureException(Document.class, 1L))
+			.doNothing()
+			.when(mergeHandler).handle(1L);
+
+		//when
+		contributeScheduler.process(List.of(c1));
+
+		//then
+		//다른 트랜잭션과 충돌한 병합은 다시 수행된다.
+		verify(mergeHandler, times(2)).handle(1L);
+		assertThat(meterRegistry.find("contribute.scheduler.failures").counter()).isNull();
+	}
+}
@@ -50,7 +50,7 @@ class DebateHandlerTest {
 		Debate debate = debate(1L, contribute, DebateStatus.OPEN, null, 1);
 
 		//when
-		when(contributeRepository.findById(contributeId)).thenReturn(Optional.of(contribute));
+		when(contributeRepository.findByIdForUpdate(contributeId)).thenReturn(Optional.of(contribute));
 		when(debateRepository.save(any(Debate.class))).thenReturn(debate);
 		debateHandler.handle(contributeId);
 
@@ -62,7 +62,7 @@ class DebateHandlerTest {
 	}
 
 	@Test
-	@DisplayName("투표중인 상태가 아닌 수정요청을 토론으로 전환")
+	@DisplayName("투표중인 상태가 아닌 수정요청은 토론으로 전환하지 않음")
 	void convertNotVotingContributeToDebate() {
 		// given
 		Long debatingContributeId = 1L;
@@ -77,25 +77,21 @@ class DebateHandlerTest {
 		Contribute rejectedContribute = contribute(rejectedContributeId, null, "title", "description",
 			ContributeStatus.REJECTED, document);
 
-		when(contributeRepository.findById(debatingContributeId)).thenReturn(Optional.of(debatingContribute));
-		when(contributeRepository.findById(mergedContributeId)).thenReturn(Optional.of(mergedContribute));
-		when(contributeRepository.findById(rejectedContributeId)).thenReturn(Optional.of(rejectedContribute));
+		when(contributeRepository.findByIdForUpdate(debatingContributeId)).thenReturn(Optional.of(debatingContribute));
+		when(contributeRepository.findByIdForUpdate(mergedContributeId)).thenReturn(Optional.of(mergedContribute));
+		when(contributeRepository.findByIdForUpdate(rejectedContributeId)).thenReturn(Optional.of(rejectedContribute));
 
 		// when
+		debateHandler.handle(debatingContributeId);
+		debateHandler.handle(mergedContributeId);
+		debateHandler.handle(rejectedContributeId);
 
 		// then
-		// 토론중인 or 병합된 or 기각된 수정요청은 토론으로 전환할 수 없다.
-		assertThatThrownBy(() -> debateHandler.handle(debatingContributeId))
-			.isInstanceOf(IllegalStateException.class)
-			.hasMessage("투표 중인 수정요청만 토론으로 전환할 수 있습니다.");
-		assertThatThrownBy(() -> debateHandler.handle(mergedContributeId))
-			.isInstanceOf(IllegalStateException.class)
-			.hasMessage("투표 중인 수정요청만 토론으로 전환할 수 있습니다.");
-		assertThatThrownBy(() -> debateHandler.handle(rejectedContributeId))
-			.isInstanceOf(IllegalStateException.class)
-			.hasMessage("투표 중인 수정요청만 토론으로 전환할 수 있습니다.");
-
-		// 예외가 발생했으니 토론은 저장되지 않는다.
+		// 토론중인 or 병합된 or 기각된 수정요청은 이미 처리된 것으로 보고 건너뛴다.
+		assertThat(debatingContribute.getStatus()).isEqualTo(ContributeStatus.DEBATING);
+		assertThat(mergedContribute.getStatus()).isEqualTo(ContributeStatus.MERGED);
+		assertThat(rejectedContribute.getStatus()).isEqualTo(ContributeStatus.REJECTED);
 		verify(debateRepository, never()).save(any(Debate.class));
+		verifyNoInteractions(applicationEventPublisher);
 	}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +13,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.config.MockSectionIdGenerator;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
@@ -25,10 +30,15 @@ import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.AmendmentMergeTemplateMapper;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.CreateAmendmentMergeTemplate;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.DeleteAmendmentMergeTemplate;
+import goorm.eagle7.stelligence.domain.contribute.scheduler.template.SectionOrderPlanner;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.UpdateAmendmentMergeTemplate;
 import goorm.eagle7.stelligence.domain.document.DocumentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
@@ -38,9 +48,15 @@ class MergeHandlerTest {
 	@Mock
 	ContributeRepository contributeRepository;
 
+	@Mock
+	DocumentContentRepository documentRepository;
+
 	@Mock
 	CacheManager cacheManager;
 
+	@Mock
+	Cache cache;
+
 	@Mock
 	CreateAmendmentMergeTemplate createAmendmentMergeTemplate;
 
@@ -53,9 +69,21 @@ class MergeHandlerTest {
 	@Mock
 	AmendmentMergeTemplateMapper amendmentMergeTemplateMapper;
 
+	@Mock
+	SectionOrderPlanner sectionOrderPlanner;
+
+	@Mock
+	SectionRepository sectionRepository;
+
+	@Spy
+	SectionIdGenerator sectionIdGenerator = new MockSectionIdGenerator();
+
 	@Mock
 	DocumentService documentService;
 
+	@Mock
+	DocumentContentService documentContentService;
+
 	@Mock
 	ApplicationEventPublisher applicationEventPublisher;
 
@@ -84,6 +112,8 @@ class MergeHandlerTest {
 			.thenReturn(updateAmendmentMergeTemplate);
 		when(amendmentMergeTemplateMapper.getTemplateForType(AmendmentType.DELETE))
 			.thenReturn(deleteAmendmentMergeTemplate);
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(contribute.getId())).thenReturn(
 			java.util.Optional.of(contribute));
 
@@ -101,8 +131,19 @@ class MergeHandlerTest {
 		verify(amendmentMergeTemplateMapper, times(1)).getTemplateForType(AmendmentType.UPDATE);
 		verify(amendmentMergeTemplateMapper, times(1)).getTemplateForType(AmendmentType.DELETE);
 
-		verify(updateAmendmentMergeTemplate, times(1)).handle(document, a1);
-		verify(deleteAmendmentMergeTemplate, times(1)).handle(document, a2);
+		verify(updateAmendmentMergeTemplate, times(1)).handle(eq(document), eq(a1), any(), anyInt());
+		verify(deleteAmendmentMergeTemplate, times(1)).handle(eq(document), eq(a2), any(), anyInt());
+
+		//섹션 순서의 재배치와 같은 순서로 잠금을 얻도록, 섹션을 변경하기 전에 문서를 먼저 잠가야 한다.
+		InOrder lockOrder = inOrder(documentRepository, sectionOrderPlanner, sectionRepository);
+		lockOrder.verify(documentRepository).findByIdForUpdate(1L);
+		lockOrder.verify(sectionOrderPlanner).applyCreatingOrders(eq(document), anyList());
+		lockOrder.verify(sectionRepository).insertSections(anyList());
+
+		//수정안으로부터 생성된 섹션은 한 번에 저장되고, 기존 섹션의 프로젝션만 갱신되어야 한다.
+		verify(sectionRepository, times(1)).insertSections(anyList());
+		verify(sectionRepository, times(1)).updateDocumentHeadSections(anyList());
+		verify(sectionRepository, never()).insertDocumentHeadSections(anyList());
 
 		//제목변경과 부모 문서 변경 메서드가 각각 1번씩 호출되었는지 확인
 		verify(documentService, times(1)).changeDocumentTitle(document.getId(), contribute.getAfterDocumentTitle());
@@ -122,6 +163,8 @@ class MergeHandlerTest {
 			"title", document, null);
 
 		//when
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(contribute.getId())).thenReturn(
 			java.util.Optional.of(contribute));
 
@@ -152,6 +195,8 @@ class MergeHandlerTest {
 		//when
 		when(amendmentMergeTemplateMapper.getTemplateForType(AmendmentType.CREATE))
 			.thenReturn(createAmendmentMergeTemplate);
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(contribute.getId())).thenReturn(
 			java.util.Optional.of(contribute));
 
@@ -162,11 +207,48 @@ class MergeHandlerTest {
 		//CREATE 내에서는 targetSection의 order 의 오름차순으로 수행되어야 함
 		//targetSection이 같다면 creatingOrder의 오름차순으로 수행되어야 함
 		InOrder inOrder = inOrder(createAmendmentMergeTemplate);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a5);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a4);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a3);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a1);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a2);
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a5), any(), anyInt());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a4), any(), anyInt());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a3), any(), anyInt());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a1), any(), anyInt());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a2), any(), anyInt());
+
+		//CREATE 수정안으로 생성될 섹션의 ID는 한 번에 할당받아야 한다.
+		verify(sectionIdGenerator, times(1)).allocate(5);
+		verify(sectionIdGenerator, never()).getAndIncrementSectionId();
+	}
+
+	@Test
+	@DisplayName("CREATE는 계획된 순서로, 나머지는 대상 섹션의 순서로 병합")
+	void plannedOrder() {
+		//given
+		Member member = member(1L, "pete");
+
+		Document document = document(1L, member, "title", 1L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title", "content", 1024);
+		Section s2 = section(2L, 1L, document, Heading.H2, "title", "content", 2048);
+
+		Contribute contribute = contribute(1L, member, "title", "description", ContributeStatus.VOTING, document);
+
+		Amendment a1 = amendment(1L, contribute, AmendmentType.CREATE, s1, Heading.H2, "new title", "new content", 1);
+		Amendment a2 = amendment(2L, contribute, AmendmentType.UPDATE, s2, Heading.H2, "new title", "new content", 0);
+
+		when(amendmentMergeTemplateMapper.getTemplateForType(AmendmentType.CREATE))
+			.thenReturn(createAmendmentMergeTemplate);
+		when(amendmentMergeTemplateMapper.getTemplateForType(AmendmentType.UPDATE))
+			.thenReturn(updateAmendmentMergeTemplate);
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
+		when(contributeRepository.findByIdWithAmendmentsAndMember(contribute.getId())).thenReturn(
+			Optional.of(contribute));
+		when(sectionOrderPlanner.applyCreatingOrders(eq(document), anyList())).thenReturn(Map.of(a1, 1536));
+
+		//when
+		mergeHandler.handle(contribute.getId());
+
+		//then
+		verify(createAmendmentMergeTemplate, times(1)).handle(document, a1, 1L, 1536);
+		verify(updateAmendmentMergeTemplate, times(1)).handle(document, a2, s2.getId(), 2048);
 	}
 
 	@Test
@@ -196,6 +278,8 @@ class MergeHandlerTest {
 			.thenReturn(updateAmendmentMergeTemplate);
 		when(amendmentMergeTemplateMapper.getTemplateForType(AmendmentType.DELETE))
 			.thenReturn(deleteAmendmentMergeTemplate);
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(contribute.getId())).thenReturn(
 			java.util.Optional.of(contribute));
 
@@ -205,13 +289,13 @@ class MergeHandlerTest {
 		InOrder inOrder = inOrder(createAmendmentMergeTemplate, updateAmendmentMergeTemplate,
 			deleteAmendmentMergeTemplate);
 		//CREATE 타입이 먼저 수행되어야 함
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a5);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a4);
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a5), any(), anyInt());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a4), any(), anyInt());
 
 		//DELETE와 UPDATE는 순서는 상관 없으나, CREATE가 끝난 후에 수행되어야 함
-		inOrder.verify(updateAmendmentMergeTemplate).handle(document, a1);
-		inOrder.verify(deleteAmendmentMergeTemplate).handle(document, a2);
-		inOrder.verify(updateAmendmentMergeTemplate).handle(document, a3);
+		inOrder.verify(updateAmendmentMergeTemplate).handle(eq(document), eq(a1), any(), anyInt());
+		inOrder.verify(deleteAmendmentMergeTemplate).handle(eq(document), eq(a2), any(), anyInt());
+		inOrder.verify(updateAmendmentMergeTemplate).handle(eq(document), eq(a3), any(), anyInt());
 	}
 
 	@Test
@@ -224,6 +308,8 @@ class MergeHandlerTest {
 			"changedTitle", null, null);
 
 		//when
+		when(contributeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(1L)).thenReturn(Optional.of(contribute));
 		doAnswer((Answer<Void>)invocation -> {
 			document.changeTitle("changedTitle");
@@ -250,6 +336,8 @@ class MergeHandlerTest {
 			afterParentDocument, null);
 
 		//when
+		when(contributeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
 		when(contributeRepository.findByIdWithAmendmentsAndMember(1L)).thenReturn(Optional.of(contribute));
 		doAnswer((Answer<Void>)invocation -> {
 			document.updateParentDocument(afterParentDocument);
@@ -263,4 +351,72 @@ class MergeHandlerTest {
 		assertThat(contribute.getAfterParentDocument()).isEqualTo(afterParentDocument);
 		assertThat(document.getParentDocument()).isEqualTo(afterParentDocument);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("캐시된 문서는 병합 후 캐시를 삭제하지 않고 병합된 내용으로 교체")
+	void refreshCache() {
+		//given
+		Member member = member(1L, "pete");
+		Document document = document(1L, member, "title", 1L);
+		Contribute contribute = contribute(1L, member, "title", "description", ContributeStatus.VOTING, document,
+			"title", null, null);
+		DocumentResponse documentResponse = mock(DocumentResponse.class);
+
+		when(contributeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
+		when(contributeRepository.findByIdWithAmendmentsAndMember(1L)).thenReturn(Optional.of(contribute));
+		when(cacheManager.getCache("document")).thenReturn(cache);
+		when(cache.get(1L)).thenReturn(mock(Cache.ValueWrapper.class));
+		when(documentContentService.loadLatestDocument(1L)).thenReturn(documentResponse);
+
+		//when
+		mergeHandler.handle(contribute.getId());
+
+		//then
+		verify(cache, times(1)).put(1L, documentResponse);
+		verify(cache, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("캐시되지 않은 문서는 병합 후 다시 조회하지 않고 캐시를 삭제")
+	void evictUncachedDocument() {
+		//given
+		Member member = member(1L, "pete");
+		Document document = document(1L, member, "title", 1L);
+		Contribute contribute = contribute(1L, member, "title", "description", ContributeStatus.VOTING, document,
+			"title", null, null);
+
+		when(contributeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(contribute));
+		when(documentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(document));
+		when(contributeRepository.findByIdWithAmendmentsAndMember(1L)).thenReturn(Optional.of(contribute));
+		when(cacheManager.getCache("document")).thenReturn(cache);
+
+		//when
+		mergeHandler.handle(contribute.getId());
+
+		//then
+		verify(cache, times(1)).evict(1L);
+		verify(cache, never()).put(any(), any());
+		verify(documentContentService, never()).loadLatestDocument(any());
+	}
+
+	@Test
+	@DisplayName("이미 처리된 Contribute는 병합하지 않음")
+	void skipHandledContribute() {
+		//given
+		Member member = member(1L, "pete");
+		Document document = document(1L, member, "title", 1L);
+		Contribute contribute = contribute(1L, member, "title", "description", ContributeStatus.MERGED, document,
+			"title", null, null);
+
+		when(contributeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(contribute));
+
+		//when
+		mergeHandler.handle(contribute.getId());
+
+		//then
+		assertThat(document.getLatestRevision()).isEqualTo(1L);
+		verify(contributeRepository, never()).findByIdWithAmendmentsAndMember(any());
+		verifyNoInteractions(sectionRepository, sectionOrderPlanner, cacheManager, applicationEventPublisher);
+	}
+}
@@ -37,7 +37,7 @@ class RejectHandlerTest {
 		Document document = document(1L, null, "title", null);
 		Contribute contribute = contribute(1L, null, "title", "description", ContributeStatus.VOTING, document);
 
-		when(contributeRepository.findById(contribute.getId())).thenReturn(Optional.of(contribute));
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
 
 		// when
 		rejectHandler.handle(contribute.getId());
@@ -46,4 +46,20 @@ class RejectHandlerTest {
 		assertThat(contribute.getStatus()).isEqualTo(ContributeStatus.REJECTED);
 		verify(applicationEventPublisher).publishEvent(new ContributeRejectedEvent(contribute.getId()));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void skipHandledContribute() {
+		//given
+		Document document = document(1L, null, "title", null);
+		Contribute contribute = contribute(1L, null, "title", "description", ContributeStatus.DEBATING, document);
+
+		when(contributeRepository.findByIdForUpdate(contribute.getId())).thenReturn(Optional.of(contribute));
+
+		// when
+		rejectHandler.handle(contribute.getId());
+
+		//then
+		assertThat(contribute.getStatus()).isEqualTo(ContributeStatus.DEBATING);
+		verifyNoInteractions(applicationEventPublisher);
+	}
+}
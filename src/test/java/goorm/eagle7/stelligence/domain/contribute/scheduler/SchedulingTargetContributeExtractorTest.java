@@ -1,41 +1,117 @@
 package goorm.eagle7.stelligence.domain.contribute.scheduler;
 
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mockito;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import goorm.eagle7.stelligence.common.entity.BaseTimeEntity;
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 
 @ExtendWith(MockitoExtension.class)
 class SchedulingTargetContributeExtractorTest {
 
+	@Mock
 	private ContributeRepository contributeRepository;
+
+	@Mock
+	private ContributeExpiryQueue contributeExpiryQueue;
+
 	private SchedulingTargetContributeExtractor extractor;
 
-	@Test
-	void test() {
-		contributeRepository = Mockito.mock(ContributeRepository.class);
-		extractor = new SchedulingTargetContributeExtractor(contributeRepository, 10 * 60000, 2);
+	// 2024년 3월 21일 10시 10분 10초에 스케쥴링이 동작한다고 가정
+	private final LocalDateTime now = LocalDateTime.of(2024, 3, 21, 10, 10, 10);
+
+	@BeforeEach
+	void setUp() {
+		extractor = new SchedulingTargetContributeExtractor(contributeRepository, contributeExpiryQueue, 100, 5);
+	}
 
+	@Test
+	void extractContributes() {
 		//given
-		// 2024년 3월 21일 10시 10분 10초에 스케쥴링이 동작한다고 가정
-		LocalDateTime now = LocalDateTime.of(2024, 3, 21, 10, 10, 10);
-		LocalDateTime from = now.minusMinutes(Contribute.VOTE_DURATION_MINUTE)
-			.minusSeconds(10 * 60000 / 1000)
-			.minusMinutes(2L);
-		LocalDateTime to = now.minusMinutes(Contribute.VOTE_DURATION_MINUTE);
+		when(contributeExpiryQueue.claimDue(now, 100)).thenReturn(List.of(1L, 2L));
 
 		//when
 		extractor.extractContributes(now);
 
 		//then
-		// 2024년 3월 21일 8시 58분 10초 ~ 2024년 3월 21일 9시 10분 10초 사이에 생성된 Contribute를 가져와야한다.
-		verify(contributeRepository).findByStatusIsVotingAndCreatedAtBetween(from, to);
+		//큐에서 꺼낸 Contribute 중 투표중인 Contribute만 가져와야 한다.
+		verify(contributeRepository).findByIdInAndStatus(List.of(1L, 2L), ContributeStatus.VOTING);
+	}
+
+	@Test
+	void extractContributesEmptyQueue() {
+		//given
+		when(contributeExpiryQueue.claimDue(now, 100)).thenReturn(List.of());
+
+		//when
+		List<Contribute> contributes = extractor.extractContributes(now);
+
+		//then
+		assertThat(contributes).isEmpty();
+		verifyNoInteractions(contributeRepository);
+	}
+
+	@Test
+	void recover() {
+		//given
+		Contribute notExpired = votingContributeEndsAt(1L, now.plusMinutes(1));
+		Contribute processing = votingContributeEndsAt(2L, now.minusMinutes(1));
+		Contribute missed = votingContributeEndsAt(3L, now.minusMinutes(10));
+
+		when(contributeRepository.findByStatus(ContributeStatus.VOTING)).thenReturn(
+			List.of(notExpired, processing, missed));
+		when(contributeExpiryQueue.addAll(anyMap())).thenReturn(true);
+
+		//when
+		List<Contribute> contributes = extractor.recover(now);
+
+		//then
+		//유예 시간 안에 종료된 Contribute는 다른 서버가 처리 중일 수 있으므로 큐에 추가하지 않는다.
+		verify(contributeExpiryQueue).addAll(Map.of(1L, notExpired.getEndAt(), 3L, missed.getEndAt()));
+		assertThat(contributes).isEmpty();
+	}
+
+	@Test
+	void recoverWithoutQueue() {
+		//given
+		Contribute notExpired = votingContributeEndsAt(1L, now.plusMinutes(1));
+		Contribute expired = votingContributeEndsAt(2L, now.minusMinutes(1));
+
+		when(contributeRepository.findByStatus(ContributeStatus.VOTING)).thenReturn(List.of(notExpired, expired));
+		when(contributeExpiryQueue.addAll(anyMap())).thenReturn(false);
+
+		//when
+		List<Contribute> contributes = extractor.recover(now);
+
+		//then
+		//큐를 사용할 수 없다면 투표 기간이 끝난 Contribute를 직접 처리한다.
+		assertThat(contributes).containsExactly(expired);
+	}
+
+	private Contribute votingContributeEndsAt(Long id, LocalDateTime endAt) {
+		Contribute contribute = contribute(id, null, "title", "description", ContributeStatus.VOTING,
+			document(1L, null, "title", 1L));
+		try {
+			Field createdAt = BaseTimeEntity.class.getDeclaredField("createdAt");
+			createdAt.setAccessible(true);
+			createdAt.set(contribute, endAt.minusMinutes(Contribute.VOTE_DURATION_MINUTE));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+		return contribute;
 	}
-}
\ No newline at end of file
+}
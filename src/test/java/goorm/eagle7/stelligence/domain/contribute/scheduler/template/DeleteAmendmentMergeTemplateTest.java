@@ -19,14 +19,15 @@ class DeleteAmendmentMergeTemplateTest {
 	@Test
 	void createSection() {
 		//given
-		DeleteAmendmentMergeTemplate deleteAmendmentMergeTemplate = new DeleteAmendmentMergeTemplate(null);
+		DeleteAmendmentMergeTemplate deleteAmendmentMergeTemplate = new DeleteAmendmentMergeTemplate();
 
 		Document document = document(1L, null, "title", 1L);
 		Section section = section(4L, 1L, document, Heading.H1, "title", "content", 1);
 		Amendment amendment = amendment(1L, null, AmendmentType.DELETE, section, null, null, null, 0);
 
 		//when
-		Section createdSection = deleteAmendmentMergeTemplate.createSection(document, amendment);
+		Section createdSection = deleteAmendmentMergeTemplate.createSection(document, amendment, section.getId(),
+			section.getOrder());
 
 		//then
 		assertThat(createdSection.getId()).isEqualTo(section.getId());
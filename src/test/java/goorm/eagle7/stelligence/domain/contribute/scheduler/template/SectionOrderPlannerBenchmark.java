@@ -0,0 +1,106 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+
+/**
+ * 큰 문서에 섹션을 삽입할 때 병합 과정의 순서 계산 비용과 변경되는 섹션의 수를 비교하는 JMH 벤치마크입니다.
+ * 문서의 앞부분에 여러 개의 섹션을 삽입하는 경우를 측정하며, 순서가 연속된 기존 문서(dense)와
+ * ORDER_GAP 간격으로 저장된 문서(sparse)를 비교합니다.
+ *
+ * <p>변경되는 섹션의 수는 병합 트랜잭션에서 갱신되는 행의 수이며, changedSections 보조 지표로 출력됩니다.
+ * 테스트 실행 시에는 수행되지 않으며, main 메서드를 직접 실행하여 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionOrderPlannerBenchmark {
+
+	private static final int CREATE_COUNT = 8;
+
+	@Param({"1000", "10000", "100000"})
+	int sectionCount;
+
+	@Param({"dense", "sparse"})
+	String layout;
+
+	private List<Section> sections;
+	private List<Amendment> creates;
+
+	@Setup
+	public void setUp() {
+		Document document = document(1L, null, "title", 1L);
+		int gap = layout.equals("dense") ? 1 : Section.ORDER_GAP;
+
+		List<Section> all = new ArrayList<>(sectionCount);
+		for (int i = 0; i < sectionCount; i++) {
+			all.add(section((long)i + 1, 1L, document, Heading.H2, "title", "content", (i + 1) * gap));
+		}
+
+		// 첫 번째 섹션 뒤에 삽입하므로 나머지 모든 섹션이 순서 변경의 후보가 된다.
+		Section target = all.get(0);
+		sections = all.subList(1, all.size());
+		creates = new ArrayList<>(CREATE_COUNT);
+		for (int i = 1; i <= CREATE_COUNT; i++) {
+			creates.add(amendment((long)i, null, AmendmentType.CREATE, target, Heading.H3, "new", "new", i));
+		}
+	}
+
+	@Benchmark
+	public SectionOrderPlanner.OrderPlan planOrders(ChangedSections changed) {
+		SectionOrderPlanner.OrderPlan plan = SectionOrderPlanner.planOrders(sections, creates);
+		changed.changedSections += plan.changedOrders().size();
+		return plan;
+	}
+
+	/**
+	 * 호출마다 변경되는 섹션의 수를 집계합니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ChangedSections {
+
+		public long changedSections;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			changedSections = 0;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(SectionOrderPlannerBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
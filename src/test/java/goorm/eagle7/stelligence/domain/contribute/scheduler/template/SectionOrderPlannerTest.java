@@ -0,0 +1,155 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+
+@ExtendWith(MockitoExtension.class)
+class SectionOrderPlannerTest {
+
+	@Mock
+	SectionRepository sectionRepository;
+
+	@InjectMocks
+	SectionOrderPlanner sectionOrderPlanner;
+
+	@Test
+	@DisplayName("빈 순서가 충분하면 기존 섹션을 변경하지 않고 사이에 배치")
+	void applyCreatingOrders() {
+		//given
+		Document document = document(1L, null, "title", 3L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title", "content", 1024);
+		Section s2 = section(2L, 1L, document, Heading.H2, "title", "content", 2048);
+		Section s3 = section(3L, 1L, document, Heading.H3, "title", "content", 3072);
+
+		//s1 뒤에 3개, s3 뒤(문서의 마지막)에 1개의 섹션을 삽입한다.
+		Amendment a1 = amendment(1L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 1);
+		Amendment a2 = amendment(2L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 2);
+		Amendment a3 = amendment(3L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 3);
+		Amendment a4 = amendment(4L, null, AmendmentType.CREATE, s3, Heading.H2, "new", "new", 1);
+		Amendment a5 = amendment(5L, null, AmendmentType.UPDATE, s2, Heading.H2, "new", "new", 0);
+
+		when(sectionRepository.findByVersionWhereOrderGreaterEqualThan(document, 3L, 1025))
+			.thenReturn(List.of(s2, s3));
+
+		//when
+		Map<Amendment, Integer> creatingOrders = sectionOrderPlanner.applyCreatingOrders(document,
+			List.of(a1, a2, a3, a4, a5));
+
+		//then
+		verify(sectionRepository, times(1)).findByVersionWhereOrderGreaterEqualThan(any(), any(), anyInt());
+		assertThat(creatingOrders).hasSize(4)
+			.containsEntry(a1, 1280)
+			.containsEntry(a2, 1536)
+			.containsEntry(a3, 1792)
+			.containsEntry(a4, 3072 + Section.ORDER_GAP);
+		assertThat(s1.getOrder()).isEqualTo(1024);
+		assertThat(s2.getOrder()).isEqualTo(2048);
+		assertThat(s3.getOrder()).isEqualTo(3072);
+	}
+
+	@Test
+	@DisplayName("빈 순서가 부족하면 다음 섹션부터 필요한 만큼만 순서를 밀어냄")
+	void pushOnlyCrowdedSections() {
+		//given
+		Document document = document(1L, null, "title", 3L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title", "content", 1024);
+		Section s2 = section(2L, 1L, document, Heading.H2, "title", "content", 1025);
+		Section s3 = section(3L, 1L, document, Heading.H3, "title", "content", 1027);
+		Section s4 = section(4L, 1L, document, Heading.H3, "title", "content", 2048);
+
+		Amendment a1 = amendment(1L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 1);
+		Amendment a2 = amendment(2L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 2);
+
+		when(sectionRepository.findByVersionWhereOrderGreaterEqualThan(document, 3L, 1025))
+			.thenReturn(List.of(s2, s3, s4));
+
+		//when
+		Map<Amendment, Integer> creatingOrders = sectionOrderPlanner.applyCreatingOrders(document, List.of(a1, a2));
+
+		//then
+		//1024, (new 1025), (new 1026), 1025 -> 1027, 1027 -> 1028, 2048
+		assertThat(creatingOrders).containsEntry(a1, 1025).containsEntry(a2, 1026);
+		assertThat(s2.getOrder()).isEqualTo(1027);
+		assertThat(s3.getOrder()).isEqualTo(1028);
+		assertThat(s4.getOrder()).isEqualTo(2048);
+	}
+
+	@Test
+	@DisplayName("CREATE 수정안이 없다면 섹션을 조회하지 않음")
+	void noCreate() {
+		Document document = document(1L, null, "title", 3L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+
+		sectionOrderPlanner.applyCreatingOrders(document,
+			List.of(amendment(1L, null, AmendmentType.DELETE, s1, null, null, null, 0)));
+
+		verifyNoInteractions(sectionRepository);
+		assertThat(s1.getOrder()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("연속된 순서를 가진 문서는 수정안을 하나씩 반영하며 순서를 1씩 증가시킨 결과와 같음")
+	void sameAsSequentialShift() {
+		Document document = document(1L, null, "title", 3L);
+		Section phantom = section(0L, 0L, document, null, null, null, 0);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Section s2 = section(2L, 1L, document, Heading.H2, "title", "content", 2);
+		Section s3 = section(3L, 1L, document, Heading.H3, "title", "content", 3);
+		Section s4 = section(4L, 1L, document, Heading.H3, "title", "content", 4);
+		List<Section> sections = List.of(s1, s2, s3, s4);
+
+		List<Amendment> creates = List.of(
+			amendment(1L, null, AmendmentType.CREATE, phantom, Heading.H2, "new", "new", 1),
+			amendment(2L, null, AmendmentType.CREATE, s1, Heading.H2, "new", "new", 1),
+			amendment(3L, null, AmendmentType.CREATE, s2, Heading.H2, "new", "new", 1),
+			amendment(4L, null, AmendmentType.CREATE, s2, Heading.H2, "new", "new", 2),
+			amendment(5L, null, AmendmentType.CREATE, s3, Heading.H2, "new", "new", 1)
+		);
+
+		//기존 방식: 수정안마다 삽입 위치 이후의 섹션 순서를 1씩 증가시킨다.
+		int[] expected = sections.stream().mapToInt(Section::getOrder).toArray();
+		int[] expectedCreatingOrders = new int[creates.size()];
+		for (int c = 0; c < creates.size(); c++) {
+			Amendment create = creates.get(c);
+			int targetIndex = sections.indexOf(create.getTargetSection());
+			int insertOrder = (targetIndex < 0 ? create.getTargetSection().getOrder() : expected[targetIndex])
+				+ create.getCreatingOrder();
+			for (int i = 0; i < expected.length; i++) {
+				if (expected[i] >= insertOrder) {
+					expected[i]++;
+				}
+			}
+			expectedCreatingOrders[c] = insertOrder;
+		}
+
+		SectionOrderPlanner.OrderPlan plan = SectionOrderPlanner.planOrders(sections, creates);
+
+		for (int i = 0; i < sections.size(); i++) {
+			Section section = sections.get(i);
+			assertThat(plan.changedOrders().getOrDefault(section, section.getOrder())).as("section %d", section.getId())
+				.isEqualTo(expected[i]);
+		}
+		for (int c = 0; c < creates.size(); c++) {
+			assertThat(plan.creatingOrders().get(creates.get(c))).as("amendment %d", creates.get(c).getId())
+				.isEqualTo(expectedCreatingOrders[c]);
+		}
+	}
+}
@@ -16,7 +16,7 @@ class UpdateAmendmentMergeTemplateTest {
 	@Test
 	void createSection() {
 		//given
-		UpdateAmendmentMergeTemplate updateAmendmentMergeTemplate = new UpdateAmendmentMergeTemplate(null);
+		UpdateAmendmentMergeTemplate updateAmendmentMergeTemplate = new UpdateAmendmentMergeTemplate();
 
 		Document document = document(1L, null, "title", 1L);
 		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
@@ -24,7 +24,8 @@ class UpdateAmendmentMergeTemplateTest {
 			1);
 
 		//when
-		Section createdSection = updateAmendmentMergeTemplate.createSection(document, amendment);
+		Section createdSection = updateAmendmentMergeTemplate.createSection(document, amendment, section.getId(),
+			section.getOrder());
 
 		//then
 		assertThat(createdSection.getId()).isEqualTo(section.getId());
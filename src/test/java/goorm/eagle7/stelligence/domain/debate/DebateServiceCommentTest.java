@@ -11,6 +11,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -27,6 +28,7 @@ import goorm.eagle7.stelligence.domain.debate.model.Comment;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
 import goorm.eagle7.stelligence.domain.debate.repository.CommentRepository;
+import goorm.eagle7.stelligence.domain.debate.repository.CommentSequenceAllocator;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
@@ -41,6 +43,8 @@ class DebateServiceCommentTest {
 	@Mock
 	private CommentRepository commentRepository;
 	@Mock
+	private CommentSequenceAllocator commentSequenceAllocator;
+	@Mock
 	private ApplicationEventPublisher applicationEventPublisher;
 
 	@InjectMocks
@@ -65,23 +69,26 @@ class DebateServiceCommentTest {
 			mockedLocalDateTime.when(LocalDateTime::now).thenReturn(commentedAt);
 
 			when(memberRepository.findById(memberId)).thenReturn(Optional.of(commenter));
-			when(debateRepository.findDebateByIdForUpdate(debateId)).thenReturn(Optional.of(debate));
+			when(debateRepository.findById(debateId)).thenReturn(Optional.of(debate));
+			when(commentSequenceAllocator.allocate(eq(debateId), any())).thenReturn(1);
 
 			// when
 			debateService.addComment(commentRequest, debateId, memberId);
 
 			// then
 			// 댓글은 commentRepository의 save 메서드에 의해 저장된다.
-			verify(commentRepository, times(1)).save(any(Comment.class));
-			verify(debateRepository, times(1)).findDebateByIdForUpdate(debateId);
+			ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+			verify(commentRepository, times(1)).save(captor.capture());
+			verify(debateRepository, times(1)).findById(debateId);
 			verify(memberRepository, times(1)).findById(memberId);
 			verify(applicationEventPublisher, times(1)).publishEvent(any(NewCommentEvent.class));
 
 			assertThat(debate.getComments()).isNotEmpty();
+			// 댓글에는 발급된 sequence가 부여된다.
+			assertThat(captor.getValue().getSequence()).isEqualTo(1);
 			// 댓글을 작성하고 나면 debate의 종료 예상 시간이 댓글 작성 시점을 기준으로 토론 기간이 연장된다.
-			assertThat(debate.getEndAt()).isEqualTo(commentedAt.plusMinutes(Debate.DEBATE_EXTENSION_DURATION_MINUTE));
-			// 댓글을 작성하고 나면 debate의 commentSequence가 1 증가한다.
-			assertThat(debate.getCommentSequence()).isEqualTo(2);
+			verify(commentSequenceAllocator, times(1))
+				.allocate(debateId, commentedAt.plusMinutes(Debate.DEBATE_EXTENSION_DURATION_MINUTE));
 		}
 	}
 
@@ -107,16 +114,15 @@ class DebateServiceCommentTest {
 			mockedLocalDateTime.when(LocalDateTime::now).thenReturn(commentedAt);
 
 			when(memberRepository.findById(memberId)).thenReturn(Optional.of(commenter));
-			when(debateRepository.findDebateByIdForUpdate(debateId)).thenReturn(Optional.of(debate));
+			when(debateRepository.findById(debateId)).thenReturn(Optional.of(debate));
 
 			// when
 			debateService.addComment(commentRequest, debateId, memberId);
 
 			// then
 			// 토론의 최대 지속시간은 7일이다.
-			assertThat(debate.getEndAt()).isEqualTo(createdAt.plusMinutes(Debate.DEBATE_LIMIT_DURATION_MINUTE));
-			assertThat(debate.getEndAt())
-				.isNotEqualTo(commentedAt.plusMinutes(Debate.DEBATE_EXTENSION_DURATION_MINUTE));
+			verify(commentSequenceAllocator, times(1))
+				.allocate(debateId, createdAt.plusMinutes(Debate.DEBATE_LIMIT_DURATION_MINUTE));
 		}
 	}
 
@@ -133,13 +139,40 @@ class DebateServiceCommentTest {
 		Debate debate = TestFixtureGenerator.debate(debateId, null, DebateStatus.CLOSED, endAt, 1);
 
 		// when
-		when(debateRepository.findDebateByIdForUpdate(debateId)).thenReturn(Optional.of(debate));
+		when(debateRepository.findById(debateId)).thenReturn(Optional.of(debate));
 
 		// then
 		// 이미 닫힌 토론에는 댓글을 작성할 수 없다.
 		assertThatThrownBy(() -> debateService.addComment(commentRequest, debateId, memberId))
 			.isInstanceOf(BaseException.class)
 			.hasMessage("이미 닫힌 토론에 대한 댓글 작성요청입니다. Debate ID: " + debateId);
+		verify(commentSequenceAllocator, never()).allocate(any(), any());
+	}
+
+	@Test
+	@DisplayName("조회 이후 닫힌 토론에 댓글")
+	void addCommentInDebateClosedAfterRead() {
+		// given
+		CommentRequest commentRequest = CommentRequest.of("댓글 내용1");
+		LocalDateTime createdAt = LocalDateTime.now();
+
+		Long debateId = 1L;
+		Long memberId = 2L;
+		Member commenter = TestFixtureGenerator.member(memberId, "commenter1");
+		Debate debate = TestFixtureGenerator.debate(debateId, null, DebateStatus.OPEN, createdAt, 1, createdAt);
+
+		when(debateRepository.findById(debateId)).thenReturn(Optional.of(debate));
+		when(memberRepository.findById(memberId)).thenReturn(Optional.of(commenter));
+		when(commentSequenceAllocator.allocate(eq(debateId), any()))
+			.thenThrow(new BaseException("이미 닫힌 토론에 대한 댓글 작성요청입니다. Debate ID: " + debateId));
+
+		// when
+
+		// then
+		// sequence를 발급하는 시점에 토론이 닫혀있다면 댓글은 저장되지 않는다.
+		assertThatThrownBy(() -> debateService.addComment(commentRequest, debateId, memberId))
+			.isInstanceOf(BaseException.class);
+		verify(commentRepository, never()).save(any());
 	}
 
 	@Test
@@ -270,7 +303,7 @@ class DebateServiceCommentTest {
 		Member commenter = TestFixtureGenerator.member(2L, "commenter");
 
 		when(memberRepository.findById(commenter.getId())).thenReturn(Optional.of(commenter));
-		when(debateRepository.findDebateByIdForUpdate(debate.getId())).thenReturn(Optional.of(debate));
+		when(debateRepository.findById(debate.getId())).thenReturn(Optional.of(debate));
 
 		//when
 		debateService.addComment(commentRequest, debate.getId(), commenter.getId());
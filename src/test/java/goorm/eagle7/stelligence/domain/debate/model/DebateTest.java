@@ -24,8 +24,8 @@ class DebateTest {
 
 		Debate debate = TestFixtureGenerator.debate(
 			1L, null, DebateStatus.CLOSED, LocalDateTime.now(), 1, LocalDateTime.now());
-		Comment comment1 = Comment.createComment("댓글1", debate, commenter1);
-		Comment comment2 = Comment.createComment("댓글1", debate, commenter2);
+		Comment comment1 = Comment.createComment("댓글1", debate, commenter1, 1);
+		Comment comment2 = Comment.createComment("댓글1", debate, commenter2, 2);
 
 		//when
 		boolean commenter1HasPermission = debate.hasPermissionToWriteDrivenContribute(commenter1.getId());
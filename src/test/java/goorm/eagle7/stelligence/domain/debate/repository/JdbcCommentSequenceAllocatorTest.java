@@ -0,0 +1,89 @@
+package goorm.eagle7.stelligence.domain.debate.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcCommentSequenceAllocatorTest {
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	@DisplayName("증가되기 이전의 comment_sequence를 발급한다.")
+	void allocate() {
+		//given
+		JdbcCommentSequenceAllocator allocator = new JdbcCommentSequenceAllocator(jdbcTemplate, transactionManager,
+			1000);
+		LocalDateTime endAt = LocalDateTime.of(2024, 1, 14, 1, 0);
+
+		when(jdbcTemplate.update(anyString(), eq(endAt), eq(1L))).thenReturn(1);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(3L);
+
+		//when
+		int sequence = allocator.allocate(1L, endAt);
+
+		//then
+		assertThat(sequence).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("종료 시각은 주기마다 한 번만 함께 갱신한다.")
+	void coalesceEndAt() {
+		//given
+		JdbcCommentSequenceAllocator allocator = new JdbcCommentSequenceAllocator(jdbcTemplate, transactionManager,
+			60_000);
+		LocalDateTime endAt = LocalDateTime.of(2024, 1, 14, 1, 0);
+
+		when(jdbcTemplate.update(contains("end_at"), eq(endAt), eq(1L))).thenReturn(1);
+		when(jdbcTemplate.update(anyString(), eq(1L))).thenReturn(1);
+		when(jdbcTemplate.update(contains("end_at"), eq(endAt), eq(2L))).thenReturn(1);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(2L, 3L, 4L, 2L);
+
+		//when
+		allocator.allocate(1L, endAt);
+		allocator.allocate(1L, endAt);
+		allocator.allocate(1L, endAt);
+		allocator.allocate(2L, endAt);
+
+		//then
+		//같은 토론은 주기 안에서 처음 한 번만 종료 시각을 갱신하고, 다른 토론은 따로 갱신한다.
+		verify(jdbcTemplate, times(1)).update(contains("end_at"), eq(endAt), eq(1L));
+		verify(jdbcTemplate, times(2)).update(anyString(), eq(1L));
+		verify(jdbcTemplate, times(1)).update(contains("end_at"), eq(endAt), eq(2L));
+	}
+
+	@Test
+	@DisplayName("열린 토론이 아니라면 예외가 발생한다.")
+	void allocateInClosedDebate() {
+		//given
+		JdbcCommentSequenceAllocator allocator = new JdbcCommentSequenceAllocator(jdbcTemplate, transactionManager,
+			1000);
+		LocalDateTime endAt = LocalDateTime.of(2024, 1, 14, 1, 0);
+
+		when(jdbcTemplate.update(anyString(), eq(endAt), eq(1L))).thenReturn(0);
+
+		//when
+
+		//then
+		assertThatThrownBy(() -> allocator.allocate(1L, endAt))
+			.isInstanceOf(BaseException.class)
+			.hasMessage("이미 닫힌 토론에 대한 댓글 작성요청입니다. Debate ID: 1");
+		verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+	}
+}
@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.document;
 
 import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Optional;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.cache.DocumentReadCounter;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
 import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
@@ -39,6 +41,9 @@ class DocumentServiceTest {
 	@Mock
 	private DocumentRequestValidator documentRequestValidator;
 
+	@Mock
+	private DocumentReadCounter documentReadCounter;
+
 	@InjectMocks
 	private DocumentService documentService;
 
@@ -83,6 +88,7 @@ class DocumentServiceTest {
 
 		//then
 		verify(documentContentService, times(1)).getDocument(1L);
+		verify(documentReadCounter, times(1)).record(1L);
 	}
 
 	@Test
@@ -93,6 +99,7 @@ class DocumentServiceTest {
 
 		//then
 		verify(documentContentService, times(1)).getDocument(1L, 1L);
+		verify(documentReadCounter, never()).record(anyLong());
 	}
 
 	@Test
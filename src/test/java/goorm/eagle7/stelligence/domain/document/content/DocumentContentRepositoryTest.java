@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 
 @DataJpaTest
@@ -98,4 +100,21 @@ class DocumentContentRepositoryTest {
 		assertThat(expired7Count).isEqualTo(1);
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("문서 버전 정보에 작성자와 기여자의 수정 시각 포함")
+	void findVersionById() {
+		// given
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+		List<Member> contributors = documentContentRepository.findContributorsByDocumentId(1L);
+
+		// when
+		DocumentVersion version = documentContentRepository.findVersionById(1L).orElseThrow();
+
+		// then
+		// 응답을 만들 때 조회한 문서와 기여자로부터 계산한 버전 정보와 같아야 한다.
+		assertThat(version).isEqualTo(DocumentVersion.of(document, contributors));
+		assertThat(version.authorUpdatedAt()).isNotNull();
+		assertThat(version.contributorsUpdatedAt()).isNotNull();
+	}
+
+}
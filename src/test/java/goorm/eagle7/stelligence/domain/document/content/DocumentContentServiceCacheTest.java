@@ -0,0 +1,115 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goorm.eagle7.stelligence.config.TestConfig;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+
+/**
+ * 문서 조회 캐시가 실제 스프링 컨텍스트에서 동작하는지 확인합니다.
+ *
+ * <p>캐시의 삭제와 저장이 바로 반영되어야 하므로 테스트 메서드에 트랜잭션을 적용하지 않습니다.
+ * Redis에 이전 실행의 값이 남아있을 수 있으므로 각 테스트 전후로 캐시를 삭제합니다.
+ */
+@SpringBootTest
+@Import(TestConfig.class)
+class DocumentContentServiceCacheTest {
+
+	private static final Long DOCUMENT_ID = 1L;
+
+	@Autowired
+	DocumentContentService documentContentService;
+
+	@Autowired
+	CacheManager cacheManager;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	Cache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = cacheManager.getCache("document");
+		cache.evict(DOCUMENT_ID);
+	}
+
+	@AfterEach
+	void tearDown() {
+		cache.evict(DOCUMENT_ID);
+	}
+
+	@Test
+	@DisplayName("두 번째 조회는 캐시에 저장된 문서를 반환")
+	void getDocumentFromCache() {
+		//when
+		DocumentResponse first = documentContentService.getDocument(DOCUMENT_ID);
+		DocumentResponse second = documentContentService.getDocument(DOCUMENT_ID);
+
+		//then
+		//캐시를 거치지 않았다면 조회할 때마다 새로운 응답 객체가 생성됩니다.
+		assertThat(second).isSameAs(first);
+		assertThat(cache.get(DOCUMENT_ID, DocumentResponse.class)).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("캐시가 삭제되면 다시 DB에서 조회")
+	void getDocumentAfterEvict() {
+		//given
+		DocumentResponse first = documentContentService.getDocument(DOCUMENT_ID);
+
+		//when
+		cache.evict(DOCUMENT_ID);
+		DocumentResponse second = documentContentService.getDocument(DOCUMENT_ID);
+
+		//then
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getDocumentId()).isEqualTo(first.getDocumentId());
+		assertThat(second.getLatestRevision()).isEqualTo(first.getLatestRevision());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 저장한 캐시는 커밋 이후에 반영")
+	void putAfterCommit() {
+		//given
+		DocumentResponse loaded = documentContentService.loadLatestDocument(DOCUMENT_ID);
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> {
+			cache.put(DOCUMENT_ID, loaded);
+
+			//커밋 이전에는 캐시에 반영되지 않습니다.
+			assertThat(cache.get(DOCUMENT_ID)).isNull();
+		});
+
+		//then
+		assertThat(documentContentService.getDocument(DOCUMENT_ID)).isSameAs(loaded);
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션에서 저장한 캐시는 반영되지 않음")
+	void putIgnoredOnRollback() {
+		//given
+		DocumentResponse loaded = documentContentService.loadLatestDocument(DOCUMENT_ID);
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> {
+			cache.put(DOCUMENT_ID, loaded);
+			status.setRollbackOnly();
+		});
+
+		//then
+		assertThat(cache.get(DOCUMENT_ID)).isNull();
+	}
+}
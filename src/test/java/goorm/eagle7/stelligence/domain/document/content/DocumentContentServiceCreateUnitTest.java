@@ -24,6 +24,7 @@ import goorm.eagle7.stelligence.domain.document.content.parser.DocumentParser;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
 
 /**
  * DocumentService를 테스트합니다.
@@ -68,17 +69,22 @@ class DocumentContentServiceCreateUnitTest {
 		sectionRequests.add(new SectionRequest(Heading.H2, "title2", "content2 line 1\ncontent2 line 2\n"));
 
 		//when
-		when(policyFactory.sanitize(rawContent)).thenReturn(rawContent);
-		when(documentParser.parse(rawContent)).thenReturn(sectionRequests);
+		when(documentParser.sanitizeAndParse(rawContent, policyFactory)).thenReturn(sectionRequests);
+		when(sectionIdGenerator.allocate(2)).thenReturn(List.of(1L, 2L));
 		Document document = documentContentService.createDocument(title, rawContent, null, author);
 
 		//then
 
 		//각각의 모듈이 정상적으로 호출되었는지 확인
 		verify(documentContentRepository, times(1)).save(any());
-		verify(sectionRepository, times(2)).save(any());
-		verify(sectionIdGenerator, times(2)).getAndIncrementSectionId();
-		verify(documentParser, times(1)).parse(rawContent);
+		//섹션과 프로젝션은 batch insert로 한 번에 저장되어야 한다.
+		verify(sectionRepository, times(1)).insertSections(argThat(sections -> sections.size() == 2));
+		verify(sectionRepository, times(1)).insertDocumentHeadSections(argThat(sections -> sections.size() == 2));
+		verify(sectionRepository, never()).save(any());
+		//섹션의 개수만큼 ID를 한 번에 할당받아야 한다.
+		verify(sectionIdGenerator, times(1)).allocate(2);
+		verify(sectionIdGenerator, never()).getAndIncrementSectionId();
+		verify(documentParser, times(1)).sanitizeAndParse(rawContent, policyFactory);
 
 		//document의 값이 정상적으로 들어갔는지 확인
 		assertThat(document.getTitle()).isEqualTo(title);
@@ -90,8 +96,8 @@ class DocumentContentServiceCreateUnitTest {
 		//section의 값이 정상적으로 들어갔는지 확인
 		assertThat(document.getSections().get(0).getHeading()).isEqualTo(Heading.H1);
 		assertThat(document.getSections().get(1).getTitle()).isEqualTo("title2");
-		assertThat(document.getSections().get(0).getOrder()).isEqualTo(1);
-		assertThat(document.getSections().get(1).getOrder()).isEqualTo(2);
+		assertThat(document.getSections().get(0).getOrder()).isEqualTo(Section.ORDER_GAP);
+		assertThat(document.getSections().get(1).getOrder()).isEqualTo(2 * Section.ORDER_GAP);
 	}
 
 	@Test
@@ -111,10 +117,10 @@ class DocumentContentServiceCreateUnitTest {
 		sectionRequests.add(new SectionRequest(Heading.H2, "title2", "content2 line 1\ncontent2 line 2\n"));
 
 		//when
-		when(policyFactory.sanitize(rawContent)).thenReturn(rawContent);
-		when(documentParser.parse(rawContent)).thenReturn(sectionRequests);
+		when(documentParser.sanitizeAndParse(rawContent, policyFactory)).thenReturn(sectionRequests);
 		when(documentContentRepository.findById(2L)).thenReturn(
 			Optional.of(parent));
+		when(sectionIdGenerator.allocate(2)).thenReturn(List.of(1L, 2L));
 		Document document = documentContentService.createDocument(title, rawContent, 2L, author);
 
 		//then
@@ -122,4 +128,25 @@ class DocumentContentServiceCreateUnitTest {
 		assertThat(document.getParentDocument()).isEqualTo(parent);
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("문서 생성 - 제목이 없는 본문 - 섹션 없이 성공")
+	void createDocumentWithoutHeading() {
+		//given
+		String rawContent = "<p>hi</p>";
+		Member author = member(1L, "nickname");
+
+		//제목이 없는 본문은 섹션으로 나누어지지 않는다.
+		when(documentParser.sanitizeAndParse(rawContent, policyFactory)).thenReturn(List.of());
+
+		//when
+		Document document = documentContentService.createDocument("title", rawContent, null, author);
+
+		//then
+		assertThat(document.getSections()).isEmpty();
+		verify(documentContentRepository, times(1)).save(any());
+		//ID를 할당받거나 빈 batch insert를 수행하지 않아야 한다.
+		verify(sectionIdGenerator, never()).allocate(anyInt());
+		verify(sectionRepository, never()).insertSections(any());
+		verify(sectionRepository, never()).insertDocumentHeadSections(any());
+	}
+}
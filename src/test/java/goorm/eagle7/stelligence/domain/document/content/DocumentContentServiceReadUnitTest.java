@@ -12,17 +12,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
+import goorm.eagle7.stelligence.domain.document.content.cache.DocumentRevisionCache;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentSimpleResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.search.DocumentKeywordIndex;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class DocumentContentServiceReadUnitTest {
@@ -39,6 +43,12 @@ class DocumentContentServiceReadUnitTest {
 	@Mock
 	DebateRepository debateRepository;
 
+	@Mock
+	DocumentKeywordIndex documentKeywordIndex;
+
+	@Spy
+	DocumentRevisionCache documentRevisionCache = new DocumentRevisionCache(new SimpleMeterRegistry(), 10, 60);
+
 	@InjectMocks
 	DocumentContentService documentContentService;
 
@@ -56,10 +66,10 @@ class DocumentContentServiceReadUnitTest {
 
 		//then
 
-		//최신버전을 찾아 호출해야한다.
-		//원래는 getDocument(1L, 3L)을 검증하는게 맞지만, documentContentService는 모킹 대상이 아니므로 오류가 발생
-		//따라서 이후 호출되는 findByVersion을 통해 검증함
-		verify(sectionRepository).findByVersion(document, 3L);
+		//최신버전은 DocumentHeadSection 프로젝션을 통해 조회해야 한다.
+		//max(revision) 서브쿼리를 사용하는 findByVersion은 호출되지 않아야 한다.
+		verify(sectionRepository).findLatestByDocumentId(1L);
+		verify(sectionRepository, never()).findByVersion(any(), any());
 
 		//최신버전의 문서를 조회했으므로, 현재 버전은 3이어야 한다.
 		assertThat(documentResponse.getCurrentRevision()).isEqualTo(3L);
@@ -113,6 +123,28 @@ class DocumentContentServiceReadUnitTest {
 		assertThat(documentResponse.getLatestRevision()).isEqualTo(4L);
 	}
 
+	@Test
+	@DisplayName("문서 조회 - 특정버전 - 같은 버전은 섹션을 다시 조회하지 않음")
+	void getDocumentByVersionCached() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 4L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
+
+		when(documentContentRepository.findById(1L))
+			.thenReturn(Optional.of(document));
+		when(sectionRepository.findByVersion(document, 3L))
+			.thenReturn(List.of(s1));
+
+		//when
+		documentContentService.getDocument(1L, 3L);
+		DocumentResponse documentResponse = documentContentService.getDocument(1L, 3L);
+
+		//then
+		verify(sectionRepository, times(1)).findByVersion(document, 3L);
+		assertThat(documentResponse.getSections()).hasSize(1);
+		assertThat(documentResponse.getLatestRevision()).isEqualTo(4L);
+	}
+
 	@Test
 	@DisplayName("문서 조회 - 특정버전 - 문서가 없는 경우")
 	void getDocumentByVersionFailNoDocument() {
@@ -147,6 +179,58 @@ class DocumentContentServiceReadUnitTest {
 	@DisplayName("특정 내용을 담고 있는 문서의 ID 목록 조회")
 	void getDocumentIdWhichContainsKeywordInLatestVersionSuccess() {
 		//given
+		when(documentKeywordIndex.isReady()).thenReturn(true);
+		when(documentKeywordIndex.search("keyword"))
+			.thenReturn(List.of(1L, 2L, 3L));
+		when(sectionRepository.findLatestDocumentIdsContaining(List.of(1L, 2L, 3L), "keyword"))
+			.thenReturn(List.of(3L, 1L, 2L));
+
+		//when
+		List<Long> documentIds = documentContentService.findDocumentWhichContainsKeyword("keyword");
+		//then
+		assertThat(documentIds).hasSize(3).containsExactly(1L, 2L, 3L);
+		verify(documentContentRepository, never()).findDocumentIdWhichContainsKeywordInLatestVersion(any());
+	}
+
+	@Test
+	@DisplayName("특정 내용을 담고 있는 문서의 ID 목록 조회 - 검색어를 연속해서 포함하지 않는 문서는 제외")
+	void getDocumentIdWhichContainsKeywordExcludesFalsePositive() {
+		//given
+		when(documentKeywordIndex.isReady()).thenReturn(true);
+		when(documentKeywordIndex.search("별자리"))
+			.thenReturn(List.of(2L, 1L));
+		//2번 문서는 "별자"와 "자리"를 모두 포함하지만 "별자리"는 포함하지 않는다.
+		when(sectionRepository.findLatestDocumentIdsContaining(List.of(2L, 1L), "별자리"))
+			.thenReturn(List.of(1L));
+
+		//when
+		List<Long> documentIds = documentContentService.findDocumentWhichContainsKeyword("별자리");
+
+		//then
+		assertThat(documentIds).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("특정 내용을 담고 있는 문서의 ID 목록 조회 - 두 글자 이하의 검색어는 본문을 확인하지 않음")
+	void getDocumentIdWhichContainsShortKeywordWithoutVerification() {
+		//given
+		when(documentKeywordIndex.isReady()).thenReturn(true);
+		when(documentKeywordIndex.search("은하"))
+			.thenReturn(List.of(1L, 2L));
+
+		//when
+		List<Long> documentIds = documentContentService.findDocumentWhichContainsKeyword("은하");
+
+		//then
+		assertThat(documentIds).containsExactly(1L, 2L);
+		verify(sectionRepository, never()).findLatestDocumentIdsContaining(any(), any());
+	}
+
+	@Test
+	@DisplayName("특정 내용을 담고 있는 문서의 ID 목록 조회 - 색인이 준비되지 않은 경우")
+	void getDocumentIdWhichContainsKeywordBeforeIndexReady() {
+		//given
+		when(documentKeywordIndex.isReady()).thenReturn(false);
 		when(documentContentRepository.findDocumentIdWhichContainsKeywordInLatestVersion("keyword"))
 			.thenReturn(List.of(1L, 2L, 3L));
 
@@ -167,7 +251,7 @@ class DocumentContentServiceReadUnitTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
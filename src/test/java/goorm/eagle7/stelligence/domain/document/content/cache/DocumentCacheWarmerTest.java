@@ -0,0 +1,95 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentCacheWarmerTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	CacheManager cacheManager;
+
+	@Mock
+	DocumentContentService documentContentService;
+
+	@Mock
+	DocumentReadCounter documentReadCounter;
+
+	@InjectMocks
+	DocumentCacheWarmer documentCacheWarmer;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(documentCacheWarmer, "topN", 10);
+		ReflectionTestUtils.setField(documentCacheWarmer, "bucketMinutes", 60L);
+		ReflectionTestUtils.setField(documentCacheWarmer, "windowBuckets", 3);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@Test
+	@DisplayName("조회 횟수는 현재 구간에 합산하고, 최근 구간들만 합쳐 인기 문서 목록을 만든다.")
+	void refreshWithBuckets() {
+		//given
+		when(documentReadCounter.drain()).thenReturn(Map.of(1L, 5L));
+
+		//when
+		documentCacheWarmer.refresh();
+
+		//then
+		ArgumentCaptor<String> bucketKey = ArgumentCaptor.forClass(String.class);
+		verify(zSetOperations).incrementScore(bucketKey.capture(), eq("1"), eq(5.0));
+		assertThat(bucketKey.getValue()).startsWith(DocumentCacheWarmer.BUCKET_KEY_PREFIX);
+		verify(redisTemplate).expire(bucketKey.getValue(), Duration.ofMinutes(60 * 4));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<String>> otherKeys = ArgumentCaptor.forClass(Collection.class);
+		verify(zSetOperations).unionAndStore(eq(bucketKey.getValue()), otherKeys.capture(),
+			eq(DocumentCacheWarmer.READ_COUNT_KEY));
+
+		long currentBucket = Long.parseLong(
+			bucketKey.getValue().substring(DocumentCacheWarmer.BUCKET_KEY_PREFIX.length()));
+		assertThat(otherKeys.getValue()).containsExactly(
+			DocumentCacheWarmer.BUCKET_KEY_PREFIX + (currentBucket - 1),
+			DocumentCacheWarmer.BUCKET_KEY_PREFIX + (currentBucket - 2)
+		);
+	}
+
+	@Test
+	@DisplayName("새로운 조회가 없더라도 오래된 구간이 빠지도록 다시 합친다.")
+	void refreshWithoutReads() {
+		//given
+		when(documentReadCounter.drain()).thenReturn(Map.of());
+
+		//when
+		documentCacheWarmer.refresh();
+
+		//then
+		verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+		verify(zSetOperations).unionAndStore(anyString(), anyCollection(), eq(DocumentCacheWarmer.READ_COUNT_KEY));
+	}
+}
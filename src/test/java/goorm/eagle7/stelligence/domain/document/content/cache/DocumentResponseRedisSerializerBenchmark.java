@@ -0,0 +1,121 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+/**
+ * 문서 캐시의 값을 직렬화하는 방식별로 저장 크기와 직렬화, 역직렬화 비용을 비교하는 JMH 벤치마크입니다.
+ * 기존에 사용하던 {@link GenericJackson2JsonRedisSerializer}(json)와 {@link DocumentResponseRedisSerializer}(binary)를 비교합니다.
+ *
+ * <p>섹션마다 약 300자의 본문을 가진 문서를 사용합니다. 직렬화된 값의 크기는 bytes, 직렬화한 횟수는 values 보조 지표로 출력되며,
+ * bytes / values가 Redis에 저장되는 값 하나의 크기입니다.
+ * 테스트 실행 시에는 수행되지 않으며, main 메서드를 직접 실행하여 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentResponseRedisSerializerBenchmark {
+
+	@Param({"5", "50", "200"})
+	int sectionCount;
+
+	private final DocumentResponseRedisSerializer binarySerializer = new DocumentResponseRedisSerializer();
+	private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+	private DocumentResponse document;
+	private byte[] binary;
+	private byte[] json;
+
+	@Setup
+	public void setUp() {
+		List<SectionResponse> sections = new ArrayList<>(sectionCount);
+		for (int i = 1; i <= sectionCount; i++) {
+			sections.add(SectionResponse.of((long)i, 1L, Heading.values()[i % 3], "제목" + i,
+				"<p>섹션 " + i + "의 내용입니다. 문서의 본문은 여러 문단으로 구성됩니다.</p>".repeat(8)));
+		}
+
+		document = DocumentResponse.of(1L, "문서 제목", null, null, 3L, 3L, null, sections,
+			MemberSimpleResponse.of(1L, "author", "https://example.com/profile.png"),
+			List.of(MemberSimpleResponse.of(2L, "contributor", null)), null);
+
+		binary = binarySerializer.serialize(document);
+		json = jsonSerializer.serialize(document);
+	}
+
+	@Benchmark
+	public byte[] serializeBinary(SerializedSize size) {
+		return size.record(binarySerializer.serialize(document));
+	}
+
+	@Benchmark
+	public byte[] serializeJson(SerializedSize size) {
+		return size.record(jsonSerializer.serialize(document));
+	}
+
+	@Benchmark
+	public DocumentResponse deserializeBinary() {
+		return binarySerializer.deserialize(binary);
+	}
+
+	@Benchmark
+	public Object deserializeJson() {
+		return jsonSerializer.deserialize(json);
+	}
+
+	/**
+	 * 직렬화된 값의 크기를 집계합니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class SerializedSize {
+
+		public long bytes;
+		public long values;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+			values = 0;
+		}
+
+		byte[] record(byte[] serialized) {
+			bytes += serialized.length;
+			values++;
+			return serialized;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(DocumentResponseRedisSerializerBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
@@ -0,0 +1,80 @@
+package goorm.eagle7.stelligence.domain.document.content.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentVersion;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class DocumentResponseRedisSerializerTest {
+
+	DocumentResponseRedisSerializer serializer = new DocumentResponseRedisSerializer();
+
+	@Test
+	@DisplayName("직렬화 후 역직렬화하면 같은 값으로 복원")
+	void roundTrip() {
+		DocumentResponse original = documentResponse(3, LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6));
+
+		DocumentResponse restored = serializer.deserialize(serializer.serialize(original));
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+	}
+
+	@Test
+	@DisplayName("큰 문서도 압축하여 저장하고 복원")
+	void roundTripCompressed() {
+		DocumentResponse original = documentResponse(200, null);
+
+		byte[] bytes = serializer.serialize(original);
+		DocumentResponse restored = serializer.deserialize(bytes);
+
+		assertThat(bytes.length).isLessThan(original.getContent().length());
+		assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+	}
+
+	@Test
+	@DisplayName("형식이 다른 값은 캐시 미스로 처리")
+	void unknownFormat() {
+		byte[] json = new GenericJackson2JsonRedisSerializer().serialize(documentResponse(1, null));
+
+		assertThat(serializer.deserialize(json)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	@DisplayName("JSON 직렬화보다 저장 크기가 작음")
+	void smallerThanJson() {
+		DocumentResponse document = documentResponse(50, null);
+
+		int jsonSize = new GenericJackson2JsonRedisSerializer().serialize(document).length;
+		int binarySize = serializer.serialize(document).length;
+		log.info("json: {}bytes, binary: {}bytes", jsonSize, binarySize);
+
+		assertThat(binarySize).isLessThan(jsonSize / 2);
+	}
+
+	private static DocumentResponse documentResponse(int sectionCount, LocalDateTime lastModifiedAt) {
+		List<SectionResponse> sections = new ArrayList<>();
+		for (int i = 1; i <= sectionCount; i++) {
+			sections.add(SectionResponse.of((long)i, 1L, Heading.values()[i % 3], "제목" + i,
+				"<p>섹션 " + i + "의 내용입니다. 문서의 본문은 여러 문단으로 구성됩니다.</p>".repeat(5)));
+		}
+
+		return DocumentResponse.of(1L, "문서 제목", null, null, 3L, 3L, lastModifiedAt, sections,
+			MemberSimpleResponse.of(1L, "author", "https://example.com/profile.png"),
+			List.of(MemberSimpleResponse.of(2L, "contributor", null)),
+			new DocumentVersion(3L, lastModifiedAt, null, LocalDateTime.of(2024, 1, 1, 0, 0), lastModifiedAt));
+	}
+}
@@ -0,0 +1,103 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.owasp.html.PolicyFactory;
+
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
+
+/**
+ * 문서 파싱 방식별 성능을 비교하는 JMH 벤치마크입니다.
+ * 섹션마다 약 64KB의 내용을 가진 문서를 사용합니다.
+ *
+ * <p>테스트 실행 시에는 수행되지 않으며, main 메서드를 직접 실행하여 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagDocumentParserBenchmark {
+
+	// 기존에 사용하던 정규식입니다.
+	private static final Pattern REGEX = Pattern.compile(
+		"(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+
+	private static final int SECTION_CONTENT_SIZE = 64 * 1024;
+
+	@Param({"1", "8", "32"})
+	int sectionCount;
+
+	private final TagDocumentParser parser = new TagDocumentParser();
+	private final PolicyFactory policyFactory = new HtmlPolicyConfig().htmlPolicyBuilder();
+
+	private String rawContent;
+	private String sanitizedContent;
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder(sectionCount * (SECTION_CONTENT_SIZE + 64));
+		for (int i = 1; i <= sectionCount; i++) {
+			int level = i % 3 + 1;
+			sb.append("<h").append(level).append(">제목 ").append(i).append("</h").append(level).append('>');
+			int sectionEnd = sb.length() + SECTION_CONTENT_SIZE;
+			while (sb.length() < sectionEnd) {
+				sb.append("<p>섹션 ").append(i)
+					.append("의 <b>내용</b>입니다. <a href=\"https://example.com\">링크</a>와 <code>코드</code>를 포함합니다.</p>");
+			}
+		}
+		rawContent = sb.toString();
+		sanitizedContent = policyFactory.sanitize(rawContent);
+	}
+
+	@Benchmark
+	public int regex() {
+		Matcher matcher = REGEX.matcher(sanitizedContent);
+		List<String> contents = new ArrayList<>();
+		while (matcher.find()) {
+			contents.add(matcher.group(4).trim());
+		}
+		return contents.size();
+	}
+
+	@Benchmark
+	public int linearParse() {
+		return parser.parse(sanitizedContent).size();
+	}
+
+	@Benchmark
+	public int sanitizeThenParse() {
+		return parser.parse(policyFactory.sanitize(rawContent)).size();
+	}
+
+	@Benchmark
+	public int sanitizeAndParse() {
+		return parser.sanitizeAndParse(rawContent, policyFactory).size();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(TagDocumentParserBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
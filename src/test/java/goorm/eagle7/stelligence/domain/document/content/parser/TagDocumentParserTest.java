@@ -2,13 +2,19 @@ package goorm.eagle7.stelligence.domain.document.content.parser;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.owasp.html.PolicyFactory;
+
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
 
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
@@ -131,4 +137,79 @@ class TagDocumentParserTest {
 		assertThat(result.get(5).getHeading()).isEqualTo(Heading.H3);
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("닫히지 않은 heading tag는 섹션으로 인정하지 않음")
+	void unclosedHeadingTag() {
+		String rawContent =
+			"<h1>title"
+				+ "<h2>title2</h2>"
+				+ "<p>content2</p>"
+				+ "<h3>title3</h2>"
+				+ "<p>content3</p>";
+
+		//when
+		List<SectionRequest> result = tagDocumentParser.parse(rawContent);
+
+		//then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getTitle()).isEqualTo("title2");
+		assertThat(result.get(0).getContent()).isEqualTo("<p>content2</p>");
+	}
+
+	@Test
+	@DisplayName("기존 정규식과 같은 결과를 반환")
+	void sameAsRegex() {
+		Pattern regex = Pattern.compile("(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+		List<String> documents = List.of(
+			"",
+			"no heading",
+			"<h1></h1>",
+			"<h1>a</h1> \n <p>b</p>\n",
+			"<h1>a<h2>b</h2>c</h1>d<h2>e</h2>",
+			"<h1>a</h2><h2>b</h1><h1>c</h1>",
+			"<h7>a</h7><h1 class=\"x\">b</h1><h1>c</h1><hr><h",
+			"<h1>" + "<p>x</p>".repeat(1000) + "</h1>" + "<h2>y</h2>".repeat(100)
+		);
+
+		for (String document : documents) {
+			List<SectionRequest> expected = new ArrayList<>();
+			Matcher matcher = regex.matcher(document);
+			while (matcher.find()) {
+				String level = Integer.parseInt(matcher.group(2)) > 3 ? "3" : matcher.group(2);
+				expected.add(new SectionRequest(Heading.valueOf("H" + level), matcher.group(3),
+					matcher.group(4).trim()));
+			}
+
+			assertThat(tagDocumentParser.parse(document))
+				.as(document)
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("정화와 파싱을 한 번에 수행해도 정화 후 파싱한 결과와 같음")
+	void sanitizeAndParse() {
+		PolicyFactory policyFactory = new HtmlPolicyConfig().htmlPolicyBuilder();
+		List<String> documents = List.of(
+			"",
+			"intro<h1>title</h1><p>content</p><h2>title2</h2><p>content2</p>",
+			"<h1>a<script>alert(1)</script></h1><p onclick=\"x()\">b</p><h4>c</h4>d",
+			"<h1 style=\"color:red\">a</h1>  <p>b</p>  <H2>c</H2><div><h3>d</h3>e</div>",
+			"<h1>a<h2>b</h2>c</h1>d",
+			"<h1>unclosed<p>content",
+			"<h1>&lt;h2&gt;escaped&lt;/h2&gt;</h1><a href=\"javascript:x()\">link</a>"
+				+ "<a href=\"https://example.com\" target=\"_blank\">link</a><img src=\"a.png\" alt=\"a\">"
+		);
+
+		for (String document : documents) {
+			List<SectionRequest> expected = tagDocumentParser.parse(policyFactory.sanitize(document));
+
+			assertThat(tagDocumentParser.sanitizeAndParse(document, policyFactory))
+				.as(document)
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyElementsOf(expected);
+		}
+	}
+}
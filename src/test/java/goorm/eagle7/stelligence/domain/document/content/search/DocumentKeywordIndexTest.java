@@ -0,0 +1,104 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DocumentKeywordIndexTest {
+
+	DocumentKeywordIndex documentKeywordIndex = new DocumentKeywordIndex();
+
+	@Test
+	@DisplayName("한국어 본문의 어절 일부로 검색할 수 있다.")
+	void searchKorean() {
+		//given
+		documentKeywordIndex.index(1L, 1L, List.of("<p>오리온자리는 겨울철 별자리입니다.</p>"));
+		documentKeywordIndex.index(2L, 1L, List.of("<p>태양은 항성입니다.</p>"));
+
+		//when
+		List<Long> result = documentKeywordIndex.search("별자리");
+
+		//then
+		assertThat(result).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("HTML 태그는 색인하지 않는다.")
+	void ignoreTags() {
+		//given
+		documentKeywordIndex.index(1L, 1L, List.of("<strong>content</strong>"));
+
+		//when
+		//then
+		assertThat(documentKeywordIndex.search("strong")).isEmpty();
+		assertThat(documentKeywordIndex.search("content")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("검색어가 많이 등장하는 문서가 먼저 조회된다.")
+	void ranking() {
+		//given
+		documentKeywordIndex.index(1L, 1L, List.of("<p>은하</p>"));
+		documentKeywordIndex.index(2L, 1L, List.of("<p>은하 은하</p>", "<p>우리은하</p>"));
+
+		//when
+		List<Long> result = documentKeywordIndex.search("은하");
+
+		//then
+		assertThat(result).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("문서를 다시 색인하면 이전 본문은 검색되지 않는다.")
+	void reindex() {
+		//given
+		documentKeywordIndex.index(1L, 1L, List.of("<p>혜성</p>"));
+
+		//when
+		documentKeywordIndex.index(1L, 2L, List.of("<p>유성</p>"));
+
+		//then
+		assertThat(documentKeywordIndex.search("혜성")).isEmpty();
+		assertThat(documentKeywordIndex.search("유성")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("더 최신 버전으로 색인된 문서는 이전 버전의 본문으로 교체하지 않는다.")
+	void ignoreOlderRevision() {
+		//given
+		documentKeywordIndex.index(1L, 3L, List.of("<p>유성</p>"));
+
+		//when
+		boolean indexed = documentKeywordIndex.index(1L, 2L, List.of("<p>혜성</p>"));
+
+		//then
+		assertThat(indexed).isFalse();
+		assertThat(documentKeywordIndex.search("혜성")).isEmpty();
+		assertThat(documentKeywordIndex.search("유성")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("검색어가 비어있다면 색인된 모든 문서를 조회한다.")
+	void emptyKeyword() {
+		//given
+		documentKeywordIndex.index(2L, 1L, List.of("<p>b</p>"));
+		documentKeywordIndex.index(1L, 1L, List.of("<p>a</p>"));
+
+		//when
+		//then
+		assertThat(documentKeywordIndex.search("")).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("세 글자 이상의 어절만 본문과 비교하여 검색어를 연속해서 포함하는지 확인한다.")
+	void verifyLongKeyword() {
+		//when
+		//then
+		assertThat(NGramTokenizer.wordsToVerify("별자리")).containsExactly("별자리");
+		assertThat(NGramTokenizer.wordsToVerify("별 은하")).isEmpty();
+		assertThat(NGramTokenizer.wordsToVerify("Orion 은하 orion")).containsExactly("orion");
+	}
+}
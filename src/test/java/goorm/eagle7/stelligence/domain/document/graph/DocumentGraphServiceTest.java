@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.graph.cache.DocumentGraphCache;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.HasChildRelationshipResponse;
@@ -37,15 +38,19 @@ class DocumentGraphServiceTest {
 	DocumentNodeRepository documentNodeRepository;
 	@Autowired
 	Neo4jClient neo4jClient;
+	@Autowired
+	DocumentGraphCache documentGraphCache;
 
 	/**
 	 * 현재 neo4j 상태와 관계없이 테스트 코드가 잘 동작하도록 noe4j를 초기화합니다.
 	 * 테스트가 끝난 이후 롤백되면서 기존에 있던 데이터에는 영향을 주지 않습니다.
+	 * 테스트 데이터는 서비스를 거치지 않고 저장되므로, 메모리의 그래프도 다시 적재하도록 합니다.
 	 */
 	@BeforeEach
 	void setupClearNeo4j() {
 		String clearQuery = "match (n) detach delete n;";
 		neo4jClient.query(clearQuery).run();
+		documentGraphCache.invalidate();
 	}
 
 	@Test
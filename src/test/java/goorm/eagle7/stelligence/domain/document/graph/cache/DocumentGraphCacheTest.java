@@ -0,0 +1,102 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.domain.document.graph.DocumentNodeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentGraphCacheTest {
+
+	@Mock
+	DocumentNodeRepository documentNodeRepository;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	ValueOperations<String, String> valueOperations;
+
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Mock
+	ObjectMapper objectMapper;
+
+	@InjectMocks
+	DocumentGraphCache documentGraphCache;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(documentNodeRepository.findAllGraphRow()).thenReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("한 주기가 지나도록 Redis의 버전을 따라잡지 못하면 그래프를 다시 적재한다.")
+	void reloadWhenDeltaLost() {
+		//given
+		when(valueOperations.get(anyString())).thenReturn("3");
+		assertThat(documentGraphCache.getVersion()).isEqualTo(3L);
+
+		//when
+		//버전 4의 변경사항이 아직 도착하지 않았을 수 있으므로 곧바로 다시 적재하지 않는다.
+		when(valueOperations.get(anyString())).thenReturn("4");
+		documentGraphCache.checkVersion();
+		assertThat(documentGraphCache.getVersion()).isEqualTo(3L);
+
+		//다음 확인까지 반영되지 않았다면 유실된 것으로 본다.
+		documentGraphCache.checkVersion();
+
+		//then
+		assertThat(documentGraphCache.getVersion()).isEqualTo(4L);
+		verify(documentNodeRepository, times(2)).findAllGraphRow();
+	}
+
+	@Test
+	@DisplayName("Redis의 버전과 같다면 그래프를 다시 적재하지 않는다.")
+	void keepWhenUpToDate() {
+		//given
+		when(valueOperations.get(anyString())).thenReturn("3");
+		documentGraphCache.getVersion();
+
+		//when
+		documentGraphCache.checkVersion();
+		documentGraphCache.checkVersion();
+
+		//then
+		assertThat(documentGraphCache.getVersion()).isEqualTo(3L);
+		verify(documentNodeRepository, times(1)).findAllGraphRow();
+	}
+
+	@Test
+	@DisplayName("Redis의 버전이 로컬 그래프보다 작다면 그래프를 다시 적재한다.")
+	void reloadWhenRedisReset() {
+		//given
+		when(valueOperations.get(anyString())).thenReturn("3");
+		documentGraphCache.getVersion();
+
+		//when
+		when(valueOperations.get(anyString())).thenReturn(null);
+		documentGraphCache.checkVersion();
+
+		//then
+		assertThat(documentGraphCache.getVersion()).isZero();
+		verify(documentNodeRepository, times(2)).findAllGraphRow();
+	}
+}
@@ -0,0 +1,80 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
+
+class DocumentGraphEncoderTest {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	DocumentGraphCache documentGraphCache;
+	DocumentGraphEncoder documentGraphEncoder;
+	InMemoryDocumentGraph graph;
+
+	@BeforeEach
+	void setUp() {
+		graph = new InMemoryDocumentGraph();
+		graph.load(List.of(
+			DocumentGraphRow.of(1L, "title1", "title1", null, null),
+			DocumentGraphRow.of(11L, "title11", "title1", 1L, 100L),
+			DocumentGraphRow.of(2L, "title2", "title2", null, null)
+		), 7L);
+
+		documentGraphCache = mock(DocumentGraphCache.class);
+		when(documentGraphCache.snapshot()).thenAnswer(invocation -> graph.snapshot());
+		documentGraphEncoder = new DocumentGraphEncoder(documentGraphCache, objectMapper);
+	}
+
+	@Test
+	@DisplayName("그룹은 사전으로, 노드는 열 단위 배열로 직렬화")
+	void encodeColumnar() throws IOException {
+		EncodedDocumentGraph encoded = documentGraphEncoder.encodeAll();
+
+		JsonNode results = objectMapper.readTree(encoded.json()).get("results");
+		assertThat(encoded.version()).isEqualTo(7L);
+		assertThat(results.get("version").asLong()).isEqualTo(7L);
+		assertThat(results.get("groups")).hasSize(2);
+		assertThat(results.get("documentIds").toString()).isEqualTo("[1,2,11]");
+		assertThat(results.get("groupIndexes").toString()).isEqualTo("[0,1,0]");
+		assertThat(results.get("parentDocumentIds").toString()).isEqualTo("[-1,-1,1]");
+		assertThat(results.get("linkIds").toString()).isEqualTo("[-1,-1,100]");
+	}
+
+	@Test
+	@DisplayName("압축된 본문은 원본 본문과 같음")
+	void gzip() throws IOException {
+		EncodedDocumentGraph encoded = documentGraphEncoder.encodeAll();
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+			assertThat(in.readAllBytes()).isEqualTo(encoded.json());
+		}
+	}
+
+	@Test
+	@DisplayName("그래프가 변경되기 전까지 직렬화한 결과를 재사용")
+	void reuseUntilChanged() {
+		EncodedDocumentGraph first = documentGraphEncoder.encodeAll();
+		EncodedDocumentGraph second = documentGraphEncoder.encodeAll();
+
+		graph.apply(new DocumentGraphDelta(8L, List.of(DocumentGraphRow.of(3L, "title3", "title3", null, null)),
+			List.of()));
+		EncodedDocumentGraph third = documentGraphEncoder.encodeAll();
+
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotSameAs(first);
+		assertThat(third.version()).isEqualTo(8L);
+	}
+}
@@ -0,0 +1,115 @@
+package goorm.eagle7.stelligence.domain.document.graph.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphRow;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
+import goorm.eagle7.stelligence.domain.document.graph.dto.HasChildRelationshipResponse;
+
+class InMemoryDocumentGraphTest {
+
+	InMemoryDocumentGraph graph;
+
+	/**
+	 * 1 - 11 - 111
+	 *   - 12
+	 * 2
+	 */
+	@BeforeEach
+	void setUp() {
+		graph = new InMemoryDocumentGraph();
+		graph.load(List.of(
+			DocumentGraphRow.of(1L, "title1", "title1", null, null),
+			DocumentGraphRow.of(11L, "title11", "title1", 1L, 100L),
+			DocumentGraphRow.of(12L, "title12", "title1", 1L, 101L),
+			DocumentGraphRow.of(111L, "title111", "title1", 11L, 102L),
+			DocumentGraphRow.of(2L, "title2", "title2", null, null)
+		), 3L);
+	}
+
+	@Test
+	@DisplayName("전체 그래프 조회")
+	void findAll() {
+		DocumentGraphResponse response = graph.findAll();
+
+		assertThat(response.getDocumentNodes()).extracting(DocumentNodeResponse::getDocumentId)
+			.containsExactly(1L, 2L, 11L, 12L, 111L);
+		assertThat(response.getLinks()).extracting(HasChildRelationshipResponse::getLinkId)
+			.containsExactlyInAnyOrder(100L, 101L, 102L);
+
+		// 변경이 없다면 같은 응답을 재사용
+		assertThat(graph.findAll()).isSameAs(response);
+	}
+
+	@Test
+	@DisplayName("최상위 문서로부터 깊이 제한 조회")
+	void findFromRoots() {
+		DocumentGraphResponse depth0 = graph.findFromRoots(0);
+		DocumentGraphResponse depth1 = graph.findFromRoots(1);
+
+		assertThat(depth0.getDocumentNodes()).extracting(DocumentNodeResponse::getDocumentId)
+			.containsExactly(1L, 2L);
+		assertThat(depth0.getLinks()).isEmpty();
+		assertThat(depth1.getDocumentNodes()).extracting(DocumentNodeResponse::getDocumentId)
+			.containsExactly(1L, 2L, 11L, 12L);
+		assertThat(depth1.getLinks()).extracting(HasChildRelationshipResponse::getLinkId)
+			.containsExactly(100L, 101L);
+	}
+
+	@Test
+	@DisplayName("특정 문서로부터 깊이 제한 조회")
+	void find() {
+		assertThat(graph.find(11L, 99).getDocumentNodes()).extracting(DocumentNodeResponse::getDocumentId)
+			.containsExactly(11L, 111L);
+		assertThat(graph.find(-1L, 99).getDocumentNodes()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다음 버전의 변경사항 반영")
+	void applyNextVersion() {
+		DocumentGraphResponse before = graph.findAll();
+
+		// 11번 노드 삭제 -> 111번 노드가 1번 노드에 직접 연결
+		boolean applied = graph.apply(new DocumentGraphDelta(4L,
+			List.of(DocumentGraphRow.of(111L, "title111", "title1", 1L, 103L)),
+			List.of(11L)));
+
+		assertThat(applied).isTrue();
+		assertThat(graph.getVersion()).isEqualTo(4L);
+		assertThat(graph.findAll()).isNotSameAs(before);
+		assertThat(graph.find(1L, 1).getDocumentNodes()).extracting(DocumentNodeResponse::getDocumentId)
+			.containsExactly(1L, 12L, 111L);
+		assertThat(graph.find(11L, 1).getDocumentNodes()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이미 반영된 버전의 변경사항은 무시")
+	void ignoreOldVersion() {
+		boolean applied = graph.apply(new DocumentGraphDelta(3L,
+			List.of(DocumentGraphRow.of(3L, "title3", "title3", null, null)),
+			List.of()));
+
+		assertThat(applied).isTrue();
+		assertThat(graph.find(3L, 0).getDocumentNodes()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("버전이 누락되면 반영하지 않고 다시 적재해야 하는 상태가 됨")
+	void versionGap() {
+		boolean applied = graph.apply(new DocumentGraphDelta(5L,
+			List.of(DocumentGraphRow.of(3L, "title3", "title3", null, null)),
+			List.of()));
+
+		assertThat(applied).isFalse();
+		assertThat(graph.isFresh()).isFalse();
+		assertThat(graph.getVersion()).isEqualTo(3L);
+		assertThat(graph.find(3L, 0).getDocumentNodes()).isEmpty();
+	}
+}
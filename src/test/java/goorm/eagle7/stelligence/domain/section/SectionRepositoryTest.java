@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.section;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import goorm.eagle7.stelligence.domain.section.dto.SectionContent;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
 @DataJpaTest
@@ -36,4 +38,83 @@ class SectionRepositoryTest {
 
 		assertThat(latestSection).isEmpty();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("최신 버전 섹션 조회 - 삭제된 섹션은 제외")
+	void findLatestByDocumentId() {
+		List<Section> sections = sectionRepository.findLatestByDocumentId(1L);
+
+		//1번 문서의 최신 버전은 (2,2) (3,1) (13,2)로 구성된다. (1번 섹션은 3번 버전에서 삭제됨)
+		assertThat(sections)
+			.extracting(Section::getId, Section::getRevision)
+			.containsExactlyInAnyOrder(
+				tuple(2L, 2L),
+				tuple(3L, 1L),
+				tuple(13L, 2L)
+			);
+	}
+
+	@Test
+	@DisplayName("여러 문서의 최신 버전 본문 조회 - 삭제된 섹션은 제외")
+	void findLatestContentsByDocumentIdIn() {
+		List<SectionContent> contents = sectionRepository.findLatestContentsByDocumentIdIn(List.of(1L, 3L));
+
+		//1번 문서의 최신 버전은 (2,2) (3,1) (13,2)로 구성된다. (1번 섹션은 3번 버전에서 삭제됨)
+		assertThat(contents)
+			.extracting(SectionContent::documentId)
+			.containsExactlyInAnyOrder(1L, 1L, 1L, 3L, 3L, 3L);
+		assertThat(contents)
+			.extracting(SectionContent::content)
+			.anyMatch(content -> content.startsWith("document1_content2_update"))
+			.noneMatch(content -> content.startsWith("document1_content1"));
+	}
+
+	@Test
+	@DisplayName("후보 문서 중 최신 버전 본문에 문자열을 포함하는 문서 조회")
+	void findLatestDocumentIdsContaining() {
+		//1번 문서의 1번 섹션은 삭제되었고, 2번 섹션은 수정되었으므로 이전 본문으로는 조회되지 않는다.
+		assertThat(sectionRepository.findLatestDocumentIdsContaining(List.of(1L, 2L, 3L), "content2_update"))
+			.containsExactly(1L);
+		assertThat(sectionRepository.findLatestDocumentIdsContaining(List.of(1L, 2L, 3L), "content1"))
+			.containsExactlyInAnyOrder(2L, 3L);
+		//후보가 아닌 문서는 조회되지 않는다.
+		assertThat(sectionRepository.findLatestDocumentIdsContaining(List.of(1L), "document4"))
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("여러 섹션의 최신 버전 한 번에 조회 - 존재하지 않는 섹션은 제외")
+	void findLatestSections() {
+		List<Section> sections = sectionRepository.findLatestSections(List.of(1L, 2L, 9999999L));
+
+		//1번 섹션은 3번 버전에서 삭제되었으나, findLatestSection과 같이 최신 버전을 그대로 조회한다.
+		assertThat(sections)
+			.extracting(Section::getId, Section::getRevision)
+			.containsExactlyInAnyOrder(
+				tuple(1L, 3L),
+				tuple(2L, 2L)
+			);
+	}
+
+	@Test
+	@DisplayName("병합된 섹션 저장 후 최신 버전 프로젝션 일괄 갱신")
+	void updateDocumentHeadSections() {
+		//given
+		Section section = sectionRepository.findLatestSection(3L).orElseThrow();
+		Section merged = Section.createSection(section.getDocument(), 3L, 4L, section.getHeading(), "new title",
+			"new content", section.getOrder());
+
+		//when
+		sectionRepository.insertSections(List.of(merged));
+		sectionRepository.updateDocumentHeadSections(List.of(merged));
+
+		//then
+		assertThat(sectionRepository.findLatestByDocumentId(1L))
+			.extracting(Section::getId, Section::getRevision)
+			.containsExactlyInAnyOrder(
+				tuple(2L, 2L),
+				tuple(3L, 4L),
+				tuple(13L, 2L)
+			);
+	}
+}
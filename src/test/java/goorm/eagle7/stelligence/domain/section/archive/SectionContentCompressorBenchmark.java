@@ -0,0 +1,146 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 과거 revision의 섹션 본문을 압축하여 저장할 때 저장 크기와 조회 비용을 비교하는 JMH 벤치마크입니다.
+ *
+ * <p>plain은 압축하지 않은 본문을, archived는 {@link SectionHistoryArchiver}가 압축한 본문을
+ * {@link SectionContentConverter}로 조회하는 비용입니다. archive는 본문 하나를 압축하는 비용입니다.
+ *
+ * <p>본문은 HtmlSanitizer를 거친 문단과 목록으로 구성되며, 같은 문장이 반복되지 않도록 단어를 임의로 조합합니다.
+ * 컬럼에 저장되는 값의 UTF-8 크기는 bytes, 조회한 본문의 수는 rows 보조 지표로 출력되며,
+ * bytes / rows가 section 테이블에 저장되는 본문 하나의 크기입니다.
+ * 테스트 실행 시에는 수행되지 않으며, main 메서드를 직접 실행하여 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionContentCompressorBenchmark {
+
+	private static final String[] WORDS = {
+		"별은", "스스로", "빛을", "내는", "천체입니다", "은하는", "수많은", "항성과", "성간", "물질로", "이루어져", "있으며",
+		"중력에", "의해", "묶여", "있습니다", "태양계는", "우리은하의", "나선팔", "중", "하나에", "위치합니다", "관측", "결과",
+		"적색편이는", "우주가", "팽창하고", "있음을", "보여줍니다", "the", "main", "sequence", "nebula", "2024년", "약", "광년"
+	};
+
+	/**
+	 * 본문의 대략적인 길이(문자 수)
+	 */
+	@Param({"512", "2048", "8192", "32768"})
+	int contentLength;
+
+	private final SectionContentConverter converter = new SectionContentConverter();
+
+	private String plain;
+	private String archived;
+	private long plainBytes;
+	private long archivedBytes;
+
+	@Setup
+	public void setUp() {
+		plain = content(contentLength, new Random(contentLength));
+		archived = SectionContentCompressor.compress(plain);
+		plainBytes = plain.getBytes(UTF_8).length;
+		archivedBytes = archived.getBytes(UTF_8).length;
+	}
+
+	@Benchmark
+	public String readPlain(StoredSize size) {
+		size.record(plainBytes);
+		return converter.convertToEntityAttribute(plain);
+	}
+
+	@Benchmark
+	public String readArchived(StoredSize size) {
+		size.record(archivedBytes);
+		return converter.convertToEntityAttribute(archived);
+	}
+
+	@Benchmark
+	public String archive() {
+		return SectionContentCompressor.compress(plain);
+	}
+
+	/**
+	 * 문단과 목록으로 구성된 length 이상의 길이를 가진 본문을 만듭니다. 마지막 문단도 닫힌 태그로 끝납니다.
+	 */
+	private static String content(int length, Random random) {
+		StringBuilder content = new StringBuilder(length + 256);
+		while (content.length() < length) {
+			if (random.nextInt(4) == 0) {
+				content.append("<ul>");
+				for (int i = 0; i < 3; i++) {
+					content.append("<li>").append(sentence(random, 6)).append("</li>");
+				}
+				content.append("</ul>");
+			} else {
+				content.append("<p>").append(sentence(random, 12 + random.nextInt(20))).append("</p>");
+			}
+		}
+		return content.toString();
+	}
+
+	private static String sentence(Random random, int wordCount) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			if (i > 0) {
+				sentence.append(' ');
+			}
+			sentence.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sentence.append('.').toString();
+	}
+
+	/**
+	 * 조회한 본문의 수와 저장된 크기를 집계합니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class StoredSize {
+
+		public long bytes;
+		public long rows;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+			rows = 0;
+		}
+
+		void record(long stored) {
+			bytes += stored;
+			rows++;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(SectionContentCompressorBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
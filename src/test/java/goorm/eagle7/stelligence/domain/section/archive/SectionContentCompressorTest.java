@@ -0,0 +1,47 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SectionContentCompressorTest {
+
+	@Test
+	@DisplayName("압축한 본문을 복원하면 원문과 같다.")
+	void compressAndDecompress() {
+		String content = "<p>별은 스스로 빛을 내는 천체입니다.</p>".repeat(50);
+
+		String compressed = SectionContentCompressor.compress(content);
+
+		assertThat(SectionContentCompressor.isCompressed(compressed)).isTrue();
+		assertThat(compressed.length()).isLessThan(content.length());
+		assertThat(SectionContentCompressor.decompress(compressed)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("짧은 본문은 압축하지 않는다.")
+	void shortContent() {
+		String content = "<p>짧은 본문</p>";
+
+		assertThat(SectionContentCompressor.compress(content)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("압축되지 않은 본문과 null은 그대로 복원된다.")
+	void decompressPlain() {
+		String content = "<p>압축되지 않은 본문</p>";
+
+		assertThat(SectionContentCompressor.decompress(content)).isEqualTo(content);
+		assertThat(SectionContentCompressor.decompress(null)).isNull();
+		assertThat(SectionContentCompressor.compress(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("이미 압축된 본문은 다시 압축하지 않는다.")
+	void compressTwice() {
+		String compressed = SectionContentCompressor.compress("a".repeat(1000));
+
+		assertThat(SectionContentCompressor.compress(compressed)).isEqualTo(compressed);
+	}
+}
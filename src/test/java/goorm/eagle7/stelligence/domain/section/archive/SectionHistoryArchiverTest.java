@@ -0,0 +1,69 @@
+package goorm.eagle7.stelligence.domain.section.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SectionHistoryArchiverTest {
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	SectionHistoryArchiver sectionHistoryArchiver;
+
+	@Test
+	@DisplayName("압축하지 않은 본문도 처리되었다고 표시한다.")
+	void markShortContent() throws Exception {
+		//given
+		ReflectionTestUtils.setField(sectionHistoryArchiver, "batchSize", 10);
+		String longContent = "<p>별은 스스로 빛을 내는 천체입니다.</p>".repeat(50);
+		ResultSet shortRow = row(1L, 1L, "<p>짧은 본문</p>");
+		ResultSet longRow = row(1L, 2L, longContent);
+
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(0L), eq(0L), eq(0L), eq(10)))
+			.thenAnswer(invocation -> {
+				RowMapper<?> rowMapper = invocation.getArgument(1);
+				return List.of(rowMapper.mapRow(shortRow, 0), rowMapper.mapRow(longRow, 1));
+			});
+
+		//when
+		sectionHistoryArchiver.archive();
+
+		//then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+
+		List<Object[]> parameters = captor.getValue();
+		assertThat(parameters).hasSize(2);
+		// 짧은 본문은 원문을 유지한 채로 처리 표시만 남긴다.
+		assertThat(parameters.get(0)).containsExactly(null, 1L, 1L);
+		// 긴 본문은 압축된 본문으로 교체한다.
+		assertThat(SectionContentCompressor.isCompressed((String)parameters.get(1)[0])).isTrue();
+		assertThat(parameters.get(1)).endsWith(1L, 2L);
+	}
+
+	private static ResultSet row(long sectionId, long revision, String content) throws Exception {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("section_id")).thenReturn(sectionId);
+		when(resultSet.getLong("revision")).thenReturn(revision);
+		when(resultSet.getString("content")).thenReturn(content);
+		return resultSet;
+	}
+}
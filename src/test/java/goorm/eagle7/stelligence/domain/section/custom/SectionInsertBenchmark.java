@@ -0,0 +1,201 @@
+package goorm.eagle7.stelligence.domain.section.custom;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+
+/**
+ * 문서를 생성할 때 섹션과 최신 버전 프로젝션을 저장하는 방식별로 수행되는 문장의 수와 비용을 비교하는 JMH 벤치마크입니다.
+ *
+ * <p>merge는 복합키를 직접 할당하는 엔티티를 save로 저장할 때 Hibernate가 수행하는 방식으로,
+ * 섹션과 프로젝션마다 SELECT 이후 INSERT를 수행합니다. batch는 {@link CustomSectionRepositoryImpl}의 batch insert를 사용합니다.
+ *
+ * <p>DB에 전달된 문장의 수는 statements, 생성한 문서의 수는 documents 보조 지표로 출력되며,
+ * statements / documents가 문서 하나를 생성할 때 수행되는 문장의 수입니다.
+ * 메모리에서 동작하는 H2를 사용하므로 네트워크 왕복 비용은 포함되지 않습니다.
+ * 테스트 실행 시에는 수행되지 않으며, main 메서드를 직접 실행하여 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionInsertBenchmark {
+
+	private static final String SELECT_SECTION_SQL = "SELECT COUNT(*) FROM section WHERE revision = ? AND section_id = ?";
+	private static final String INSERT_SECTION_SQL = "INSERT INTO section (section_id, revision, document_id, heading, title, content, orders, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+	private static final String SELECT_DOCUMENT_HEAD_SECTION_SQL = "SELECT COUNT(*) FROM document_head_section WHERE section_id = ?";
+	private static final String INSERT_DOCUMENT_HEAD_SECTION_SQL = "INSERT INTO document_head_section (section_id, document_id, revision) VALUES (?, ?, ?)";
+
+	@Param({"8", "32", "128"})
+	int sectionCount;
+
+	private final AtomicLong statementCounter = new AtomicLong();
+
+	private JdbcTemplate jdbcTemplate;
+	private CustomSectionRepositoryImpl sectionRepository;
+
+	private long nextDocumentId;
+	private long nextSectionId;
+
+	@Setup
+	public void setUp() {
+		//트랜잭션 안에서 저장하는 것처럼 하나의 커넥션을 재사용합니다.
+		DataSource dataSource = new SingleConnectionDataSource(
+			"jdbc:h2:mem:section-insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+		jdbcTemplate = new JdbcTemplate(countingDataSource(dataSource, statementCounter));
+		sectionRepository = new CustomSectionRepositoryImpl(jdbcTemplate);
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS section");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS document_head_section");
+		jdbcTemplate.execute("CREATE TABLE section (section_id BIGINT NOT NULL, revision BIGINT NOT NULL, "
+			+ "document_id BIGINT, heading VARCHAR(2), title VARCHAR(100), content TEXT, orders INTEGER NOT NULL, "
+			+ "created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL, PRIMARY KEY (revision, section_id))");
+		jdbcTemplate.execute("CREATE TABLE document_head_section (section_id BIGINT NOT NULL, "
+			+ "document_id BIGINT NOT NULL, revision BIGINT NOT NULL, PRIMARY KEY (section_id))");
+	}
+
+	@Setup(Level.Iteration)
+	public void clear() {
+		jdbcTemplate.execute("TRUNCATE TABLE section");
+		jdbcTemplate.execute("TRUNCATE TABLE document_head_section");
+	}
+
+	@Benchmark
+	public void merge(Statements statements) {
+		List<Section> sections = newDocumentSections();
+		long before = statementCounter.get();
+
+		// save()는 섹션이 이미 존재하는지 조회한 뒤 저장합니다.
+		for (Section section : sections) {
+			jdbcTemplate.queryForObject(SELECT_SECTION_SQL, Long.class, section.getRevision(), section.getId());
+			jdbcTemplate.update(INSERT_SECTION_SQL, section.getId(), section.getRevision(),
+				section.getDocument().getId(), section.getHeading().name(), section.getTitle(), section.getContent(),
+				section.getOrder());
+		}
+		for (Section section : sections) {
+			jdbcTemplate.queryForObject(SELECT_DOCUMENT_HEAD_SECTION_SQL, Long.class, section.getId());
+			jdbcTemplate.update(INSERT_DOCUMENT_HEAD_SECTION_SQL, section.getId(), section.getDocument().getId(),
+				section.getRevision());
+		}
+
+		statements.record(statementCounter.get() - before);
+	}
+
+	@Benchmark
+	public void batch(Statements statements) {
+		List<Section> sections = newDocumentSections();
+		long before = statementCounter.get();
+
+		sectionRepository.insertSections(sections);
+		sectionRepository.insertDocumentHeadSections(sections);
+
+		statements.record(statementCounter.get() - before);
+	}
+
+	/**
+	 * 새로운 문서와 sectionCount개의 섹션을 생성합니다. 호출마다 서로 다른 ID를 사용합니다.
+	 */
+	private List<Section> newDocumentSections() {
+		Document document = document(++nextDocumentId, null, "title", 1L);
+		List<Section> sections = new ArrayList<>(sectionCount);
+		for (int order = 1; order <= sectionCount; order++) {
+			sections.add(section(++nextSectionId, 1L, document, Heading.H2, "title" + order,
+				"<p>섹션의 내용입니다.</p>", order * Section.ORDER_GAP));
+		}
+		return sections;
+	}
+
+	/**
+	 * 실행된 Statement의 수를 세는 DataSource를 만듭니다.
+	 * batch는 executeBatch 한 번을 하나의 문장으로 셉니다.
+	 */
+	private static DataSource countingDataSource(DataSource target, AtomicLong counter) {
+		return proxy(DataSource.class, target, counter);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object target, AtomicLong counter) {
+		InvocationHandler handler = (p, method, args) -> {
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+			Class<?> returnType = method.getReturnType();
+			if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+				counter.incrementAndGet();
+			} else if (result != null && returnType.isInterface()
+				&& (returnType == Connection.class || Statement.class.isAssignableFrom(returnType))) {
+				return proxy(returnType, result, counter);
+			}
+			return result;
+		};
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+	}
+
+	/**
+	 * 생성한 문서의 수와 수행된 문장의 수를 집계합니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Statements {
+
+		public long statements;
+		public long documents;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			statements = 0;
+			documents = 0;
+		}
+
+		void record(long executed) {
+			statements += executed;
+			documents++;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(SectionInsertBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
@@ -0,0 +1,74 @@
+package goorm.eagle7.stelligence.domain.section.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+
+@ExtendWith(MockitoExtension.class)
+class SectionOrderRebalancerTest {
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	@DisplayName("순서를 ORDER_GAP 간격으로 재배치")
+	void rebalancedOrders() {
+		assertThat(SectionOrderRebalancer.rebalancedOrders(3))
+			.containsExactly(Section.ORDER_GAP, 2 * Section.ORDER_GAP, 3 * Section.ORDER_GAP);
+	}
+
+	@Test
+	@DisplayName("순서 값이 많아 int 범위를 넘는 경우 범위 안에서 균등하게 재배치")
+	void rebalancedOrdersWithinRange() {
+		int count = Integer.MAX_VALUE / Section.ORDER_GAP + 10;
+
+		int[] orders = SectionOrderRebalancer.rebalancedOrders(count);
+
+		boolean increasing = orders[0] > 0;
+		for (int i = 1; i < count; i++) {
+			increasing &= orders[i] > orders[i - 1];
+		}
+		assertThat(increasing).isTrue();
+	}
+
+	@Test
+	@DisplayName("바뀌는 순서만 음수로 옮긴 뒤 한 번에 되돌림")
+	void rebalance() {
+		//given
+		SectionOrderRebalancer rebalancer = new SectionOrderRebalancer(jdbcTemplate, transactionManager, 16, 100);
+
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(16), eq(100))).thenReturn(List.of(1L));
+		when(jdbcTemplate.update(startsWith("UPDATE document"), eq(1L))).thenReturn(1);
+		when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1L)))
+			.thenReturn(List.of(1, 2, 3 * Section.ORDER_GAP));
+
+		//when
+		rebalancer.rebalance();
+
+		//then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+		assertThat(captor.getValue()).containsExactly(
+			new Object[] {-Section.ORDER_GAP, 1L, 1},
+			new Object[] {-2 * Section.ORDER_GAP, 1L, 2}
+		);
+		verify(jdbcTemplate).update(startsWith("UPDATE section"), eq(1L));
+	}
+}
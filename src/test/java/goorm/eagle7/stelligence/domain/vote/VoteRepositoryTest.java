@@ -0,0 +1,48 @@
+package goorm.eagle7.stelligence.domain.vote;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+
+@DataJpaTest
+class VoteRepositoryTest {
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Test
+	@DisplayName("찬성, 반대 표의 개수를 집계한다.")
+	void getVoteSummary() {
+		VoteSummary voteSummary = voteRepository.getVoteSummary(5L);
+
+		assertThat(voteSummary.getAgreeCount()).isEqualTo(3);
+		assertThat(voteSummary.getDisagreeCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("투표가 없는 경우 0표로 집계한다.")
+	void getVoteSummaryNoVotes() {
+		VoteSummary voteSummary = voteRepository.getVoteSummary(1L);
+
+		assertThat(voteSummary.getAgreeCount()).isZero();
+		assertThat(voteSummary.getDisagreeCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("여러 수정요청의 투표 현황을 한 번에 집계한다.")
+	void getVoteSummaries() {
+		Map<Long, VoteSummary> voteSummaries = voteRepository.getVoteSummaries(List.of(1L, 5L, 9L));
+
+		assertThat(voteSummaries).containsOnlyKeys(5L, 9L);
+		assertThat(voteSummaries.get(9L).getAgreeCount()).isEqualTo(2);
+		assertThat(voteSummaries.get(9L).getDisagreeCount()).isEqualTo(2);
+	}
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
@@ -20,8 +21,10 @@ import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.vote.dto.VoteRequest;
 import goorm.eagle7.stelligence.domain.vote.dto.VoteSummaryResponse;
+import goorm.eagle7.stelligence.domain.vote.event.VoteChangedEvent;
 import goorm.eagle7.stelligence.domain.vote.model.Vote;
 import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+import goorm.eagle7.stelligence.domain.vote.tally.VoteTallyRepository;
 
 @ExtendWith(MockitoExtension.class)
 class VoteServiceTest {
@@ -32,6 +35,10 @@ class VoteServiceTest {
 	VoteRepository voteRepository;
 	@Mock
 	ContributeRepository contributeRepository;
+	@Mock
+	VoteTallyRepository voteTallyRepository;
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
 
 	@InjectMocks
 	VoteService voteService;
@@ -89,6 +96,35 @@ class VoteServiceTest {
 		assertThat(response.getMyVote()).isFalse();
 	}
 
+	@Test
+	@DisplayName("투표하기 - Redis에 집계가 있는 경우 DB를 조회하지 않는다")
+	void agreeToDisagreeWithTally() {
+		Long requesterId = 1L;
+		Long contributeId = 2L;
+
+		Member member = member(requesterId, "pete");
+		Contribute contribute = contribute(contributeId, member(2L, "paul"), "contributeTitle", "contributeDescription",
+			ContributeStatus.VOTING, document(1L, member(3L, "nari"), "documentTitle", 3L));
+		VoteRequest voteRequest = new VoteRequest(contributeId, false);
+		Vote vote = Vote.createVote(member, contribute, true);
+
+		//when
+		when(memberRepository.findById(requesterId)).thenReturn(Optional.of(member));
+		when(contributeRepository.findById(contributeId)).thenReturn(Optional.of(contribute));
+		when(voteRepository.findByMemberAndContribute(member, contribute)).thenReturn(Optional.of(vote));
+		when(voteTallyRepository.find(contributeId)).thenReturn(Optional.of(new VoteSummary(3, 1)));
+
+		VoteSummaryResponse response = voteService.vote(voteRequest, requesterId);
+
+		//then
+		//찬성에서 반대로 변경되었으므로 찬성 1 감소, 반대 1 증가
+		verify(voteRepository, never()).getVoteSummary(any());
+		verify(applicationEventPublisher).publishEvent(new VoteChangedEvent(contributeId, true, false));
+		assertThat(response.getAgreeCount()).isEqualTo(2);
+		assertThat(response.getDisagreeCount()).isEqualTo(2);
+		assertThat(response.getMyVote()).isFalse();
+	}
+
 	@Test
 	@DisplayName("투표 현황 조회")
 	void getVoteSummary() {
@@ -113,4 +149,25 @@ class VoteServiceTest {
 		assertThat(response.getMyVote()).isNull();
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("투표 현황 조회 - Redis에 집계가 없으면 DB에서 집계한 뒤 저장한다")
+	void getVoteSummaryWithoutTally() {
+		Long contributeId = 1L;
+
+		Contribute contribute = contribute(contributeId, member(2L, "paul"), "contributeTitle", "contributeDescription",
+			ContributeStatus.VOTING, document(1L, member(3L, "nari"), "documentTitle", 3L));
+
+		//when
+		when(contributeRepository.findById(contributeId)).thenReturn(Optional.of(contribute));
+		when(voteTallyRepository.find(contributeId)).thenReturn(Optional.empty());
+		when(voteRepository.getVoteSummary(contributeId)).thenReturn(new VoteSummary(4, 2));
+
+		VoteSummaryResponse response = voteService.getVoteSummary(contributeId, null);
+
+		//then
+		verify(voteTallyRepository).putIfAbsent(eq(contributeId), any(VoteSummary.class));
+		assertThat(response.getAgreeCount()).isEqualTo(4);
+		assertThat(response.getDisagreeCount()).isEqualTo(2);
+	}
+
+}
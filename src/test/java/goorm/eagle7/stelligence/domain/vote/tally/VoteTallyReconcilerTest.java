@@ -0,0 +1,75 @@
+package goorm.eagle7.stelligence.domain.vote.tally;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.vote.VoteRepository;
+import goorm.eagle7.stelligence.domain.vote.model.VoteSummary;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyReconcilerTest {
+
+	@Mock
+	ContributeRepository contributeRepository;
+
+	@Mock
+	VoteRepository voteRepository;
+
+	@Mock
+	VoteTallyRepository voteTallyRepository;
+
+	@InjectMocks
+	VoteTallyReconciler voteTallyReconciler;
+
+	@Test
+	@DisplayName("DB에서 집계하기 전에 조회한 버전을 기준으로 집계를 교체한다.")
+	void reconcileWithVersion() {
+		//given
+		when(contributeRepository.findVotingContributeIds()).thenReturn(List.of(1L, 2L));
+		when(voteTallyRepository.findVersion(1L)).thenReturn(OptionalLong.of(5L));
+		when(voteTallyRepository.findVersion(2L)).thenReturn(OptionalLong.of(0L));
+		when(voteRepository.getVoteSummaries(anyCollection())).thenReturn(Map.of(1L, new VoteSummary(3, 1)));
+
+		//when
+		voteTallyReconciler.reconcile();
+
+		//then
+		InOrder inOrder = inOrder(voteTallyRepository, voteRepository);
+		inOrder.verify(voteTallyRepository).findVersion(1L);
+		inOrder.verify(voteTallyRepository).findVersion(2L);
+		inOrder.verify(voteRepository).getVoteSummaries(anyCollection());
+
+		verify(voteTallyRepository).replaceIfUnchanged(eq(1L), eq(5L),
+			argThat(summary -> summary.getAgreeCount() == 3 && summary.getDisagreeCount() == 1));
+		//투표가 없는 수정요청은 0표로 교체한다.
+		verify(voteTallyRepository).replaceIfUnchanged(eq(2L), eq(0L),
+			argThat(summary -> summary.getAgreeCount() == 0 && summary.getDisagreeCount() == 0));
+	}
+
+	@Test
+	@DisplayName("Redis에 접근할 수 없다면 DB에서 집계하지 않는다.")
+	void skipWhenRedisUnavailable() {
+		//given
+		when(contributeRepository.findVotingContributeIds()).thenReturn(List.of(1L));
+		when(voteTallyRepository.findVersion(1L)).thenReturn(OptionalLong.empty());
+
+		//when
+		voteTallyReconciler.reconcile();
+
+		//then
+		verify(voteRepository, never()).getVoteSummaries(anyCollection());
+		verify(voteTallyRepository, never()).replaceIfUnchanged(anyLong(), anyLong(), any());
+	}
+}
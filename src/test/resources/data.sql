@@ -90,6 +90,13 @@ values (1, 1, 1, 'H1', 'document1_title1', 'document1_content1\n', 1, NOW(), NOW
        (11, 1, 4, 'H2', 'document4_title2', 'document4_content2\n', 2, NOW(), NOW()),
        (12, 1, 4, 'H3', 'document4_title3', 'document4_content3\n', 3, NOW(), NOW());
 
+-- 각 섹션의 최신 revision을 document_head_section에 채워 넣습니다.
+insert into document_head_section (section_id, document_id, revision)
+select s.section_id, s.document_id, max(s.revision)
+from section s
+where s.document_id is not null
+group by s.section_id, s.document_id;
+
 -- SectionId의 sequence_Id는 15부터
 INSERT into sequence_table (sequence_name, sequence_value)
 values ('section', 15);
@@ -5,6 +5,7 @@ DROP TABLE IF EXISTS contribute;
 DROP TABLE IF EXISTS member;
 DROP TABLE IF EXISTS document;
 DROP TABLE IF EXISTS section;
+DROP TABLE IF EXISTS document_head_section;
 DROP TABLE IF EXISTS amendment;
 DROP TABLE IF EXISTS vote;
 DROP TABLE IF EXISTS comment;
@@ -43,6 +44,7 @@ CREATE TABLE document
     title              VARCHAR(20) NOT NULL,
     latest_revision    BIGINT      NOT NULL,
     parent_document_id BIGINT,
+    version            BIGINT      NOT NULL DEFAULT 0,
     created_at         DATETIME(6) NOT NULL,
     updated_at         DATETIME(6) NOT NULL,
     PRIMARY KEY (document_id)
@@ -57,11 +59,20 @@ CREATE TABLE section
     title       VARCHAR(100),
     content     TEXT,
     orders      INTEGER     NOT NULL,
+    archived    TINYINT(1)  NOT NULL DEFAULT 0,
     created_at  DATETIME(6) NOT NULL,
     updated_at  DATETIME(6) NOT NULL,
     PRIMARY KEY (revision, section_id)
 );
 
+CREATE TABLE document_head_section
+(
+    section_id  BIGINT NOT NULL,
+    document_id BIGINT NOT NULL,
+    revision    BIGINT NOT NULL,
+    PRIMARY KEY (section_id)
+);
+
 CREATE TABLE contribute
 (
     contribute_id             BIGINT                                         NOT NULL auto_increment,
@@ -114,6 +125,7 @@ CREATE TABLE debate
     status           ENUM ('OPEN','CLOSED') NOT NULL,
     end_at           DATETIME(6)            NOT NULL,
     comment_sequence INTEGER                NOT NULL,
+    version          BIGINT                 NOT NULL DEFAULT 0,
     created_at       DATETIME(6)            NOT NULL,
     updated_at       DATETIME(6)            NOT NULL,
     PRIMARY KEY (debate_id)
@@ -301,7 +313,15 @@ ALTER TABLE vote
 ALTER TABLE section
     ADD INDEX index_document_document_id_and_revision (document_id, revision);
 
-# findByStatusIsVotingAndCreatedAtBetween 등에 사용 기대
+# SectionHistoryArchiver 의 처리되지 않은 과거 revision 조회에 사용 기대
+ALTER TABLE section
+    ADD INDEX index_section_archived_section_id_and_revision (archived, section_id, revision);
+
+# findLatestByDocumentId 에 사용 기대
+ALTER TABLE document_head_section
+    ADD INDEX index_document_head_section_document_id (document_id, section_id, revision);
+
+# findByStatus, findVotingContributeIds 등에 사용 기대
 ALTER TABLE contribute
     ADD INDEX index_contribute_status (status);
 